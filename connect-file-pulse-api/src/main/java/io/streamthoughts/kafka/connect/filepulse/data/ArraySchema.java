@@ -24,7 +24,7 @@ public class ArraySchema implements Schema {
     private final Type type;
     private final Schema valueSchema;
 
-    private Integer hash;
+    private Long fingerprint;
 
     /**
      * Creates a new MapSchema for the specified type.
@@ -46,6 +46,17 @@ public class ArraySchema implements Schema {
         return type;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long fingerprint() {
+        if (fingerprint == null) {
+            fingerprint = SchemaFingerprint.of(SchemaFingerprint.of(type), valueSchema().fingerprint());
+        }
+        return fingerprint;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -68,7 +79,8 @@ public class ArraySchema implements Schema {
         if (!(o instanceof ArraySchema)) return false;
         ArraySchema that = (ArraySchema) o;
         return type == that.type &&
-                Objects.equals(valueSchema, that.valueSchema);
+                fingerprint() == that.fingerprint() &&
+                Objects.equals(valueSchema(), that.valueSchema());
     }
 
     /**
@@ -76,10 +88,7 @@ public class ArraySchema implements Schema {
      */
     @Override
     public int hashCode() {
-        if (hash == null) {
-            hash = Objects.hash(type, valueSchema);
-        }
-        return hash;
+        return Long.hashCode(fingerprint());
     }
 
     /**
@@ -36,10 +36,7 @@ public class LazyArraySchema extends ArraySchema implements Schema {
     @Override
     public Schema valueSchema() {
         if (valueSchema == null) {
-            if (list.isEmpty()) {
-                throw new DataException("Cannot infer value type because LIST is empty");
-            }
-            valueSchema = SchemaSupplier.lazy(list.get(0)).get();
+            valueSchema = SchemaInference.inferElements(list);
         }
         return valueSchema;
     }
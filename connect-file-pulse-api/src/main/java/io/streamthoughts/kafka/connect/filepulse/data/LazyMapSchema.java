@@ -36,11 +36,7 @@ public class LazyMapSchema extends MapSchema implements Schema {
     @Override
     public Schema valueSchema() {
         if (valueSchema == null) {
-            if (map.isEmpty()) {
-                throw new DataException("Cannot infer value type because MAP is empty");
-            }
-            final Object peek = map.values().iterator().next();
-            valueSchema = SchemaSupplier.lazy(peek).get();
+            valueSchema = SchemaInference.inferElements(map.values());
         }
         return valueSchema;
     }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.data;
+
+import java.util.Map;
+
+/**
+ * A {@link StructSchema} whose fields are only read from a {@link TypedStruct} when they are first accessed,
+ * so that the lazy values of the struct are not resolved when it is put into another struct.
+ */
+public class LazyStructSchema extends StructSchema {
+
+    // The struct to read the fields from, released once they have been read.
+    private TypedStruct struct;
+
+    /**
+     * Creates a new LazyStructSchema for the specified struct.
+     */
+    LazyStructSchema(final TypedStruct struct) {
+        this.struct = struct;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Map<String, TypedField> fieldsByName() {
+        final Map<String, TypedField> fields = super.fieldsByName();
+        if (struct != null) {
+            for (TypedField field : struct.fields()) {
+                fields.put(field.name(), field);
+            }
+            struct = null;
+        }
+        return fields;
+    }
+}
@@ -23,7 +23,7 @@ public class MapSchema implements Schema {
 
     private final Type type;
 
-    private Integer hash;
+    private Long fingerprint;
 
     private final Schema keySchema = Schema.string();
 
@@ -53,6 +53,18 @@ public class MapSchema implements Schema {
         return type;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long fingerprint() {
+        if (fingerprint == null) {
+            final long keyed = SchemaFingerprint.of(SchemaFingerprint.of(type), keySchema.fingerprint());
+            fingerprint = SchemaFingerprint.of(keyed, valueSchema().fingerprint());
+        }
+        return fingerprint;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -75,9 +87,9 @@ public class MapSchema implements Schema {
         if (!(o instanceof MapSchema)) return false;
         MapSchema mapSchema = (MapSchema) o;
         return type == mapSchema.type &&
-                Objects.equals(hash, mapSchema.hash) &&
+                fingerprint() == mapSchema.fingerprint() &&
                 Objects.equals(keySchema, mapSchema.keySchema) &&
-                Objects.equals(valueSchema, mapSchema.valueSchema);
+                Objects.equals(valueSchema(), mapSchema.valueSchema());
     }
 
     /**
@@ -85,10 +97,7 @@ public class MapSchema implements Schema {
      */
     @Override
     public int hashCode() {
-        if (hash == null) {
-            hash = Objects.hash(type, hash, keySchema, valueSchema);
-        }
-        return hash;
+        return Long.hashCode(fingerprint());
     }
 
     /**
@@ -127,12 +127,33 @@ public interface Schema {
         return new ArraySchema(valueSchema);
     }
 
+    /**
+     * Returns the interned instance of the specified schema, i.e the same instance for all the schemas
+     * having the same structure. The returned schema must not be modified.
+     *
+     * @param schema    the {@link Schema} to intern.
+     * @return          the interned {@link Schema} instance.
+     */
+    static Schema intern(final Schema schema) {
+        return SchemaInterner.intern(schema);
+    }
+
     /**
      * Returns the {@link Type} for this schema.
      * @return the schema {@link Type}.
      */
     Type type() ;
 
+    /**
+     * Returns the 64-bit structural fingerprint of this schema, which is equal
+     * for all the schemas having the same structure.
+     *
+     * @return the schema fingerprint.
+     */
+    default long fingerprint() {
+        return SchemaFingerprint.of(type());
+    }
+
     /**
      * Maps this schema into a new type T.
      *
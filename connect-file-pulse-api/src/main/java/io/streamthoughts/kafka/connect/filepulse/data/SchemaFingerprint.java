@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.data;
+
+/**
+ * Computes the 64-bit structural fingerprints of {@link Schema} instances.
+ *
+ * Two schemas with the same structure (i.e the same types, field names and field order) always
+ * have the same fingerprint whatever their implementations (e.g eager or lazy schemas).
+ */
+final class SchemaFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SchemaFingerprint() {
+    }
+
+    /**
+     * Returns the fingerprint of a schema without nested schemas.
+     *
+     * @param type  the schema type.
+     * @return      the fingerprint.
+     */
+    static long of(final Type type) {
+        return mix(FNV_OFFSET_BASIS ^ (type.ordinal() + 1));
+    }
+
+    /**
+     * Returns the fingerprint of a schema of the specified type nested into another one.
+     *
+     * @param container the fingerprint of the container schema, e.g. {@code of(Type.ARRAY)}.
+     * @param nested    the fingerprint of the nested schema.
+     * @return          the fingerprint.
+     */
+    static long of(final long container, final long nested) {
+        return mix(container * FNV_PRIME ^ nested);
+    }
+
+    /**
+     * Returns the fingerprint of a struct schema to which the specified field is appended.
+     *
+     * @param struct    the fingerprint of the struct schema before adding the field.
+     * @param name      the field name.
+     * @param schema    the field schema.
+     * @return          the fingerprint.
+     */
+    static long withField(final long struct, final String name, final Schema schema) {
+        return of(of(struct, hash(name)), schema.fingerprint());
+    }
+
+    private static long hash(final String s) {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= FNV_PRIME;
+        }
+        // the length is mixed in so that the field names can't be confused with each other.
+        return h ^ s.length();
+    }
+
+    // finalization step of MurmurHash3 (fmix64) to spread the bits of the fingerprint.
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
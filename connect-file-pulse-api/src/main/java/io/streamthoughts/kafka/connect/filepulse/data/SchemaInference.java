@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.data;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class which is used to infer the {@link Schema} of values and to merge the schemas of the elements
+ * of arrays and maps into a single schema.
+ */
+final class SchemaInference {
+
+    private SchemaInference() {
+    }
+
+    /**
+     * Infers the schema of the specified value.
+     *
+     * @param value the value, may be {@code null}.
+     * @return      the inferred {@link Schema}, i.e {@link Schema#none()} for {@code null}.
+     */
+    static Schema infer(final Object value) {
+        if (value == null) {
+            return Schema.none();
+        }
+        final Type type = Type.forClass(value.getClass());
+        if (type == null) {
+            throw new DataException("Cannot infer schema for type " + value.getClass());
+        }
+        switch (type) {
+            case STRUCT:
+                return ((TypedStruct) value).schema();
+            case MAP:
+                return new LazyMapSchema((Map) value);
+            case ARRAY:
+                return new LazyArraySchema((List) value);
+            default:
+                return SimpleSchema.forType(type);
+        }
+    }
+
+    /**
+     * Infers a schema for all the specified values, ignoring {@code null} values.
+     * Values having different but compatible schemas are merged (e.g INTEGER and LONG values are inferred as LONG).
+     *
+     * @param values    the values (e.g the elements of an array).
+     * @return          the inferred {@link Schema} or {@link Schema#none()} if all values are {@code null}.
+     */
+    static Schema inferElements(final Collection<?> values) {
+        Schema schema = Schema.none();
+        Object last = null;
+        for (Object value : values) {
+            if (value == null || last != null && hasSameSchema(last, value)) {
+                // no need to infer the schema of a value shaped like the previous one again.
+                continue;
+            }
+            schema = merge(schema, infer(value));
+            last = value;
+        }
+        return schema;
+    }
+
+    private static boolean hasSameSchema(final Object last, final Object value) {
+        if (value.getClass() != last.getClass()) {
+            return false;
+        }
+        if (value instanceof TypedStruct) {
+            return ((TypedStruct) value).hasSameSchemaAs((TypedStruct) last);
+        }
+        return !(value instanceof Collection || value instanceof Map);
+    }
+
+    /**
+     * Checks whether the values of the specified schema are compatible with the wider one,
+     * i.e whether merging both schemas would return a schema equal to the wider one.
+     *
+     * @param wider     the wider schema.
+     * @param schema    the schema to check.
+     * @return          {@code true} if the wider schema contains the specified one.
+     */
+    static boolean contains(final Schema wider, final Schema schema) {
+        if (wider == schema || schema.type() == Type.NULL) {
+            return true;
+        }
+        if (widen(wider.type(), schema.type()) != wider.type()) {
+            return false;
+        }
+        switch (wider.type()) {
+            case STRUCT:
+                for (TypedField field : (StructSchema) schema) {
+                    final TypedField widerField = ((StructSchema) wider).field(field.name());
+                    if (widerField == null || !contains(widerField.schema(), field.schema())) {
+                        return false;
+                    }
+                }
+                return true;
+            case ARRAY:
+                return contains(((ArraySchema) wider).valueSchema(), ((ArraySchema) schema).valueSchema());
+            case MAP:
+                return contains(((MapSchema) wider).valueSchema(), ((MapSchema) schema).valueSchema());
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Merges the specified schemas into a schema which is compatible with the values of both.
+     *
+     * @param left  the left schema.
+     * @param right the right schema.
+     * @return      the merged {@link Schema}.
+     *
+     * @throws DataException if the schemas cannot be merged.
+     */
+    static Schema merge(final Schema left, final Schema right) {
+        if (left.type() == Type.NULL || left.equals(right)) {
+            return right;
+        }
+        if (right.type() == Type.NULL) {
+            return left;
+        }
+        final Type type = widen(left.type(), right.type());
+        if (type == null) {
+            throw new DataException("Cannot merge schemas with different types : " + left.type() + "<>" + right.type());
+        }
+        switch (type) {
+            case STRUCT:
+                return mergeStruct((StructSchema) left, (StructSchema) right);
+            case ARRAY:
+                return Schema.array(merge(((ArraySchema) left).valueSchema(), ((ArraySchema) right).valueSchema()));
+            case MAP:
+                return Schema.map(merge(((MapSchema) left).valueSchema(), ((MapSchema) right).valueSchema()));
+            default:
+                return SimpleSchema.forType(type);
+        }
+    }
+
+    private static StructSchema mergeStruct(final StructSchema left, final StructSchema right) {
+        final Map<String, Schema> fields = new LinkedHashMap<>();
+        left.forEach(field -> fields.put(field.name(), field.schema()));
+        right.forEach(field -> fields.merge(field.name(), field.schema(), SchemaInference::merge));
+        final StructSchema merged = Schema.struct();
+        fields.forEach(merged::field);
+        return merged;
+    }
+
+    private static Type widen(final Type left, final Type right) {
+        if (left == right) {
+            return left;
+        }
+        if (isNumeric(left) && isNumeric(right)) {
+            final boolean floating = isFloating(left) || isFloating(right);
+            final boolean wide = left == Type.LONG || right == Type.LONG || left == Type.DOUBLE || right == Type.DOUBLE;
+            if (floating) {
+                return wide ? Type.DOUBLE : Type.FLOAT;
+            }
+            return wide ? Type.LONG : Type.INTEGER;
+        }
+        return null;
+    }
+
+    private static boolean isNumeric(final Type type) {
+        return type == Type.SHORT || type == Type.INTEGER || type == Type.LONG || isFloating(type);
+    }
+
+    private static boolean isFloating(final Type type) {
+        return type == Type.FLOAT || type == Type.DOUBLE;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.data;
+
+import org.apache.kafka.common.cache.Cache;
+import org.apache.kafka.common.cache.LRUCache;
+import org.apache.kafka.common.cache.SynchronizedCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Interns {@link Schema} instances so that schemas having the same structure are the same instance,
+ * as long as they are among the most recently interned ones.
+ *
+ * The interned instances are eager copies of the schemas they are built from, so that they never retain
+ * the values from which lazy schemas are inferred. Interned schemas must not be modified.
+ */
+final class SchemaInterner {
+
+    // The maximum number of schemas to be interned, the least recently used ones being evicted first.
+    static final int MAX_INTERNED_SCHEMAS = 10_000;
+
+    // Schemas are only interned when a connect schema is built, not for each record, thus the lock is not contended.
+    private static final Cache<Schema, Schema> INTERNED = new SynchronizedCache<>(new LRUCache<>(MAX_INTERNED_SCHEMAS));
+
+    private SchemaInterner() {
+    }
+
+    static Schema intern(final Schema schema) {
+        if (schema == null || schema instanceof SimpleSchema) {
+            return schema;
+        }
+        final Schema interned = INTERNED.get(schema);
+        if (interned != null) {
+            return interned;
+        }
+        final Schema canonical = canonicalize(schema);
+        INTERNED.put(canonical, canonical);
+        return canonical;
+    }
+
+    private static Schema canonicalize(final Schema schema) {
+        switch (schema.type()) {
+            case ARRAY:
+                return new ArraySchema(intern(((ArraySchema) schema).valueSchema()));
+            case MAP:
+                return new MapSchema(intern(((MapSchema) schema).valueSchema()));
+            case STRUCT:
+                final List<TypedField> fields = new ArrayList<>();
+                for (TypedField field : (StructSchema) schema) {
+                    fields.add(new TypedField(field.index(), intern(field.schema()), field.name()));
+                }
+                return new StructSchema(fields);
+            default:
+                return schema;
+        }
+    }
+}
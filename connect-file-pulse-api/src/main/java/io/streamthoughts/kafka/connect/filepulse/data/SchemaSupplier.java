@@ -16,8 +16,6 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.data;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -37,9 +35,12 @@ public interface SchemaSupplier extends Supplier<Schema> {
      * Returns a supplier that will return the specified schema.
      *
      * @param schema    the {@link Schema} instance to supply
-     * @return          a new {@link EagerSchemaSupplier} instance.
+     * @return          a {@link EagerSchemaSupplier} instance, shared for simple schemas.
      */
     static SchemaSupplier eager(final Schema schema) {
+        if (schema instanceof SimpleSchema) {
+            return ((SimpleSchema) schema).supplier();
+        }
         return new EagerSchemaSupplier(schema);
     }
 
@@ -77,21 +78,7 @@ public interface SchemaSupplier extends Supplier<Schema> {
 
         private void mayInferSchemaFromValue() {
             if (schema == null) {
-                Type type = Type.forClass(value.getClass());
-                if (type.isPrimitive()) {
-                    schema = SimpleSchema.forType(type);
-
-                } else if (type == Type.STRUCT) {
-                    schema = ((TypedStruct)value).schema();
-
-                } else if (type == Type.MAP){
-                    schema = new LazyMapSchema((Map) value);
-
-                } else if (type == Type.ARRAY){
-                    schema = new LazyArraySchema((List) value);
-                } else {
-                    throw new DataException("Cannot infer schema for type " + value.getClass());
-                }
+                schema = SchemaInference.infer(value);
             }
         }
 
@@ -36,11 +36,14 @@ public class SimpleSchema implements Schema {
 
     static final Schema SCHEMA_INT_32 = new SimpleSchema(Type.INTEGER);
 
-    static final Schema SCHEMA_FLOAT_32 = new SimpleSchema(Type.DOUBLE);
+    static final Schema SCHEMA_FLOAT_32 = new SimpleSchema(Type.FLOAT);
 
     private final Type type;
 
-    private Integer hash;
+    // The supplier shared by all the values of this schema.
+    private final SchemaSupplier supplier;
+
+    private final long fingerprint;
 
     static Schema forType(final Type type) {
         Schema schema = SCHEMAS_KEYED_BY_TYPE.get(type);
@@ -58,13 +61,27 @@ public class SimpleSchema implements Schema {
     private SimpleSchema(final Type type) {
         Objects.requireNonNull(type, "type cannot be null");
         this.type = type;
+        this.supplier = new SchemaSupplier.EagerSchemaSupplier(this);
+        this.fingerprint = SchemaFingerprint.of(type);
         SCHEMAS_KEYED_BY_TYPE.put(type, this);
     }
 
+    SchemaSupplier supplier() {
+        return supplier;
+    }
+
     public Type type() {
         return type;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long fingerprint() {
+        return fingerprint;
+    }
+
     public <T> T map(final SchemaMapper<T> mapper) {
         return mapper.map(this);
     }
@@ -84,10 +101,7 @@ public class SimpleSchema implements Schema {
 
     @Override
     public int hashCode() {
-        if (hash == null) {
-            hash = Objects.hash(type);
-        }
-        return hash;
+        return Long.hashCode(fingerprint);
     }
 
     @Override
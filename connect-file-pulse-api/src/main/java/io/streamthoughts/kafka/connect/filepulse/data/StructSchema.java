@@ -23,7 +23,6 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 public class StructSchema implements Schema, Iterable<TypedField> {
 
@@ -31,7 +30,8 @@ public class StructSchema implements Schema, Iterable<TypedField> {
 
     private final Map<String, TypedField> fields;
 
-    private Integer hash;
+    // The structural fingerprint, computed on first use then maintained as fields are added.
+    private Long fingerprint;
 
     /**
      * Creates a new {@link StructSchema} instance.
@@ -57,10 +57,14 @@ public class StructSchema implements Schema, Iterable<TypedField> {
         if (null == fieldSchema) {
             throw new DataException("fieldSchema for field " + fieldName + " cannot be null.");
         }
+        final Map<String, TypedField> fields = fieldsByName();
         if (fields.containsKey(fieldName)) {
             throw new DataException("Cannot create field because of field name duplication " + fieldName);
         }
         fields.put(fieldName, new TypedField(fields.size(), fieldSchema, fieldName));
+        if (fingerprint != null) {
+            fingerprint = SchemaFingerprint.withField(fingerprint, fieldName, fieldSchema);
+        }
         return this;
     }
 
@@ -68,54 +72,24 @@ public class StructSchema implements Schema, Iterable<TypedField> {
         if (fieldName == null || fieldName.isEmpty()) {
             throw new DataException("fieldName cannot be null.");
         }
-        return fields.containsKey(fieldName) ? fields.get(fieldName).index() : -1;
+        final TypedField field = fieldsByName().get(fieldName);
+        return field != null ? field.index() : -1;
     }
 
     public TypedField field(final String fieldName) {
         if (fieldName == null || fieldName.isEmpty()) {
             throw new DataException("fieldName cannot be null.");
         }
-        return fields.get(fieldName);
+        return fieldsByName().get(fieldName);
     }
 
     public List<TypedField> fields() {
-        return new ArrayList<>(fields.values());
-    }
-
-    void set(final String fieldName, final Schema fieldSchema) {
-        if (fieldName == null || fieldName.isEmpty()) {
-            throw new DataException("fieldName cannot be null.");
-        }
-        if (null == fieldSchema) {
-            throw new DataException("fieldSchema for field " + fieldName + " cannot be null.");
-        }
-        TypedField field = field(fieldName);
-        if (field == null) {
-            throw new DataException("Cannot set field because of field do not exist " + fieldName);
-        }
-        fields.put(fieldName, new TypedField(field.index(), fieldSchema, fieldName));
+        return new ArrayList<>(fieldsByName().values());
     }
 
-    void rename(final String fieldName, final String newField) {
-        TypedField tf = field(fieldName);
-        if (fieldName == null) {
-            throw new DataException("Cannot rename field because of field do not exist " + fieldName);
-        }
-        fields.remove(fieldName);
-        fields.put(newField, new TypedField(tf.index(), tf.schema(), newField));
-    }
-
-    void remove(final String fieldName) {
-        TypedField tf = field(fieldName);
-        if (tf != null) {
-            fields.remove(tf.name());
-            fields.replaceAll((k, v) -> {
-                if (v.index() > tf.index()) {
-                    return new TypedField(v.index() - 1, tf.schema(), tf.name());
-                }
-                return v;
-            });
-        }
+    // the fields keyed by name, in order.
+    Map<String, TypedField> fieldsByName() {
+        return fields;
     }
 
     /**
@@ -123,7 +97,7 @@ public class StructSchema implements Schema, Iterable<TypedField> {
      */
     @Override
     public Iterator<TypedField> iterator() {
-        return Collections.unmodifiableCollection(fields.values()).iterator();
+        return Collections.unmodifiableCollection(fieldsByName().values()).iterator();
     }
 
     /**
@@ -134,6 +108,21 @@ public class StructSchema implements Schema, Iterable<TypedField> {
         return this.type;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long fingerprint() {
+        if (fingerprint == null) {
+            long fp = SchemaFingerprint.of(type);
+            for (TypedField field : fieldsByName().values()) {
+                fp = SchemaFingerprint.withField(fp, field.name(), field.schema());
+            }
+            fingerprint = fp;
+        }
+        return fingerprint;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -156,7 +145,22 @@ public class StructSchema implements Schema, Iterable<TypedField> {
         if (!(o instanceof StructSchema)) return false;
         StructSchema that = (StructSchema) o;
         return type == that.type &&
-                Objects.equals(fields, that.fields);
+                fingerprint() == that.fingerprint() &&
+                sameFields(fieldsByName().values(), that.fieldsByName().values());
+    }
+
+    // the fields are compared in order, which is cheaper than looking each of them up by name.
+    private static boolean sameFields(final Collection<TypedField> fields, final Collection<TypedField> others) {
+        if (fields.size() != others.size()) {
+            return false;
+        }
+        final Iterator<TypedField> it = others.iterator();
+        for (TypedField field : fields) {
+            if (!field.equals(it.next())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -164,10 +168,7 @@ public class StructSchema implements Schema, Iterable<TypedField> {
      */
     @Override
     public int hashCode() {
-        if (hash == null) {
-            hash = Objects.hash(type, fields);
-        }
-        return hash;
+        return Long.hashCode(fingerprint());
     }
 
     /**
@@ -176,7 +177,7 @@ public class StructSchema implements Schema, Iterable<TypedField> {
     @Override
     public String toString() {
         return "[" +
-                "fields=" + fields +
+                "fields=" + fieldsByName() +
                 ']';
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.data;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@code StructShape} is the immutable layout of a {@link TypedStruct}, i.e the ordered field names
+ * and the slot of each field into the struct values.
+ *
+ * Shapes are interned : a shape is derived from its parent by adding a field, and all structs built by adding
+ * the same fields in the same order share the same shape instance.
+ *
+ * Derived shapes are softly referenced : the shapes of structures which are not used anymore (e.g built from
+ * high-cardinality keys) can be reclaimed under memory pressure, without preventing other shapes to be shared.
+ */
+final class StructShape {
+
+    // The transitions whose shape has been reclaimed, to be removed from their parent shape.
+    private static final ReferenceQueue<StructShape> RECLAIMED = new ReferenceQueue<>();
+
+    static final StructShape EMPTY = new StructShape(null, new String[0]);
+
+    // The shape this one is derived from, kept reachable as long as this shape is used.
+    private final StructShape parent;
+
+    private final String[] names;
+
+    private final List<String> fieldNames;
+
+    private final Map<String, Integer> slots;
+
+    // The shapes derived from this one by adding a field, keyed by field name.
+    private final ConcurrentMap<String, Transition> transitions = new ConcurrentHashMap<>();
+
+    private StructShape(final StructShape parent, final String[] names) {
+        this.parent = parent;
+        this.names = names;
+        this.fieldNames = Collections.unmodifiableList(Arrays.asList(names));
+        this.slots = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            slots.put(names[i], i);
+        }
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    List<String> fieldNames() {
+        return fieldNames;
+    }
+
+    String name(final int slot) {
+        return names[slot];
+    }
+
+    /**
+     * Gets the slot of the specified field.
+     *
+     * @param name  the field name.
+     * @return      the field slot or {@code -1} if this shape has no field for the specified name.
+     */
+    int slotOf(final String name) {
+        final Integer slot = slots.get(name);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * Gets the shape made of the fields of this shape followed by the specified field.
+     *
+     * @param name  the field name to add.
+     * @return      the interned {@link StructShape}.
+     */
+    StructShape withField(final String name) {
+        final Transition transition = transitions.get(name);
+        final StructShape shape = transition != null ? transition.get() : null;
+        return shape != null ? shape : newTransition(name);
+    }
+
+    private StructShape newTransition(final String name) {
+        expungeReclaimedShapes();
+        synchronized (transitions) {
+            final Transition transition = transitions.get(name);
+            StructShape shape = transition != null ? transition.get() : null;
+            if (shape == null) {
+                final String[] newNames = Arrays.copyOf(names, names.length + 1);
+                newNames[names.length] = name;
+                shape = new StructShape(this, newNames);
+                transitions.put(name, new Transition(this, name, shape));
+            }
+            return shape;
+        }
+    }
+
+    private static void expungeReclaimedShapes() {
+        Reference<? extends StructShape> reclaimed;
+        while ((reclaimed = RECLAIMED.poll()) != null) {
+            final Transition transition = (Transition) reclaimed;
+            transition.from.transitions.remove(transition.name, transition);
+        }
+    }
+
+    /**
+     * Gets the shape made of the fields of this shape except the specified one.
+     *
+     * @param slot  the slot of the field to remove.
+     * @return      the interned {@link StructShape}.
+     */
+    StructShape withoutField(final int slot) {
+        StructShape shape = EMPTY;
+        for (int i = 0; i < names.length; i++) {
+            if (i != slot) {
+                shape = shape.withField(names[i]);
+            }
+        }
+        return shape;
+    }
+
+    /**
+     * Gets the shape made of the fields of this shape with the specified field being renamed.
+     *
+     * @param slot      the slot of the field to rename.
+     * @param newName   the new field name.
+     * @return          the interned {@link StructShape}.
+     */
+    StructShape withFieldRenamed(final int slot, final String newName) {
+        StructShape shape = EMPTY;
+        for (int i = 0; i < names.length; i++) {
+            shape = shape.withField(i == slot ? newName : names[i]);
+        }
+        return shape;
+    }
+
+    /**
+     * Checks whether this shape has the same fields than the specified one.
+     */
+    boolean sameFieldsAs(final StructShape that) {
+        return this == that || Arrays.equals(names, that.names);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(names);
+    }
+
+    /**
+     * A soft reference to the shape derived from another one by adding a field.
+     */
+    private static final class Transition extends SoftReference<StructShape> {
+
+        private final StructShape from;
+        private final String name;
+
+        Transition(final StructShape from, final String name, final StructShape to) {
+            super(to, RECLAIMED);
+            this.from = from;
+            this.name = name;
+        }
+    }
+}
@@ -20,8 +20,8 @@ import org.apache.kafka.connect.data.Schema;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public enum Type {
 
@@ -109,7 +109,7 @@ public enum Type {
         }
     };
 
-    private final static Map<Class<?>, Type> JAVA_CLASS_TYPES = new HashMap<>();
+    private final static Map<Class<?>, Type> JAVA_CLASS_TYPES = new ConcurrentHashMap<>();
 
     static {
         for (Type type : Type.values()) {
@@ -189,11 +189,12 @@ public enum Type {
     }
 
     public static Type forClass(final Class<?> cls) {
-        synchronized (JAVA_CLASS_TYPES) {
-            Type type = JAVA_CLASS_TYPES.get(cls);
-            if (type != null)
-                return type;
+        // types are looked up for each inferred value, so resolved classes are returned without locking.
+        Type type = JAVA_CLASS_TYPES.get(cls);
+        if (type != null)
+            return type;
 
+        synchronized (JAVA_CLASS_TYPES) {
             // Since the lookup only checks the class, we need to also try
             for (Map.Entry<Class<?>, Type> entry : JAVA_CLASS_TYPES.entrySet()) {
                 try {
@@ -211,7 +212,7 @@ public enum Type {
 
     public static Type forConnectSchemaType(final Schema.Type schemaType) {
         for (Type type : Type.values()) {
-            if (type.schemaType.equals(schemaType)) {
+            if (type.schemaType == schemaType) {
                 return type;
             }
         }
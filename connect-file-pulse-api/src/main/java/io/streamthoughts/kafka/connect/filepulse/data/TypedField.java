@@ -65,7 +65,7 @@ public class TypedField {
         if (!(o instanceof TypedField)) return false;
         TypedField typeField = (TypedField) o;
         return index == typeField.index &&
-                schema == typeField.schema &&
+                Objects.equals(schema, typeField.schema) &&
                 Objects.equals(name, typeField.name);
     }
 
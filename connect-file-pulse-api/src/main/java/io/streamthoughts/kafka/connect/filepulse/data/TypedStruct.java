@@ -16,20 +16,27 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.data;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
-
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 public class TypedStruct implements GettableByName, SettableByName<TypedStruct>, Iterable<TypedField> {
 
-    private StructSchema schema;
-    private List<Object> values;
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    // The interned layout of this struct, replaced when fields are added, renamed or removed.
+    private StructShape shape;
+
+    // The field schemas and values, indexed by field slot.
+    // A null schema marks a lazy value, i.e a Supplier<TypedValue> invoked on first access (see resolve).
+    private Schema[] schemas;
+    private Object[] values;
 
     /**
      * Creates a new {@link TypedStruct} instance.
@@ -43,17 +50,89 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
      * Creates a new {@link TypedStruct} instance.
      */
     public TypedStruct() {
-        this.schema = Schema.struct();
-        this.values = new LinkedList<>();
+        this.shape = StructShape.EMPTY;
+        this.schemas = new Schema[DEFAULT_INITIAL_CAPACITY];
+        this.values = new Object[DEFAULT_INITIAL_CAPACITY];
+    }
+
+    TypedStruct(final StructShape shape, final Schema[] schemas, final Object[] values) {
+        this.shape = shape;
+        this.schemas = schemas;
+        this.values = values;
+    }
+
+    /**
+     * Creates a shallow copy of this {@link TypedStruct}, i.e the field values are not copied.
+     *
+     * @return  the new {@link TypedStruct} instance.
+     */
+    public TypedStruct copy() {
+        return new TypedStruct(shape, schemas.clone(), values.clone());
+    }
+
+    /**
+     * Puts all the fields of the specified struct into this one, in order.
+     *
+     * @param struct    the {@link TypedStruct} to copy fields from.
+     * @return          this {@link TypedStruct} instance.
+     */
+    public TypedStruct putAll(final TypedStruct struct) {
+        Objects.requireNonNull(struct, "struct cannot be null");
+        for (int slot = 0; slot < struct.shape.size(); slot++) {
+            // lazy values are copied without being resolved.
+            putSlot(struct.shape.name(slot), struct.schemas[slot], struct.values[slot]);
+        }
+        return this;
+    }
+
+    /**
+     * Puts a field whose value is only computed when it is accessed for the first time.
+     *
+     * @param field     the field name.
+     * @param supplier  the supplier of the field value, which may be invoked once by each copy of this struct.
+     * @return          this {@link TypedStruct} instance.
+     */
+    public TypedStruct putLazy(final String field, final Supplier<TypedValue> supplier) {
+        checkFieldName(field);
+        Objects.requireNonNull(supplier, "supplier cannot be null");
+        return putSlot(field, null, supplier);
+    }
+
+    /**
+     * Returns the names of the fields of this struct, in order.
+     *
+     * @return  an unmodifiable list of field names.
+     */
+    public List<String> fieldNames() {
+        return shape.fieldNames();
     }
 
     public TypedStruct rename(final String field, final String newField) {
-        schema.rename(field, newField);
+        checkFieldName(newField);
+        final int slot = lookupSlot(field);
+        if (field.equals(newField)) {
+            return this;
+        }
+        if (has(newField)) {
+            // the renamed field replaces the existing one.
+            remove(newField);
+            return rename(field, newField);
+        }
+        shape = shape.withFieldRenamed(slot, newField);
         return this;
     }
 
     public TypedStruct remove(final String field) {
-        schema.remove(field);
+        checkFieldName(field);
+        final int slot = shape.slotOf(field);
+        if (slot >= 0) {
+            final int size = shape.size();
+            System.arraycopy(schemas, slot + 1, schemas, slot, size - slot - 1);
+            System.arraycopy(values, slot + 1, values, slot, size - slot - 1);
+            schemas[size - 1] = null;
+            values[size - 1] = null;
+            shape = shape.withoutField(slot);
+        }
         return this;
     }
 
@@ -62,7 +141,7 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
      */
     @Override
     public TypedStruct put(final String field, final Short value) {
-        return put(field, Schema.int16(), field);
+        return put(field, Schema.int16(), value);
     }
 
     /**
@@ -78,7 +157,7 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
      */
     @Override
     public TypedStruct put(final String field, final Integer value) {
-        return put(field, Schema.int32(), field);
+        return put(field, Schema.int32(), value);
     }
 
     /**
@@ -94,7 +173,7 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
      */
     @Override
     public TypedStruct put(final String field, final Double value) {
-        return put(field, Schema.float32(), value);
+        return put(field, Schema.float64(), value);
     }
 
     /**
@@ -164,25 +243,41 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
     }
 
     public TypedStruct put(final String field, final Schema schema, final Object object) {
-        if (!has(field)) {
-            this.schema.field(field, schema);
-            values.add(object);
-        } else {
-
-            int index = this.schema.indexOf(field);
-            this.schema.set(field, schema); // handle case where field's schema is changed.
-            values.set(index, object);
+        checkFieldName(field);
+        if (null == schema) {
+            throw new DataException("fieldSchema for field " + field + " cannot be null.");
         }
+        return putSlot(field, schema, object);
+    }
 
+    private TypedStruct putSlot(final String field, final Schema schema, final Object object) {
+        int slot = shape.slotOf(field);
+        if (slot < 0) {
+            slot = shape.size();
+            ensureCapacity(slot + 1);
+            shape = shape.withField(field);
+        }
+        // handle case where field's schema is changed.
+        schemas[slot] = schema;
+        values[slot] = object;
         return this;
     }
 
+    private void ensureCapacity(final int capacity) {
+        if (capacity > values.length) {
+            final int newCapacity = Math.max(capacity, 2 * values.length);
+            schemas = Arrays.copyOf(schemas, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean has(final String name) {
-        return schema.field(name) != null;
+        checkFieldName(name);
+        return shape.slotOf(name) >= 0;
     }
 
     public TypedValue get(final TypedField field) {
@@ -196,9 +291,8 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
     @Override
     public TypedValue get(final String name) {
         Objects.requireNonNull(name, "name cannot be null");
-        TypedField field = lookupField(name);
-        Object o = values.get(field.index());
-        return TypedValue.of(o, field.schema());
+        final int slot = resolve(lookupSlot(name));
+        return TypedValue.of(values[slot], schemas[slot]);
     }
 
     /**
@@ -296,20 +390,104 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
     }
 
     public StructSchema schema() {
-        return new StructSchema(schema.fields());
+        // the fields of a struct with lazy values are only read when the schema is accessed.
+        return hasLazySlots() ? new LazyStructSchema(this) : new StructSchema(fields());
     }
 
     public TypedField field(final String name) {
         Objects.requireNonNull(name, "name cannot be null");
-        return lookupField(name);
+        final int slot = resolve(lookupSlot(name));
+        return new TypedField(slot, schemas[slot], name);
     }
 
-    private TypedField lookupField(final String name) {
-        TypedField field = schema.field(name);
-        if (field == null) {
+    StructShape shape() {
+        return shape;
+    }
+
+    // the arrays may be larger than the number of fields, only the first shape().size() slots are used.
+    Schema[] schemas() {
+        resolveAll();
+        return schemas;
+    }
+
+    Object[] values() {
+        resolveAll();
+        return values;
+    }
+
+    List<TypedField> fields() {
+        resolveAll();
+        final int size = shape.size();
+        final List<TypedField> fields = new ArrayList<>(size);
+        for (int slot = 0; slot < size; slot++) {
+            fields.add(new TypedField(slot, schemas[slot], shape.name(slot)));
+        }
+        return fields;
+    }
+
+    /**
+     * Checks whether this struct has the same fields than the specified one, with identical schemas.
+     * Only shared schema instances (e.g of primitive values) are considered identical, so no schema is built.
+     *
+     * @param that  the struct to compare with.
+     * @return      {@code true} if both structs have the same schema.
+     */
+    boolean hasSameSchemaAs(final TypedStruct that) {
+        if (shape != that.shape) {
+            return false;
+        }
+        for (int slot = 0; slot < shape.size(); slot++) {
+            if (schemas[resolve(slot)] != that.schemas[that.resolve(slot)]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the value of the specified slot if it is lazy.
+     *
+     * @param slot  the field slot.
+     * @return      the field slot.
+     */
+    @SuppressWarnings("unchecked")
+    private int resolve(final int slot) {
+        if (schemas[slot] == null) {
+            final TypedValue typed = ((Supplier<TypedValue>) values[slot]).get();
+            schemas[slot] = typed.schema();
+            values[slot] = typed.value();
+        }
+        return slot;
+    }
+
+    private boolean hasLazySlots() {
+        for (int slot = 0; slot < shape.size(); slot++) {
+            if (schemas[slot] == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void resolveAll() {
+        for (int slot = 0; slot < shape.size(); slot++) {
+            resolve(slot);
+        }
+    }
+
+    private int lookupSlot(final String name) {
+        checkFieldName(name);
+        final int slot = shape.slotOf(name);
+        if (slot < 0) {
             throw new DataException(name + " is not a valid field name");
         }
-        return field;
+        return slot;
+    }
+
+    private static void checkFieldName(final String name) {
+        if (name == null || name.isEmpty()) {
+            throw new DataException("fieldName cannot be null.");
+        }
     }
 
     private<T> T getCheckedType(final String name, final Type type) {
@@ -330,8 +508,16 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
         if (this == o) return true;
         if (!(o instanceof TypedStruct)) return false;
         TypedStruct that = (TypedStruct) o;
-        return Objects.equals(schema, that.schema) &&
-                Objects.equals(values, that.values);
+        if (!shape.sameFieldsAs(that.shape)) return false;
+        resolveAll();
+        that.resolveAll();
+        for (int slot = 0; slot < shape.size(); slot++) {
+            if (!Objects.equals(schemas[slot], that.schemas[slot]) ||
+                !Objects.equals(values[slot], that.values[slot])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -339,7 +525,13 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
      */
     @Override
     public int hashCode() {
-        return Objects.hash(schema, values);
+        resolveAll();
+        int result = 1;
+        for (int slot = 0; slot < shape.size(); slot++) {
+            result = 31 * result + shape.name(slot).hashCode();
+            result = 31 * result + Objects.hashCode(values[slot]);
+        }
+        return result;
     }
 
     /**
@@ -347,7 +539,7 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
      */
     @Override
     public String toString() {
-        return StreamSupport.stream(schema.spliterator(), false)
+        return fields().stream()
                 .map( field -> field.name() + "=" + get(field))
                 .collect(Collectors.joining(",", "[", "]"));
     }
@@ -357,6 +549,6 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
      */
     @Override
     public Iterator<TypedField> iterator() {
-        return schema.iterator();
+        return Collections.unmodifiableList(fields()).iterator();
     }
 }
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A columnar batch of {@link TypedStruct}s sharing the same fields and field schemas.
+ *
+ * The values of each field are stored into a single array so that a field can be processed
+ * for all the rows of the batch at once. Structs are only materialized using {@link #toStructs()}.
+ */
+public class TypedStructBatch {
+
+    private final int size;
+
+    private StructShape shape;
+
+    private Schema[] schemas;
+
+    private Object[][] columns;
+
+    /**
+     * Creates a new {@link TypedStructBatch} instance from the specified structs.
+     *
+     * @param structs   the structs to be stored into columns.
+     * @return          a new {@link TypedStructBatch} or {@code null} if the structs do not have the same fields
+     *                  and field schemas.
+     */
+    public static TypedStructBatch of(final List<TypedStruct> structs) {
+        Objects.requireNonNull(structs, "structs can't be null");
+        if (structs.isEmpty()) {
+            return new TypedStructBatch(0);
+        }
+        final TypedStruct first = structs.get(0);
+        final StructShape shape = first.shape();
+        final Schema[] schemas = Arrays.copyOf(first.schemas(), shape.size());
+        final Object[][] columns = new Object[shape.size()][structs.size()];
+        for (int row = 0; row < structs.size(); row++) {
+            final TypedStruct struct = structs.get(row);
+            if (struct.shape() != shape) {
+                return null;
+            }
+            // the lazy values of the struct are resolved once per row.
+            final Schema[] rowSchemas = struct.schemas();
+            final Object[] rowValues = struct.values();
+            for (int slot = 0; slot < schemas.length; slot++) {
+                if (rowSchemas[slot] != schemas[slot]) {
+                    return null;
+                }
+                columns[slot][row] = rowValues[slot];
+            }
+        }
+        return new TypedStructBatch(structs.size(), shape, schemas, columns);
+    }
+
+    /**
+     * Creates a new {@link TypedStructBatch} instance with no field.
+     *
+     * @param size  the number of rows.
+     */
+    public TypedStructBatch(final int size) {
+        this(size, StructShape.EMPTY, new Schema[0], new Object[0][]);
+    }
+
+    private TypedStructBatch(final int size,
+                             final StructShape shape,
+                             final Schema[] schemas,
+                             final Object[][] columns) {
+        this.size = size;
+        this.shape = shape;
+        this.schemas = schemas;
+        this.columns = columns;
+    }
+
+    /**
+     * @return the number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the names of the fields of this batch, in order.
+     */
+    public List<String> fieldNames() {
+        return shape.fieldNames();
+    }
+
+    public boolean has(final String field) {
+        return shape.slotOf(field) >= 0;
+    }
+
+    /**
+     * Gets the schema of the specified field.
+     *
+     * @param field the field name.
+     * @return      the field {@link Schema}.
+     * @throws DataException if no field exists for the specified name.
+     */
+    public Schema schema(final String field) {
+        return schemas[lookupSlot(field)];
+    }
+
+    /**
+     * Gets the values of the specified field, indexed by row.
+     *
+     * @param field the field name.
+     * @return      the field values.
+     * @throws DataException if no field exists for the specified name.
+     */
+    public Object[] column(final String field) {
+        return columns[lookupSlot(field)];
+    }
+
+    /**
+     * Puts the specified field values, replacing the existing ones if the field already exists.
+     *
+     * @param field     the field name.
+     * @param schema    the schema of the field.
+     * @param values    the field values, indexed by row.
+     * @return          this {@link TypedStructBatch} instance.
+     */
+    public TypedStructBatch put(final String field, final Schema schema, final Object[] values) {
+        Objects.requireNonNull(field, "field can't be null");
+        Objects.requireNonNull(schema, "schema can't be null");
+        if (values.length != size) {
+            throw new DataException("Cannot put column '" + field + "' with " + values.length + " values "
+                    + "into a batch of " + size + " rows");
+        }
+        int slot = shape.slotOf(field);
+        if (slot < 0) {
+            slot = shape.size();
+            shape = shape.withField(field);
+            schemas = Arrays.copyOf(schemas, slot + 1);
+            columns = Arrays.copyOf(columns, slot + 1);
+        }
+        schemas[slot] = schema;
+        columns[slot] = values;
+        return this;
+    }
+
+    /**
+     * Removes the specified field.
+     *
+     * @param field the field name.
+     * @return      this {@link TypedStructBatch} instance.
+     * @throws DataException if no field exists for the specified name.
+     */
+    public TypedStructBatch remove(final String field) {
+        final int slot = lookupSlot(field);
+        final int moved = shape.size() - slot - 1;
+        System.arraycopy(schemas, slot + 1, schemas, slot, moved);
+        System.arraycopy(columns, slot + 1, columns, slot, moved);
+        schemas = Arrays.copyOf(schemas, schemas.length - 1);
+        columns = Arrays.copyOf(columns, columns.length - 1);
+        shape = shape.withoutField(slot);
+        return this;
+    }
+
+    /**
+     * Renames the specified field, replacing the target field if it already exists.
+     *
+     * @param field     the field name.
+     * @param newField  the new field name.
+     * @return          this {@link TypedStructBatch} instance.
+     * @throws DataException if no field exists for the specified name.
+     */
+    public TypedStructBatch rename(final String field, final String newField) {
+        Objects.requireNonNull(newField, "newField can't be null");
+        lookupSlot(field);
+        if (!field.equals(newField) && has(newField)) {
+            remove(newField);
+        }
+        shape = shape.withFieldRenamed(lookupSlot(field), newField);
+        return this;
+    }
+
+    /**
+     * Materializes the rows of this batch.
+     *
+     * @return  a new list of {@link TypedStruct}.
+     */
+    public List<TypedStruct> toStructs() {
+        final List<TypedStruct> structs = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            final Object[] values = new Object[columns.length];
+            for (int slot = 0; slot < columns.length; slot++) {
+                values[slot] = columns[slot][row];
+            }
+            structs.add(new TypedStruct(shape, schemas.clone(), values));
+        }
+        return structs;
+    }
+
+    private int lookupSlot(final String field) {
+        final int slot = shape.slotOf(field);
+        if (slot < 0) {
+            throw new DataException(field + " is not a valid field name");
+        }
+        return slot;
+    }
+}
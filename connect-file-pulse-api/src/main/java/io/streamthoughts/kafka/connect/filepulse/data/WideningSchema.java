@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.data;
+
+/**
+ * The schema of successive values, e.g the records read from a file, which is only ever widened so that it stays
+ * compatible with all the values seen so far : fields are added, numeric types are widened, and the elements of
+ * arrays which were empty so far get typed. Values having the same schema thus share a single stable instance.
+ *
+ * This class is not thread-safe.
+ */
+public final class WideningSchema {
+
+    // The schema compatible with all the values seen so far, interned so that it does not retain any value.
+    private Schema schema = Schema.none();
+
+    /**
+     * Widens this schema so that it is compatible with the specified one.
+     *
+     * @param observed  the schema of the next value.
+     * @return          the widened {@link Schema}, or the specified one if both schemas cannot be merged
+     *                  (e.g a field having different types).
+     */
+    public Schema widen(final Schema observed) {
+        if (SchemaInference.contains(schema, observed)) {
+            return schema;
+        }
+        try {
+            schema = Schema.intern(SchemaInference.merge(schema, observed));
+        } catch (final DataException e) {
+            // the value cannot be described by a schema common to the previous ones, thus it keeps its own.
+            return observed;
+        }
+        return schema;
+    }
+}
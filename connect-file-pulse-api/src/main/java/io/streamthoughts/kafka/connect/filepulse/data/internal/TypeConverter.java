@@ -73,8 +73,9 @@ public class TypeConverter implements Serializable {
     public static Short getShort(final Object value) throws IllegalArgumentException {
         Objects.requireNonNull(value, "value can't be null");
 
-        if (value instanceof String && isNumber((String) value)) {
-            return new BigDecimal(value.toString()).shortValue();
+        if (value instanceof CharSequence && isNumber((CharSequence) value)) {
+            final CharSequence cs = (CharSequence) value;
+            return fitsInLong(cs) ? (short) parseLong(cs) : new BigDecimal(cs.toString()).shortValue();
         }
         if (value instanceof Number) {
             Number number = (Number) value;
@@ -86,8 +87,9 @@ public class TypeConverter implements Serializable {
     public static Integer getInt(final Object value) throws IllegalArgumentException {
         Objects.requireNonNull(value, "value can't be null");
 
-        if (value instanceof String && isNumber((String) value)) {
-            return new BigDecimal(value.toString()).intValue();
+        if (value instanceof CharSequence && isNumber((CharSequence) value)) {
+            final CharSequence cs = (CharSequence) value;
+            return fitsInLong(cs) ? (int) parseLong(cs) : new BigDecimal(cs.toString()).intValue();
         }
         if (value instanceof Number) {
             Number number = (Number) value;
@@ -99,8 +101,9 @@ public class TypeConverter implements Serializable {
     public static Long getLong(final Object value) throws IllegalArgumentException {
         Objects.requireNonNull(value, "value can't be null");
 
-        if (value instanceof String && isNumber((String) value)) {
-            return new BigDecimal(value.toString()).longValue();
+        if (value instanceof CharSequence && isNumber((CharSequence) value)) {
+            final CharSequence cs = (CharSequence) value;
+            return fitsInLong(cs) ? parseLong(cs) : new BigDecimal(cs.toString()).longValue();
         }
         if (value instanceof Number) {
             Number number = (Number) value;
@@ -112,8 +115,9 @@ public class TypeConverter implements Serializable {
     public static Float getFloat(final Object value) throws IllegalArgumentException {
         Objects.requireNonNull(value, "value can't be null");
 
-        if (value instanceof String && isNumber((String) value)) {
-            return new BigDecimal(value.toString()).floatValue();
+        if (value instanceof CharSequence && isNumber((CharSequence) value)) {
+            final CharSequence cs = (CharSequence) value;
+            return fitsInLong(cs) ? (float) parseLong(cs) : new BigDecimal(cs.toString()).floatValue();
         }
         if (value instanceof Number) {
             Number number = (Number) value;
@@ -125,8 +129,9 @@ public class TypeConverter implements Serializable {
     public static Double getDouble(final Object value) throws IllegalArgumentException {
         Objects.requireNonNull(value, "value can't be null");
 
-        if (value instanceof String && isNumber((String) value)) {
-            return new BigDecimal(value.toString()).doubleValue();
+        if (value instanceof CharSequence && isNumber((CharSequence) value)) {
+            final CharSequence cs = (CharSequence) value;
+            return fitsInLong(cs) ? (double) parseLong(cs) : new BigDecimal(cs.toString()).doubleValue();
         }
         if (value instanceof Number) {
             Number number = (Number) value;
@@ -147,8 +152,9 @@ public class TypeConverter implements Serializable {
             return new Date(number.longValue());
         }
 
-        if (value instanceof String && isNumber((String) value)) {
-            return new Date(Long.parseLong((String) value));
+        if (value instanceof CharSequence && isNumber((CharSequence) value)) {
+            final CharSequence cs = (CharSequence) value;
+            return new Date(fitsInLong(cs) ? parseLong(cs) : Long.parseLong(cs.toString()));
         }
 
         throw new DataException(String.format("Cannot parse Date content from \"%s\"", value));
@@ -192,8 +198,30 @@ public class TypeConverter implements Serializable {
         }
     }
 
-    private static boolean isNumber(final String s) {
-        if (s.isEmpty()) {
+    /**
+     * Checks whether the specified integer number can be parsed without overflowing a long,
+     * i.e whether it has at most 18 digits.
+     */
+    private static boolean fitsInLong(final CharSequence s) {
+        final int digits = s.charAt(0) == '-' ? s.length() - 1 : s.length();
+        return digits <= 18;
+    }
+
+    /**
+     * Parses the specified integer number, previously checked using {@link #isNumber(CharSequence)}
+     * and {@link #fitsInLong(CharSequence)}, without allocating intermediate objects.
+     */
+    private static long parseLong(final CharSequence s) {
+        final boolean negative = s.charAt(0) == '-';
+        long result = 0L;
+        for (int i = negative ? 1 : 0; i < s.length(); i++) {
+            result = result * 10 + Character.digit(s.charAt(i), 10);
+        }
+        return negative ? -result : result;
+    }
+
+    private static boolean isNumber(final CharSequence s) {
+        if (s.length() == 0) {
             return false;
         }
         for (int i = 0; i < s.length(); i++) {
@@ -24,7 +24,7 @@ import io.streamthoughts.kafka.connect.filepulse.data.TypedField;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -50,54 +50,65 @@ public class DefaultTypeValueMerger implements TypeValueMerger {
         if (left == null) return right;
         if (right == null) return left;
 
-        TypedStruct struct = new TypedStruct();
+        // the merged struct starts from a copy of the left struct to keep its fields order and shape.
+        final TypedStruct struct = left.copy();
 
-        for (TypedField leftField : left) {
-            final String leftFieldName = leftField.name();
-
-            boolean isOverwrite = overwrite.contains(leftFieldName);
-
-            TypedValue typedValue = left.get(leftField);
+        final List<String> rightFieldNames = right.fieldNames();
+        if (!hasCommonFields(left, rightFieldNames)) {
+            return struct.putAll(right);
+        }
 
-            if (!right.has(leftFieldName)) {
-                struct.put(leftFieldName, typedValue);
+        for (String name : rightFieldNames) {
+            if (!struct.has(name)) {
+                struct.put(name, right.get(name));
                 continue;
             }
 
-            if (isOverwrite) {
-                continue; // skip the left field
+            if (overwrite.contains(name)) {
+                // the left field is removed so that the right one is appended, as if it was not present.
+                struct.remove(name);
+                struct.put(name, right.get(name));
+                continue;
             }
 
-            final TypedField rightField = right.field(leftFieldName);
+            final TypedField leftField = left.field(name);
+            final TypedField rightField = right.field(name);
             checkIfTypesAreCompatibleForMerge(leftField, rightField);
-            TypedValue merged = merge(typedValue, right.get(rightField));
-            struct.put(leftField.name(), merged);
+            struct.put(name, merge(left.get(leftField), right.get(rightField)));
         }
+        return struct;
+    }
 
-        for (TypedField f : right) {
-            if (!struct.has(f.name())) {
-                struct.put(f, right.get(f));
+    private static boolean hasCommonFields(final TypedStruct left, final List<String> rightFieldNames) {
+        for (String name : rightFieldNames) {
+            if (left.has(name)) {
+                return true;
             }
         }
-        return struct;
+        return false;
     }
 
     private static TypedValue merge(final TypedValue left, final TypedValue right) {
-        List<Object> values = new LinkedList<>();
+        final boolean isLeftArray = left.type() == Type.ARRAY;
+        final boolean isRightArray = right.type() == Type.ARRAY;
 
-        if (left.type() == Type.ARRAY) {
+        final int size = (isLeftArray ? left.getArray().size() : 1) + (isRightArray ? right.getArray().size() : 1);
+        final List<Object> values = new ArrayList<>(size);
+
+        if (isLeftArray) {
             values.addAll(left.getArray());
         } else {
             values.add(left.value());
         }
 
-        if (right.type() == Type.ARRAY) {
+        if (isRightArray) {
             values.addAll(right.getArray());
         } else {
             values.add(right.value());
         }
 
-        return TypedValue.array(values, left.schema());
+        final Schema valueSchema = isLeftArray ? ((ArraySchema) left.schema()).valueSchema() : left.schema();
+        return TypedValue.array(values, valueSchema);
     }
 
     private static void checkIfTypesAreCompatibleForMerge(final TypedField left, final TypedField right) {
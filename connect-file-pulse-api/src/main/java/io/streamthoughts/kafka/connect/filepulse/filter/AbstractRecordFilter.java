@@ -84,6 +84,15 @@ public abstract class AbstractRecordFilter<T extends AbstractRecordFilter> imple
         return condition.apply(context, record);
     }
 
+    /**
+     * Checks whether this filter is applied on all records, i.e no condition is configured.
+     *
+     * @return {@code true} if the filter is applied on all records.
+     */
+    public boolean acceptAll() {
+        return condition == FilterCondition.TRUE;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.filter;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStructBatch;
+
+/**
+ * A {@link RecordFilter} which can also be applied on a whole {@link TypedStructBatch} at once.
+ *
+ * A batch is only passed to a filter which does not buffer records and for which {@link #acceptAll()}
+ * returns {@code true}. If a filter cannot apply a batch as a whole, or fails with a {@link FilterException},
+ * the records of the batch are filtered again one at a time, so that failures are handled as usual.
+ * Any other exception is propagated and is not handled by the filter failure settings.
+ */
+public interface ColumnarRecordFilter extends RecordFilter {
+
+    /**
+     * Checks whether this filter is applied on all records, regardless of their content.
+     *
+     * @return {@code true} if the filter can be applied on a whole batch.
+     */
+    boolean acceptAll();
+
+    /**
+     * Filters the specified batch.
+     *
+     * @param context   the filter execution context of the first record of the batch.
+     * @param batch     the batch to apply.
+     *
+     * @throws FilterException if an occurred while filtering the input batch.
+     * @return the output filtered batch, either the input batch or a new one with the same number of rows
+     *         or with no row, or {@code null} if the records of this batch must be filtered one at a time.
+     */
+    TypedStructBatch apply(final FilterContext context, final TypedStructBatch batch) throws FilterException;
+}
@@ -17,6 +17,7 @@
 package io.streamthoughts.kafka.connect.filepulse.filter;
 
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStructBatch;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
@@ -26,12 +27,12 @@ import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRecord<TypedStruct>> {
 
@@ -41,6 +42,13 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
 
     private FileContext context;
 
+    // The leading filters which can be applied on a whole batch, and the first filter which cannot.
+    private List<ColumnarRecordFilter> columnar = Collections.emptyList();
+    private FilterNode afterColumnar;
+
+    // The filtered records returned by the last invocation of apply, reused across invocations.
+    private final List<FileRecord<TypedStruct>> results = new ArrayList<>();
+
     /**
      * Creates a new {@link RecordFilterPipeline} instance.
      * @param filters   the list of filters.
@@ -73,6 +81,8 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
             node.filter.clear();
             node = node.onSuccess;
         }
+        columnar = leadingColumnarFilters();
+        afterColumnar = nodeAt(columnar.size());
     }
 
     /**
@@ -82,17 +92,111 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
     public RecordsIterable<FileRecord<TypedStruct>> apply(final RecordsIterable<FileRecord<TypedStruct>> records,
                                                           final boolean hasNext) throws FilterException {
         checkState();
-        List<FileRecord<TypedStruct>> results = new LinkedList<>();
-        final Iterator<FileRecord<TypedStruct>> iterator = records.iterator();
-        while (iterator.hasNext()) {
-            FileRecord<TypedStruct> record = iterator.next();
-            boolean doHasNext = hasNext || iterator.hasNext();
-            FilterContext context = getContextFor(record, this.context.metadata());
-            results.addAll(apply(context, record.value(), doHasNext));
+        results.clear();
+        if (!applyOnBatch(records, hasNext)) {
+            final Iterator<FileRecord<TypedStruct>> iterator = records.iterator();
+            while (iterator.hasNext()) {
+                FileRecord<TypedStruct> record = iterator.next();
+                boolean doHasNext = hasNext || iterator.hasNext();
+                FilterContext context = getContextFor(record, this.context.metadata());
+                rootNode.apply(context, record.value(), doHasNext, results);
+            }
         }
         return new RecordsIterable<>(results);
     }
 
+    /**
+     * Applies the leading filters of this pipeline which support it on all the records at once,
+     * then applies the remaining filters on each record.
+     *
+     * @return {@code false} if the records cannot be filtered as a batch.
+     */
+    private boolean applyOnBatch(final RecordsIterable<FileRecord<TypedStruct>> records, final boolean hasNext) {
+        if (columnar.isEmpty() || records.size() < 2) {
+            return false;
+        }
+
+        final List<FileRecord<TypedStruct>> inputs = records.collect();
+        final TypedStructBatch batch = applyOnBatch(inputs);
+        if (batch == null) {
+            return false;
+        }
+        if (batch.size() == 0) {
+            return true;
+        }
+        if (batch.size() != inputs.size()) {
+            throw new IllegalStateException(
+                "Cannot apply this pipeline, a filter returned a batch of " + batch.size() + " rows "
+                + "for " + inputs.size() + " input records");
+        }
+
+        final FilterNode node = afterColumnar;
+        final List<TypedStruct> structs = batch.toStructs();
+        for (int i = 0; i < structs.size(); i++) {
+            final FilterContext context = getContextFor(inputs.get(i), this.context.metadata());
+            if (node == null) {
+                results.add(newRecordFor(context, structs.get(i)));
+            } else {
+                final boolean doHasNext = hasNext || i < structs.size() - 1;
+                node.apply(FilterContextBuilder.newBuilder(context).build(), structs.get(i), doHasNext, results);
+            }
+        }
+        return true;
+    }
+
+    private List<ColumnarRecordFilter> leadingColumnarFilters() {
+        final List<ColumnarRecordFilter> columnar = new ArrayList<>();
+        FilterNode node = rootNode;
+        while (node != null && node.filter instanceof ColumnarRecordFilter
+                && ((ColumnarRecordFilter) node.filter).acceptAll()) {
+            columnar.add((ColumnarRecordFilter) node.filter);
+            node = node.onSuccess;
+        }
+        return columnar;
+    }
+
+    private FilterNode nodeAt(final int index) {
+        FilterNode node = rootNode;
+        for (int i = 0; i < index; i++) {
+            node = node.onSuccess;
+        }
+        return node;
+    }
+
+    private TypedStructBatch applyOnBatch(final List<FileRecord<TypedStruct>> inputs) {
+        final List<TypedStruct> values = new ArrayList<>(inputs.size());
+        for (FileRecord<TypedStruct> record : inputs) {
+            values.add(record.value());
+        }
+        TypedStructBatch batch = TypedStructBatch.of(values);
+        if (batch == null) {
+            return null;
+        }
+        try {
+            final FilterContext context = getContextFor(inputs.get(0), this.context.metadata());
+            for (ColumnarRecordFilter filter : columnar) {
+                batch = filter.apply(context, batch);
+                if (batch == null || batch.size() == 0) {
+                    break;
+                }
+            }
+            return batch;
+        } catch (final FilterException e) {
+            // the records are filtered again one at a time, so that the error is handled as usual.
+            LOG.debug("Failed to filter {} records as a batch, filtering them one at a time", inputs.size(), e);
+            return null;
+        }
+    }
+
+    private TypedFileRecord newRecordFor(final FilterContext context, final TypedStruct s) {
+        return new TypedFileRecord(context.offset(), s)
+                .withTopic(context.topic())
+                .withPartition(context.partition())
+                .withTimestamp(context.timestamp())
+                .withHeaders(context.headers())
+                .withKey(TypedValue.string(context.key()));
+    }
+
     private FilterContext getContextFor(final FileRecord<TypedStruct> record,
                                         final SourceMetadata metadata) {
         return FilterContextBuilder
@@ -115,7 +219,9 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
     public List<FileRecord<TypedStruct>> apply(final FilterContext context,
                                                final TypedStruct record,
                                                final boolean hasNext) {
-        return rootNode.apply(context, record, hasNext);
+        final List<FileRecord<TypedStruct>> filtered = new ArrayList<>();
+        rootNode.apply(context, record, hasNext, filtered);
+        return filtered;
     }
 
     private class FilterNode {
@@ -135,31 +241,29 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
             this.onSuccess = onSuccess;
         }
 
-        public List<FileRecord<TypedStruct>> apply(final FilterContext context,
-                                       final TypedStruct record,
-                                       final boolean hasNext) {
-
-            final List<FileRecord<TypedStruct>> filtered = new LinkedList<>();
+        /**
+         * Applies this filter and the next ones on the specified record.
+         *
+         * @param filtered  the list to which the filtered records are added.
+         */
+        void apply(final FilterContext context,
+                   final TypedStruct record,
+                   final boolean hasNext,
+                   final List<FileRecord<TypedStruct>> filtered) {
 
             if (filter.accept(context, record)) {
+                final int mark = filtered.size();
+                RecordsIterable<TypedStruct> data = null;
                 try {
-                    RecordsIterable<TypedStruct> data = filter.apply(context, record, hasNext);
-                    List<FileRecord<TypedStruct>> records = data
-                        .stream()
-                        .map(s -> newRecordFor(context, s))
-                        .collect(Collectors.toList());
-                    filtered.addAll(records);
-
-                    if (onSuccess == null) {
-                        return filtered;
+                    data = filter.apply(context, record, hasNext);
+                    for (TypedStruct s : data) {
+                        if (onSuccess == null) {
+                            filtered.add(newRecordFor(context, s));
+                        } else {
+                            onSuccess.apply(FilterContextBuilder.newBuilder(context).build(), s, hasNext, filtered);
+                        }
                     }
-                    return filtered
-                        .stream()
-                        .flatMap(r ->
-                            onSuccess.apply(FilterContextBuilder.newBuilder(context).build(), r.value(), hasNext)
-                                     .stream()
-                        )
-                        .collect(Collectors.toList());
+                    return;
                 // handle any error
                 } catch (final Exception e) {
 
@@ -170,14 +274,21 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
                             record);
                         throw e;
                     }
+                    // Discard the records partially filtered by the next filters before the error occurred,
+                    // the ones returned by this filter are kept.
+                    filtered.subList(mark, filtered.size()).clear();
+                    if (data != null) {
+                        for (TypedStruct s : data) {
+                            filtered.add(newRecordFor(context, s));
+                        }
+                    }
                     // Some filters can aggregate records which follow each other by maintaining internal buffers.
                     // Those buffered records are expected to be returned at a certain point in time on the
                     // invocation of the method apply.
                     // When an error occurred, current record can be ignored or forward to an error pipeline.
                     // Thus, following records can potentially trigger unexpected aggregates to be built.
                     // To address that we force a flush of all records still buffered by the current filter.
-                    List<FileRecord<TypedStruct>> flushed = flush(context);
-                    filtered.addAll(flushed);
+                    flush(context, filtered);
 
                     if (filter.onFailure() != null) {
                         final FilterContext errorContext = FilterContextBuilder.newBuilder(context)
@@ -186,46 +297,34 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
                         filtered.addAll(filter.onFailure().apply(errorContext, record, hasNext));
                     } else {
                         if (onSuccess != null) {
-                            filtered.addAll(onSuccess.apply(context, record, hasNext));
+                            onSuccess.apply(context, record, hasNext, filtered);
                         } else {
                             filtered.add(new TypedFileRecord(context.offset(), record));
                         }
                     }
-                    return filtered;
+                    return;
                 }
 
             }
             // skip current filter and forward record to the next one.
             if (onSuccess != null) {
-                filtered.addAll(onSuccess.apply(context, record, hasNext));
+                onSuccess.apply(context, record, hasNext, filtered);
             } else {
                 if (!hasNext) {
-                    final List<FileRecord<TypedStruct>> flushed = flush(context);
-                    filtered.addAll(flushed);
+                    flush(context, filtered);
                 }
                 // add current record to filtered result.
                 filtered.add(new TypedFileRecord(context.offset(), record));
             }
-           return filtered;
-        }
-
-        private TypedFileRecord newRecordFor(final FilterContext context, final TypedStruct s) {
-            return new TypedFileRecord(context.offset(), s)
-                    .withTopic(context.topic())
-                    .withPartition(context.partition())
-                    .withTimestamp(context.timestamp())
-                    .withHeaders(context.headers())
-                    .withKey(TypedValue.string(context.key()));
         }
 
         /**
          * Flush and apply the filter chain on any remaining records buffered by this.
          *
-         * @param context the filter context to be used.
+         * @param context     the filter context to be used.
+         * @param filtered    the list to which the filtered records are added.
          */
-        List<FileRecord<TypedStruct>> flush(final FilterContext context) {
-
-            final List<FileRecord<TypedStruct>> filtered = new LinkedList<>();
+        void flush(final FilterContext context, final List<FileRecord<TypedStruct>> filtered) {
 
             RecordsIterable<FileRecord<TypedStruct>> buffered = filter.flush();
 
@@ -235,12 +334,11 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
                     final FileRecord<TypedStruct> record = iterator.next();
                     // create a new context for buffered records.
                     final FilterContext renewedContext = getContextFor(record, context.metadata());
-                    filtered.addAll(onSuccess.apply(renewedContext, record.value(), iterator.hasNext()));
+                    onSuccess.apply(renewedContext, record.value(), iterator.hasNext(), filtered);
                 }
             } else {
                 filtered.addAll(buffered.collect());
             }
-            return filtered;
         }
     }
 }
\ No newline at end of file
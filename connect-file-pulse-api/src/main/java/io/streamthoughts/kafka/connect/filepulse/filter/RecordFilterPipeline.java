@@ -42,7 +42,7 @@ public interface RecordFilterPipeline<T extends FileRecord<TypedStruct>> {
      * @param records   the records to be filtered.
      * @param hasNext   flag to indicate if there is remaining records for the current input file.
      *                  This flag should be used by filters to flush buffered records  when equals {@code false}.
-     * @return          the filtered records.
+     * @return          the filtered records, which may be backed by a buffer reused by the next invocation.
      */
     RecordsIterable<T> apply(final RecordsIterable<T> records, final boolean hasNext) throws FilterException;
 
@@ -22,6 +22,7 @@ import io.streamthoughts.kafka.connect.filepulse.filter.RecordFilter;
 import io.streamthoughts.kafka.connect.filepulse.filter.RecordFilterPipeline;
 import io.streamthoughts.kafka.connect.filepulse.filter.condition.ExpressionFilterCondition;
 import io.streamthoughts.kafka.connect.filepulse.filter.condition.FilterCondition;
+import io.streamthoughts.kafka.connect.filepulse.internal.StringInterner;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 import org.apache.kafka.common.config.AbstractConfig;
@@ -30,6 +31,7 @@ import org.apache.kafka.connect.errors.ConnectException;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -53,6 +55,13 @@ public class CommonFilterConfig extends AbstractConfig {
     public static final String FILTER_SOURCE_FIELD_CONFIG = "source";
     private static final String FILTER_SOURCE_FIELD_DOC   = "The input field on which to apply the filter.";
 
+    public static final String INTERN_FIELDS_CONFIG       = "internFields";
+    public static final String INTERN_FIELDS_DOC          = "The fields whose string values should be deduplicated, i.e share a canonical instance (only worth for low-cardinality fields).";
+
+    public static final String INTERN_MAX_VALUES_CONFIG   = "internMaxValues";
+    public static final String INTERN_MAX_VALUES_DOC      = "The maximum number of distinct values to be deduplicated per field.";
+    public static final int INTERN_MAX_VALUES_DEFAULT     = 1024;
+
     /**
      * Creates a new {@link CommonFilterConfig} instance.
      * @param originals the originals configuration.
@@ -108,6 +117,27 @@ public class CommonFilterConfig extends AbstractConfig {
         return filters.isEmpty() ? null : new DefaultRecordFilterPipeline(filters);
     }
 
+    /**
+     * Gets a new {@link StringInterner} for each field configured through {@link #INTERN_FIELDS_CONFIG}.
+     *
+     * @return  the interners keyed by field name.
+     */
+    public Map<String, StringInterner> interners() {
+        final Map<String, StringInterner> interners = new HashMap<>();
+        for (String field : getList(INTERN_FIELDS_CONFIG)) {
+            interners.put(field, new StringInterner(getInt(INTERN_MAX_VALUES_CONFIG)));
+        }
+        return interners;
+    }
+
+    public static ConfigDef withIntern(final ConfigDef def) {
+        return def
+                .define(INTERN_FIELDS_CONFIG, ConfigDef.Type.LIST, Collections.emptyList(),
+                        ConfigDef.Importance.LOW, INTERN_FIELDS_DOC)
+                .define(INTERN_MAX_VALUES_CONFIG, ConfigDef.Type.INT, INTERN_MAX_VALUES_DEFAULT,
+                        ConfigDef.Range.between(1, 1 << 20), ConfigDef.Importance.LOW, INTERN_MAX_VALUES_DOC);
+    }
+
     public static ConfigDef withOverwrite(final ConfigDef def) {
         return def.define(CommonFilterConfig.FILTER_OVERWRITE_CONFIG, ConfigDef.Type.LIST, Collections.emptyList(),
                 ConfigDef.Importance.HIGH, CommonFilterConfig.FILTER_OVERWRITE_DOC);
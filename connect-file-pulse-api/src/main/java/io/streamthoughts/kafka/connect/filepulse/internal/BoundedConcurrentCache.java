@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.internal;
+
+import org.apache.kafka.common.cache.Cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread-safe {@link Cache} bounded to a maximum number of entries, which never locks on lookups.
+ *
+ * Entries are evicted using the CLOCK algorithm, an approximation of LRU : a lookup marks the entry as used,
+ * and the eviction sweeps the entries in turn, removing the first one which has not been used since it was
+ * last swept.
+ *
+ * @param <K>   the key type.
+ * @param <V>   the value type.
+ */
+public final class BoundedConcurrentCache<K, V> implements Cache<K, V> {
+
+    private final int maxSize;
+
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    // The position of the eviction sweep, only accessed while evicting.
+    private Iterator<Map.Entry<K, Entry<V>>> hand;
+
+    /**
+     * Creates a new {@link BoundedConcurrentCache} instance.
+     *
+     * @param maxSize   the maximum number of entries.
+     */
+    public BoundedConcurrentCache(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be strictly positive, was " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(final K key) {
+        final Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        // the flag is only written if not already set, so that lookups do not contend on the same cache line.
+        if (!entry.used) {
+            entry.used = true;
+        }
+        return entry.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(final K key, final V value) {
+        entries.put(key, new Entry<>(value));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(final K key) {
+        return entries.remove(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long size() {
+        return entries.size();
+    }
+
+    private synchronized void evict() {
+        while (entries.size() > maxSize) {
+            if (hand == null || !hand.hasNext()) {
+                hand = entries.entrySet().iterator();
+            }
+            final Map.Entry<K, Entry<V>> next = hand.next();
+            final Entry<V> entry = next.getValue();
+            if (entry.used) {
+                entry.used = false;
+            } else {
+                entries.remove(next.getKey(), entry);
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+
+        // Whether the entry has been used since it was last swept.
+        private volatile boolean used;
+
+        Entry(final V value) {
+            this.value = value;
+        }
+    }
+}
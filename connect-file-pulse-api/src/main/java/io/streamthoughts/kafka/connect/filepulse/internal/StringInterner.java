@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A bounded cache returning a canonical instance for each distinct string value.
+ *
+ * Interning is only worth for low-cardinality values (e.g log levels, hosts or HTTP methods) : once the cache
+ * is full, new values are returned as-is. This class is not thread-safe.
+ */
+public final class StringInterner {
+
+    private final int maxSize;
+
+    // Open-addressing table of the interned strings, the capacity is always a power of two.
+    private final String[] table;
+
+    private int size = 0;
+
+    private long hits = 0;
+
+    private long misses = 0;
+
+    /**
+     * Creates a new {@link StringInterner} instance.
+     *
+     * @param maxSize   the maximum number of distinct values to be interned.
+     */
+    public StringInterner(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be strictly positive, was " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.table = new String[Integer.highestOneBit(maxSize * 2 - 1) << 1];
+    }
+
+    /**
+     * Gets the canonical instance of the specified string.
+     *
+     * @param value the string value.
+     * @return      the interned string, or the specified one if the cache is full.
+     */
+    public String intern(final String value) {
+        Objects.requireNonNull(value, "value can't be null");
+        final int mask = table.length - 1;
+        for (int i = mix(value.hashCode()) & mask; ; i = (i + 1) & mask) {
+            final String interned = table[i];
+            if (interned == null) {
+                return add(i, value);
+            }
+            if (interned.equals(value)) {
+                hits++;
+                return interned;
+            }
+        }
+    }
+
+    /**
+     * Gets the canonical instance of the string decoded from the specified UTF-8 bytes, without decoding
+     * them when the string is already interned.
+     *
+     * @param bytes     the UTF-8 bytes.
+     * @param offset    the index of the first byte to decode.
+     * @param length    the number of bytes to decode.
+     * @return          the interned string, or a new one if the cache is full.
+     */
+    public String intern(final byte[] bytes, final int offset, final int length) {
+        // for ASCII bytes the hash is the same as the one of the decoded string.
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (bytes[i] < 0) {
+                return intern(new String(bytes, offset, length, StandardCharsets.UTF_8));
+            }
+            hash = 31 * hash + bytes[i];
+        }
+
+        final int mask = table.length - 1;
+        for (int i = mix(hash) & mask; ; i = (i + 1) & mask) {
+            final String interned = table[i];
+            if (interned == null) {
+                return add(i, new String(bytes, offset, length, StandardCharsets.US_ASCII));
+            }
+            if (equals(interned, bytes, offset, length)) {
+                hits++;
+                return interned;
+            }
+        }
+    }
+
+    private String add(final int index, final String value) {
+        misses++;
+        if (size < maxSize) {
+            table[index] = value;
+            size++;
+        }
+        return value;
+    }
+
+    private static boolean equals(final String s, final byte[] bytes, final int offset, final int length) {
+        if (s.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (s.charAt(i) != bytes[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int mix(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @return the number of interned values.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of lookups which returned an already interned value.
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups for a value which was not interned yet.
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * @return the ratio of lookups which returned an already interned value, or {@code 0} if there was none.
+     */
+    public double hitRate() {
+        final long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" +
+                "size=" + size +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ']';
+    }
+}
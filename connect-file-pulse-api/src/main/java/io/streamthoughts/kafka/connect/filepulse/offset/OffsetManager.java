@@ -16,6 +16,7 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.offset;
 
+import io.streamthoughts.kafka.connect.filepulse.source.FileChunk;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
 import org.apache.kafka.connect.source.SourceTaskContext;
@@ -33,7 +34,21 @@ public interface OffsetManager {
      * @param metadata      the source metadata.
      * @return a new {@link SourceOffset} instance.
      */
-    Optional<SourceOffset> getOffsetFor(final SourceTaskContext context, final SourceMetadata metadata);
+    default Optional<SourceOffset> getOffsetFor(final SourceTaskContext context, final SourceMetadata metadata) {
+        return getOffsetFor(context, metadata, null);
+    }
+
+    /**
+     * Retrieves the position for the specified context, metadata and file chunk.
+     *
+     * @param context       the source task context.
+     * @param metadata      the source metadata.
+     * @param chunk         the file chunk, or {@code null} for the whole file.
+     * @return a new {@link SourceOffset} instance.
+     */
+    Optional<SourceOffset> getOffsetFor(final SourceTaskContext context,
+                                        final SourceMetadata metadata,
+                                        final FileChunk chunk);
 
 
     /**
@@ -50,10 +65,25 @@ public interface OffsetManager {
      * @param metadata  the {@link SourceMetadata} to convert.
      * @return an {@link Map} instance.
      */
-    Map<String, ?> toPartitionMap(final SourceMetadata metadata);
+    default Map<String, ?> toPartitionMap(final SourceMetadata metadata) {
+        return toPartitionMap(metadata, null);
+    }
+
+    /**
+     * Converts the specified {@link SourceMetadata} and {@link FileChunk} into connect partition map.
+     *
+     * @param metadata  the {@link SourceMetadata} to convert.
+     * @param chunk     the {@link FileChunk} to convert, or {@code null} for the whole file.
+     * @return an {@link Map} instance.
+     */
+    Map<String, ?> toPartitionMap(final SourceMetadata metadata, final FileChunk chunk);
 
     default String toPartitionJson(final SourceMetadata metadata) {
-        final Map<String, ?> partition = toPartitionMap(metadata);
+        return toPartitionJson(metadata, null);
+    }
+
+    default String toPartitionJson(final SourceMetadata metadata, final FileChunk chunk) {
+        final Map<String, ?> partition = toPartitionMap(metadata, chunk);
         return "{" +
                 partition.entrySet()
                         .stream()
@@ -51,6 +51,16 @@ public interface FileInputIterator<T> extends Iterator<RecordsIterable<T>> {
      */
     boolean hasNext();
 
+    /**
+     * Checks whether {@link #hasNext()} can be invoked without waiting for more bytes to be written
+     * into the iterator file, i.e. whether records are available or the iterator is ready to be completed.
+     *
+     * @return {@code true} if this iterator can be read without blocking.
+     */
+    default boolean isReady() {
+        return true;
+    }
+
     /**
      * Close the iterator file/input stream.
      */
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * An {@code ArchiveEntry} is a file compressed into an archive which is read directly from the archive,
+ * without being extracted on the local file system.
+ *
+ * An entry is identified by a path made of the {@code archive:} scheme, the archive path and the entry name,
+ * separated by {@code !/}. Since directories are always scanned from their absolute path, such a path cannot be
+ * the one of a regular file.
+ */
+public class ArchiveEntry {
+
+    public static final String SCHEME = "archive:";
+
+    public static final String ENTRY_SEPARATOR = "!/";
+
+    private final String archivePath;
+    private final String name;
+
+    /**
+     * Checks whether the specified path is the path of an archive entry.
+     *
+     * @param path  the path to check.
+     * @return      {@code true} if the path has been built using {@link #path()}.
+     */
+    public static boolean isEntryPath(final String path) {
+        return path.startsWith(SCHEME);
+    }
+
+    /**
+     * Gets the archive entry for the specified path.
+     *
+     * @param path  the path built using {@link #path()}.
+     * @return      a new {@link ArchiveEntry} instance.
+     */
+    public static ArchiveEntry fromPath(final String path) {
+        final int separator = path.indexOf(ENTRY_SEPARATOR);
+        if (!isEntryPath(path) || separator < 0) {
+            throw new IllegalArgumentException("Invalid archive entry path : " + path);
+        }
+        return new ArchiveEntry(
+            path.substring(SCHEME.length(), separator),
+            path.substring(separator + ENTRY_SEPARATOR.length()));
+    }
+
+    /**
+     * Creates a new {@link ArchiveEntry} instance.
+     *
+     * @param archivePath   the path of the archive file.
+     * @param name          the name of the entry within the archive.
+     */
+    public ArchiveEntry(final String archivePath, final String name) {
+        Objects.requireNonNull(archivePath, "archivePath can't be null");
+        Objects.requireNonNull(name, "name can't be null");
+        this.archivePath = archivePath;
+        this.name = name;
+    }
+
+    public String archivePath() {
+        return archivePath;
+    }
+
+    public File archive() {
+        return new File(archivePath);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Gets the path identifying this entry.
+     *
+     * @return  the {@link #SCHEME}, the archive path and the entry name, separated by {@link #ENTRY_SEPARATOR}.
+     */
+    public String path() {
+        return SCHEME + archivePath + ENTRY_SEPARATOR + name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArchiveEntry)) return false;
+        ArchiveEntry that = (ArchiveEntry) o;
+        return Objects.equals(archivePath, that.archivePath) &&
+                Objects.equals(name, that.name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(archivePath, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" +
+                "archivePath='" + archivePath + '\'' +
+                ", name='" + name + '\'' +
+                ']';
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import io.streamthoughts.kafka.connect.filepulse.internal.KeyValuePair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@code FileChunk} is a byte range of a source file which can be read independently from the other chunks.
+ *
+ * A chunk owns all the lines starting within its range, i.e the first line of a chunk is the first line
+ * starting at or after {@link #startPosition()} and the last line is the last one starting before
+ * {@link #endPosition()}.
+ */
+public class FileChunk {
+
+    private static final String CHUNK_SEPARATOR = "#chunk=";
+
+    private final int index;
+    private final int count;
+    private final long startPosition;
+    private final long endPosition;
+
+    /**
+     * Splits a file of the specified size into the specified number of chunks.
+     *
+     * @param size   the file size in bytes.
+     * @param count  the number of chunks.
+     * @return       the list of {@link FileChunk}.
+     */
+    public static List<FileChunk> split(final long size, final int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be greater than 0, was " + count);
+        }
+        final List<FileChunk> chunks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            chunks.add(new FileChunk(i, count, size * i / count, size * (i + 1) / count));
+        }
+        return chunks;
+    }
+
+    /**
+     * Checks whether the specified string is a path encoded with a file chunk.
+     *
+     * @param path  the string to check.
+     * @return      {@code true} if the string has been encoded using {@link #encode(String)}.
+     */
+    public static boolean isEncoded(final String path) {
+        return path.contains(CHUNK_SEPARATOR);
+    }
+
+    /**
+     * Decodes the specified string previously encoded using {@link #encode(String)}.
+     *
+     * @param encoded   the string to decode.
+     * @return          the file path and its chunk.
+     */
+    public static KeyValuePair<String, FileChunk> decode(final String encoded) {
+        final int separator = encoded.lastIndexOf(CHUNK_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid encoded file chunk : " + encoded);
+        }
+        try {
+            final String path = encoded.substring(0, separator);
+            final String[] parts = encoded.substring(separator + CHUNK_SEPARATOR.length()).split("[/@-]");
+            final FileChunk chunk = new FileChunk(
+                Integer.parseInt(parts[0]),
+                Integer.parseInt(parts[1]),
+                Long.parseLong(parts[2]),
+                Long.parseLong(parts[3]));
+            return KeyValuePair.of(path, chunk);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid encoded file chunk : " + encoded, e);
+        }
+    }
+
+    /**
+     * Creates a new {@link FileChunk} instance.
+     *
+     * @param index         the index of the chunk.
+     * @param count         the total number of chunks for the file.
+     * @param startPosition the start position (inclusive) in bytes.
+     * @param endPosition   the end position (exclusive) in bytes.
+     */
+    public FileChunk(final int index,
+                     final int count,
+                     final long startPosition,
+                     final long endPosition) {
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid chunk index " + index + " (count=" + count + ")");
+        }
+        this.index = index;
+        this.count = count;
+        this.startPosition = startPosition;
+        this.endPosition = endPosition;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long startPosition() {
+        return startPosition;
+    }
+
+    public long endPosition() {
+        return endPosition;
+    }
+
+    /**
+     * Encodes this chunk with the specified file path so that it can be passed in a task configuration.
+     *
+     * @param path  the file path.
+     * @return      the encoded string.
+     */
+    public String encode(final String path) {
+        return path + CHUNK_SEPARATOR + index + "/" + count + "@" + startPosition + "-" + endPosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FileChunk)) return false;
+        FileChunk that = (FileChunk) o;
+        return index == that.index &&
+                count == that.count &&
+                startPosition == that.startPosition &&
+                endPosition == that.endPosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, count, startPosition, endPosition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" +
+                "index=" + index +
+                ", count=" + count +
+                ", startPosition=" + startPosition +
+                ", endPosition=" + endPosition +
+                ']';
+    }
+}
@@ -28,6 +28,9 @@ public class FileContext {
 
     private final SourceOffset offset;
 
+    // The chunk of the file to be read, or null if the whole file must be read.
+    private final FileChunk chunk;
+
     /**
      * Creates a new {@link FileContext} instance.
      *
@@ -45,10 +48,24 @@ public class FileContext {
      */
     public FileContext(final SourceMetadata metadata,
                        final SourceOffset offset) {
+        this(metadata, offset, null);
+    }
+
+    /**
+     * Creates a new {@link FileContext} instance.
+     *
+     * @param metadata  the source metadata.
+     * @param offset    teh source startPosition.
+     * @param chunk     the file chunk to be read, or {@code null} for the whole file.
+     */
+    public FileContext(final SourceMetadata metadata,
+                       final SourceOffset offset,
+                       final FileChunk chunk) {
         Objects.requireNonNull(metadata, "metadata can't be null");
         Objects.requireNonNull(offset, "startPosition can't be null");
         this.metadata = metadata;
         this.offset = offset;
+        this.chunk = chunk;
     }
 
     /**
@@ -78,8 +95,17 @@ public class FileContext {
         return offset;
     }
     
+    /**
+     * Returns the chunk of this file to be read.
+     *
+     * @return the {@link FileChunk} instance, or {@code null} if the whole file must be read.
+     */
+    public FileChunk chunk() {
+        return chunk;
+    }
+
     public FileContext withOffset(final SourceOffset offset) {
-        return new FileContext(metadata, offset);
+        return new FileContext(metadata, offset, chunk);
     }
 
     /**
@@ -91,7 +117,8 @@ public class FileContext {
         if (!(o instanceof FileContext)) return false;
         FileContext that = (FileContext) o;
         return Objects.equals(metadata, that.metadata) &&
-                Objects.equals(offset, that.offset);
+                Objects.equals(offset, that.offset) &&
+                Objects.equals(chunk, that.chunk);
     }
 
     /**
@@ -99,7 +126,7 @@ public class FileContext {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(metadata, offset);
+        return Objects.hash(metadata, offset, chunk);
     }
 
     @Override
@@ -107,6 +134,7 @@ public class FileContext {
         return "[" +
                 "metadata=" + metadata +
                 ", offset=" + offset +
+                ", chunk=" + chunk +
                 ']';
     }
 }
\ No newline at end of file
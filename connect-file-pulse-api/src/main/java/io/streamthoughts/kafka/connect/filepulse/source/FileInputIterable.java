@@ -35,6 +35,7 @@ public class FileInputIterable implements Iterable<RecordsIterable<FileRecord<Ty
     private final File file;
     private final FileInputReader reader;
     private SourceMetadata metadata;
+    private final FileChunk chunk;
     private FileInputIterator<FileRecord<TypedStruct>> iterator;
 
     private AtomicBoolean isOpen = new AtomicBoolean(false);
@@ -46,10 +47,22 @@ public class FileInputIterable implements Iterable<RecordsIterable<FileRecord<Ty
      * @param reader the input source reader used to create a new {@link FileInputIterator}.
      */
     FileInputIterable(final File source, final FileInputReader reader) {
+        this(source, reader, null);
+    }
+
+    /**
+     * Creates a new {@link FileInputIterable} instance.
+     *
+     * @param source the input source file.
+     * @param reader the input source reader used to create a new {@link FileInputIterator}.
+     * @param chunk  the chunk of the file to be read, or {@code null} for the whole file.
+     */
+    FileInputIterable(final File source, final FileInputReader reader, final FileChunk chunk) {
         Objects.requireNonNull(source, "source can't be null");
         Objects.requireNonNull(reader, "reader can't be null");
         this.file = source;
         this.reader = reader;
+        this.chunk = chunk;
         this.metadata = SourceMetadata.fromFile(source);
     }
 
@@ -60,8 +73,8 @@ public class FileInputIterable implements Iterable<RecordsIterable<FileRecord<Ty
      * @return a new {@link FileInputIterator} instance.
      */
     public FileInputIterator<FileRecord<TypedStruct>> open(final SourceOffset offset) {
-        LOG.info("Opening new iterator for source : {}", metadata);
-        iterator = reader.newIterator(new FileContext(metadata));
+        LOG.info("Opening new iterator for source : {} (chunk={})", metadata, chunk);
+        iterator = reader.newIterator(new FileContext(metadata, SourceOffset.empty(), chunk));
         iterator.seekTo(offset);
         isOpen.set(true);
         return iterator;
@@ -71,6 +84,20 @@ public class FileInputIterable implements Iterable<RecordsIterable<FileRecord<Ty
         return metadata;
     }
 
+    public FileChunk chunk() {
+        return chunk;
+    }
+
+    /**
+     * Returns a new context for this source, positioned at the specified offset.
+     *
+     * @param offset    the source offset.
+     * @return a new {@link FileContext} instance.
+     */
+    FileContext context(final SourceOffset offset) {
+        return new FileContext(metadata, offset, chunk);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -85,7 +112,11 @@ public class FileInputIterable implements Iterable<RecordsIterable<FileRecord<Ty
     }
 
     boolean isValid() {
-        return file.exists() && file.canRead();
+        // An archive entry is read directly from its archive.
+        final File source = ArchiveEntry.isEntryPath(file.getPath()) ?
+            ArchiveEntry.fromPath(file.getPath()).archive() :
+            file;
+        return source.exists() && source.canRead();
     }
 
     public File file() {
@@ -106,9 +137,13 @@ public class FileInputIterable implements Iterable<RecordsIterable<FileRecord<Ty
     }
 
     static boolean isAlreadyCompleted(final SourceOffset committedOffset,
-                                      final SourceMetadata metadata) {
+                                      final SourceMetadata metadata,
+                                      final FileChunk chunk) {
+        final long end = chunk != null ? chunk.endPosition() : metadata.size();
+        // The end of a source with an unknown size (e.g an archive entry) is only known once read.
         return committedOffset != null &&
-                committedOffset.position() >= metadata.size();
+                end >= 0 &&
+                committedOffset.position() >= end;
     }
 
 }
\ No newline at end of file
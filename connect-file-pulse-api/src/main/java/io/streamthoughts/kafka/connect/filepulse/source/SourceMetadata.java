@@ -28,6 +28,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.zip.CRC32;
 
@@ -52,6 +53,9 @@ public class SourceMetadata implements Comparable<SourceMetadata> {
      */
     public static SourceMetadata fromFile(final File file) {
         Objects.requireNonNull(file);
+        if (ArchiveEntry.isEntryPath(file.getPath())) {
+            return fromArchiveEntry(ArchiveEntry.fromPath(file.getPath()));
+        }
         try {
             long hash = hash(file);
             return new SourceMetadata(
@@ -67,6 +71,37 @@ public class SourceMetadata implements Comparable<SourceMetadata> {
         }
     }
 
+    /**
+     * Creates a new {@link SourceMetadata} for the specified archive entry.
+     *
+     * The size of an entry is unknown (i.e {@code -1}) until it is fully read, and its hash is computed
+     * from the archive file and the entry name so that each entry is tracked independently.
+     *
+     * @param entry an archive entry.
+     * @return a new {@link SourceMetadata} instance.
+     */
+    public static SourceMetadata fromArchiveEntry(final ArchiveEntry entry) {
+        Objects.requireNonNull(entry);
+        final File archive = entry.archive();
+        try {
+            final CRC32 crc32 = new CRC32();
+            crc32.update(longToBytes(hash(archive)));
+            crc32.update(entry.name().getBytes(StandardCharsets.UTF_8));
+            // The entry is located as if the archive was a directory suffixed by '!'.
+            return new SourceMetadata(
+                entry.name(),
+                ArchiveEntry.SCHEME + archive.getAbsolutePath() + "!",
+                -1L,
+                archive.lastModified(),
+                IOUtils.getUnixInode(archive).orElse(null),
+                crc32.getValue());
+        } catch (IOException e) {
+            throw new ConnectFilePulseException(
+                "Error while computing CRC32 hash for archive : " + archive.getName()
+                + " - " + e.getLocalizedMessage());
+        }
+    }
+
     /**
      * Creates a new {@link SourceMetadata} instance.
      *
@@ -117,7 +152,14 @@ public class SourceMetadata implements Comparable<SourceMetadata> {
     }
 
     public String absolutePath() {
-        return new File(path, name).getAbsolutePath();
+        return isArchiveEntry() ? path + "/" + name : new File(path, name).getAbsolutePath();
+    }
+
+    /**
+     * @return {@code true} if this source is an entry streamed from an archive (see {@link ArchiveEntry}).
+     */
+    public boolean isArchiveEntry() {
+        return ArchiveEntry.isEntryPath(path);
     }
 
     public ConnectHeaders toConnectHeader() {
@@ -16,8 +16,10 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.source;
 
+import io.streamthoughts.kafka.connect.filepulse.data.Schema;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
+import io.streamthoughts.kafka.connect.filepulse.data.WideningSchema;
 import io.streamthoughts.kafka.connect.filepulse.source.internal.ConnectSchemaMapper;
 import io.streamthoughts.kafka.connect.filepulse.source.internal.InternalSourceRecordBuilder;
 import org.apache.kafka.connect.header.ConnectHeaders;
@@ -31,6 +33,9 @@ public class TypedFileRecord extends AbstractFileRecord<TypedStruct> {
 
     private final InternalSourceRecordBuilder internalSourceRecordBuilder;
 
+    // The schema of the records of the file this record is read from, if any.
+    private WideningSchema fileSchema;
+
     /**
      * Creates a new {@link TypedFileRecord} instance.
      *
@@ -41,11 +46,15 @@ public class TypedFileRecord extends AbstractFileRecord<TypedStruct> {
                            final TypedStruct struct) {
         super(offset, struct);
         this.internalSourceRecordBuilder = new InternalSourceRecordBuilder(
-                () -> struct.schema()
-                            .map(ConnectSchemaMapper.INSTANCE, struct)
+                () -> valueSchema().map(ConnectSchemaMapper.INSTANCE, struct)
         );
     }
 
+    private Schema valueSchema() {
+        final Schema schema = value().schema();
+        return fileSchema != null ? fileSchema.widen(schema) : schema;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -64,6 +73,18 @@ public class TypedFileRecord extends AbstractFileRecord<TypedStruct> {
         );
     }
 
+    /**
+     * Sets the schema of the records of the file this record is read from, which is widened
+     * with the schema of this record when this record is converted to a {@link SourceRecord}.
+     *
+     * @param fileSchema    the {@link WideningSchema} of the file.
+     * @return              {@code this}
+     */
+    public TypedFileRecord withFileSchema(final WideningSchema fileSchema) {
+        this.fileSchema = fileSchema;
+        return this;
+    }
+
     public TypedFileRecord withTopic(final String topic) {
         internalSourceRecordBuilder.withTopic(topic);
         return this;
@@ -23,9 +23,12 @@ import io.streamthoughts.kafka.connect.filepulse.data.SchemaMapper;
 import io.streamthoughts.kafka.connect.filepulse.data.SchemaMapperWithValue;
 import io.streamthoughts.kafka.connect.filepulse.data.SimpleSchema;
 import io.streamthoughts.kafka.connect.filepulse.data.StructSchema;
+import io.streamthoughts.kafka.connect.filepulse.data.Type;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedField;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
+import io.streamthoughts.kafka.connect.filepulse.internal.BoundedConcurrentCache;
+import org.apache.kafka.common.cache.Cache;
 import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
@@ -34,22 +37,51 @@ import org.apache.kafka.connect.data.Struct;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class ConnectSchemaMapper implements SchemaMapper<Schema>, SchemaMapperWithValue<SchemaAndValue> {
 
     private static final Object DEFAULT_NULL_VALUE = null;
 
+    static final int DEFAULT_MAX_CACHED_SCHEMAS = 1000;
+
     public static final ConnectSchemaMapper INSTANCE = new ConnectSchemaMapper();
 
+    /**
+     * The connect schemas already built, keyed by the structural fingerprint of the schema they have been built from,
+     * so that records with the same structure share the same connect schema instance. As distinct structures may have
+     * the same fingerprint, a cached schema is only reused if it has been built from an equal schema.
+     */
+    private final Cache<Long, CachedSchema> schemas;
+
+    /**
+     * Creates a new {@link ConnectSchemaMapper} instance.
+     */
+    public ConnectSchemaMapper() {
+        this(DEFAULT_MAX_CACHED_SCHEMAS);
+    }
+
+    /**
+     * Creates a new {@link ConnectSchemaMapper} instance.
+     *
+     * @param maxCachedSchemas  the maximum number of connect schemas to cache.
+     */
+    ConnectSchemaMapper(final int maxCachedSchemas) {
+        // the mapper is shared by all the tasks of the JVM, thus looking up a schema must never lock.
+        this.schemas = new BoundedConcurrentCache<>(maxCachedSchemas);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Schema map(final MapSchema schema) {
-        final Schema keySchema = schema.keySchema().map(this);
-        final Schema valueSchema = schema.valueSchema().map(this);
-        return asNullableAndOptional(SchemaBuilder.map(keySchema, valueSchema)).build();
+        return getOrBuild(schema, () -> {
+            final Schema keySchema = schema.keySchema().map(this);
+            final Schema valueSchema = mapValueSchema(schema.valueSchema());
+            return asNullableAndOptional(SchemaBuilder.map(keySchema, valueSchema)).build();
+        });
     }
 
     /**
@@ -57,8 +89,10 @@ public class ConnectSchemaMapper implements SchemaMapper<Schema>, SchemaMapperWi
      */
     @Override
     public Schema map(final ArraySchema schema) {
-        Schema valueSchema = schema.valueSchema().map(this);
-        return asNullableAndOptional(SchemaBuilder.array(valueSchema)).build();
+        return getOrBuild(schema, () -> {
+            Schema valueSchema = mapValueSchema(schema.valueSchema());
+            return asNullableAndOptional(SchemaBuilder.array(valueSchema)).build();
+        });
     }
 
     /**
@@ -66,11 +100,13 @@ public class ConnectSchemaMapper implements SchemaMapper<Schema>, SchemaMapperWi
      */
     @Override
     public Schema map(final StructSchema schema) {
-        SchemaBuilder sb = SchemaBuilder.struct();
-        for(final TypedField field : schema) {
-            sb.field(field.name(), field.schema().map(this)).optional();
-        }
-        return sb.build();
+        return getOrBuild(schema, () -> {
+            SchemaBuilder sb = SchemaBuilder.struct();
+            for(final TypedField field : schema) {
+                sb.field(field.name(), field.schema().map(this)).optional();
+            }
+            return sb.build();
+        });
     }
 
     /**
@@ -78,7 +114,30 @@ public class ConnectSchemaMapper implements SchemaMapper<Schema>, SchemaMapperWi
      */
     @Override
     public Schema map(final SimpleSchema schema) {
-        return asNullableAndOptional(new SchemaBuilder(schema.type().schemaType())).build();
+        return getOrBuild(schema, () -> asNullableAndOptional(new SchemaBuilder(schema.type().schemaType())).build());
+    }
+
+    private Schema mapValueSchema(final io.streamthoughts.kafka.connect.filepulse.data.Schema valueSchema) {
+        // the elements of an array or a map without non-null elements are not typed, they are mapped as strings.
+        if (valueSchema.type() == Type.NULL) {
+            return io.streamthoughts.kafka.connect.filepulse.data.Schema.string().map(this);
+        }
+        return valueSchema.map(this);
+    }
+
+    private Schema getOrBuild(final io.streamthoughts.kafka.connect.filepulse.data.Schema schema,
+                              final Supplier<Schema> builder) {
+        final Long key = schema.fingerprint();
+        final CachedSchema cached = schemas.get(key);
+        if (cached != null && cached.isBuiltFrom(schema)) {
+            return cached.connectSchema;
+        }
+        final Schema connectSchema = builder.get();
+        // the interned schema is an eager copy which does not retain the values of a lazy schema.
+        final io.streamthoughts.kafka.connect.filepulse.data.Schema interned =
+            io.streamthoughts.kafka.connect.filepulse.data.Schema.intern(schema);
+        schemas.put(key, new CachedSchema(interned, connectSchema));
+        return connectSchema;
     }
 
     private static SchemaBuilder asNullableAndOptional(final SchemaBuilder sb) {
@@ -121,23 +180,42 @@ public class ConnectSchemaMapper implements SchemaMapper<Schema>, SchemaMapperWi
         return new SchemaAndValue(schema.map(this), value);
     }
 
+    private static final class CachedSchema {
+
+        private final io.streamthoughts.kafka.connect.filepulse.data.Schema schema;
+        private final Schema connectSchema;
+
+        CachedSchema(final io.streamthoughts.kafka.connect.filepulse.data.Schema schema,
+                     final Schema connectSchema) {
+            this.schema = schema;
+            this.connectSchema = connectSchema;
+        }
+
+        boolean isBuiltFrom(final io.streamthoughts.kafka.connect.filepulse.data.Schema schema) {
+            return this.schema == schema || this.schema.equals(schema);
+        }
+    }
+
     private static Struct toConnectStruct(final Schema connectSchema, final TypedStruct struct) {
         final Struct connectStruct = new Struct(connectSchema);
         for (Field field : connectSchema.fields()) {
-            final TypedValue typed = struct.get(field.name());
-            final Schema fieldSchema = field.schema();
-
-            if (fieldSchema.type() != typed.type().schemaType()) {
-                throw new DataException("types do not match " + fieldSchema.type() + "<>" + typed.type());
+            // the schema may have been merged from the structs of an array, in which some fields can be missing.
+            if (!struct.has(field.name())) {
+                continue;
             }
-
-            connectStruct.put(field, toConnectObject(fieldSchema, typed));
+            final TypedValue typed = struct.get(field.name());
+            connectStruct.put(field, toConnectObject(field.schema(), typed));
         }
         return connectStruct;
     }
 
     private static Object toConnectObject(final Schema schema, final TypedValue typed) {
-        if (schema.type() != typed.type().schemaType()) {
+        if (typed.isNull()) {
+            return null;
+        }
+
+        final Type type = Type.forClass(typed.value().getClass());
+        if (type == null || !isAssignable(schema.type(), typed.type().schemaType())) {
             throw new DataException("types do not match " + schema.type() + "<>" + typed.type());
         }
 
@@ -174,6 +252,30 @@ public class ConnectSchemaMapper implements SchemaMapper<Schema>, SchemaMapperWi
                 .map(e -> toConnectObject(connectValueSchema, TypedValue.of(e, valueSchema)))
                 .collect(Collectors.toList());
         }
+
+        // the value may be narrower than the type inferred from all the elements of an array or a map,
+        // or from all the records of a file.
+        if (type.schemaType() != schema.type()) {
+            return Type.forConnectSchemaType(schema.type()).convert(typed.value());
+        }
         return typed.value();
     }
+
+    private static boolean isAssignable(final Schema.Type target, final Schema.Type type) {
+        return target == type || isNumeric(target) && isNumeric(type);
+    }
+
+    private static boolean isNumeric(final Schema.Type type) {
+        switch (type) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case FLOAT32:
+            case FLOAT64:
+                return true;
+            default:
+                return false;
+        }
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.data;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class SchemaFingerprintTest {
+
+    @Test
+    public void shouldReturnSameFingerprintGivenEagerAndLazySchemasWithSameStructure() {
+        final TypedStruct struct = new TypedStruct()
+                .put("field-1", "value")
+                .put("field-2", Arrays.asList(1L, 2L))
+                .put("field-3", Collections.singletonMap("key", "value"));
+
+        final StructSchema expected = Schema.struct()
+                .field("field-1", Schema.string())
+                .field("field-2", Schema.array(Schema.int64()))
+                .field("field-3", Schema.map(Schema.string()));
+
+        assertEquals(expected.fingerprint(), struct.schema().fingerprint());
+        assertEquals(expected, struct.schema());
+        assertEquals(expected.hashCode(), struct.schema().hashCode());
+    }
+
+    @Test
+    public void shouldReturnDifferentFingerprintsGivenSchemasWithDifferentStructures() {
+        final StructSchema schema = Schema.struct()
+                .field("a", Schema.string())
+                .field("b", Schema.int32());
+
+        final StructSchema reordered = Schema.struct()
+                .field("b", Schema.int32())
+                .field("a", Schema.string());
+
+        assertNotEquals(schema.fingerprint(), reordered.fingerprint());
+        assertNotEquals(schema.fingerprint(), Schema.struct().field("a", Schema.string()).fingerprint());
+        assertNotEquals(Schema.array(Schema.string()).fingerprint(), Schema.map(Schema.string()).fingerprint());
+        assertNotEquals(Schema.string().fingerprint(), Schema.int64().fingerprint());
+    }
+
+    @Test
+    public void shouldUpdateFingerprintGivenFieldAddedAfterFirstUse() {
+        final StructSchema schema = Schema.struct().field("a", Schema.string());
+        final long before = schema.fingerprint();
+        schema.field("b", Schema.bool());
+
+        final StructSchema expected = Schema.struct()
+                .field("a", Schema.string())
+                .field("b", Schema.bool());
+        assertNotEquals(before, schema.fingerprint());
+        assertEquals(expected.fingerprint(), schema.fingerprint());
+    }
+
+    @Test
+    public void shouldReturnSameInstanceGivenInternedSchemasWithSameStructure() {
+        final Schema lazy = new TypedStruct().put("field", Arrays.asList("a", "b")).schema();
+        final Schema eager = Schema.struct().field("field", Schema.array(Schema.string()));
+
+        final Schema interned = Schema.intern(lazy);
+        assertSame(interned, Schema.intern(eager));
+        assertEquals(eager, interned);
+        assertFalse(((StructSchema) interned).field("field").schema() instanceof LazyArraySchema);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.data;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TypedStructBatchTest {
+
+    private static final String FIELD_1 = "field-1";
+    private static final String FIELD_2 = "field-2";
+    private static final String FIELD_3 = "field-3";
+
+    @Test
+    public void shouldReturnNullGivenStructsWithDifferentFields() {
+        final List<TypedStruct> structs = Arrays.asList(
+            new TypedStruct().put(FIELD_1, "a"),
+            new TypedStruct().put(FIELD_2, "b")
+        );
+        assertNull(TypedStructBatch.of(structs));
+    }
+
+    @Test
+    public void shouldMaterializeStructsGivenModifiedColumns() {
+        final List<TypedStruct> structs = Arrays.asList(
+            new TypedStruct().put(FIELD_1, "a").put(FIELD_2, "1"),
+            new TypedStruct().put(FIELD_1, "b").put(FIELD_2, "2")
+        );
+        final TypedStructBatch batch = TypedStructBatch.of(structs);
+        assertNotNull(batch);
+        assertArrayEquals(new Object[]{"1", "2"}, batch.column(FIELD_2));
+
+        batch.put(FIELD_2, Schema.int32(), new Object[]{1, 2})
+             .rename(FIELD_1, FIELD_3)
+             .put(FIELD_1, Schema.bool(), new Object[]{true, false});
+
+        final List<TypedStruct> rows = batch.toStructs();
+        assertEquals(2, rows.size());
+        assertEquals(new TypedStruct().put(FIELD_3, "a").put(FIELD_2, 1).put(FIELD_1, true), rows.get(0));
+        assertEquals(new TypedStruct().put(FIELD_3, "b").put(FIELD_2, 2).put(FIELD_1, false), rows.get(1));
+        assertEquals("a", structs.get(0).getString(FIELD_1));
+    }
+
+    @Test
+    public void shouldReplaceExistingFieldGivenRenamedField() {
+        final TypedStructBatch batch = new TypedStructBatch(1)
+            .put(FIELD_1, Schema.string(), new Object[]{"a"})
+            .put(FIELD_2, Schema.string(), new Object[]{"b"})
+            .rename(FIELD_2, FIELD_1);
+
+        assertEquals(Arrays.asList(FIELD_1), batch.fieldNames());
+        assertArrayEquals(new Object[]{"b"}, batch.column(FIELD_1));
+        batch.remove(FIELD_1);
+        assertEquals(new TypedStruct(), batch.toStructs().get(0));
+    }
+}
@@ -2,6 +2,8 @@ package io.streamthoughts.kafka.connect.filepulse.data;
 
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.*;
 
 public class TypedStructTest {
@@ -65,4 +67,94 @@ public class TypedStructTest {
         assertFalse(struct.has(STRING_FIELD_1));
         assertTrue(struct.has(STRING_FIELD_2));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldKeepValuesGivenRemovedField() {
+        final TypedStruct struct = new TypedStruct()
+                .put(STRING_FIELD_1, STRING_VALUE_1)
+                .put(STRING_FIELD_2, STRING_VALUE_2)
+                .put(STRING_FIELD_3, STRING_VALUE_3);
+
+        struct.remove(STRING_FIELD_1);
+
+        assertEquals(STRING_VALUE_2, struct.getString(STRING_FIELD_2));
+        assertEquals(STRING_VALUE_3, struct.getString(STRING_FIELD_3));
+        assertEquals(new TypedStruct().put(STRING_FIELD_2, STRING_VALUE_2).put(STRING_FIELD_3, STRING_VALUE_3), struct);
+    }
+
+    @Test
+    public void shouldReplaceExistingFieldGivenRenamedField() {
+        final TypedStruct struct = new TypedStruct()
+                .put(STRING_FIELD_1, STRING_VALUE_1)
+                .put(STRING_FIELD_2, STRING_VALUE_2);
+
+        struct.rename(STRING_FIELD_2, STRING_FIELD_1);
+
+        assertFalse(struct.has(STRING_FIELD_2));
+        assertEquals(STRING_VALUE_2, struct.getString(STRING_FIELD_1));
+        assertEquals(0, struct.field(STRING_FIELD_1).index());
+    }
+
+    @Test
+    public void shouldShareShapeGivenStructsWithSameFields() {
+        final TypedStruct struct1 = new TypedStruct()
+                .put(STRING_FIELD_1, STRING_VALUE_1)
+                .put(STRING_FIELD_2, STRING_VALUE_2);
+        final TypedStruct struct2 = new TypedStruct()
+                .put(STRING_FIELD_1, STRING_VALUE_2)
+                .put(STRING_FIELD_2, STRING_VALUE_1)
+                .put(STRING_FIELD_3, STRING_VALUE_3)
+                .remove(STRING_FIELD_3);
+
+        assertSame(struct1.shape(), struct2.shape());
+        assertNotEquals(struct1, struct2);
+    }
+
+    @Test
+    public void shouldShareShapeGivenManyDistinctFieldsPreviouslyAdded() {
+        for (int i = 0; i < 20_000; i++) {
+            new TypedStruct().put(STRING_FIELD_1 + i, STRING_VALUE_1);
+        }
+        final TypedStruct struct1 = new TypedStruct().put(STRING_FIELD_1, STRING_VALUE_1);
+        final TypedStruct struct2 = new TypedStruct().put(STRING_FIELD_1, STRING_VALUE_2);
+
+        assertSame(struct1.shape(), struct2.shape());
+    }
+
+    @Test
+    public void shouldComputeLazyFieldOnlyOnceWhenAccessed() {
+        final AtomicInteger computed = new AtomicInteger();
+        final TypedStruct struct = new TypedStruct()
+                .put(STRING_FIELD_1, STRING_VALUE_1)
+                .putLazy(STRING_FIELD_2, () -> {
+                    computed.incrementAndGet();
+                    return TypedValue.string(STRING_VALUE_2);
+                });
+
+        assertEquals(STRING_VALUE_1, struct.getString(STRING_FIELD_1));
+        assertEquals(0, computed.get());
+        assertEquals(STRING_VALUE_2, struct.getString(STRING_FIELD_2));
+        assertEquals(Schema.string(), struct.field(STRING_FIELD_2).schema());
+        assertEquals(1, computed.get());
+        assertEquals(new TypedStruct()
+                .put(STRING_FIELD_1, STRING_VALUE_1)
+                .put(STRING_FIELD_2, STRING_VALUE_2), struct);
+    }
+
+    @Test
+    public void shouldNotComputeLazyFieldWhenPuttingStructIntoAnotherStruct() {
+        final AtomicInteger computed = new AtomicInteger();
+        final TypedStruct nested = new TypedStruct()
+                .putLazy(STRING_FIELD_2, () -> {
+                    computed.incrementAndGet();
+                    return TypedValue.string(STRING_VALUE_2);
+                });
+        final TypedStruct struct = new TypedStruct().put(STRING_FIELD_1, nested);
+
+        assertEquals(Type.STRUCT, struct.field(STRING_FIELD_1).type());
+        assertEquals(0, computed.get());
+        assertEquals(Schema.struct().field(STRING_FIELD_2, Schema.string()), struct.field(STRING_FIELD_1).schema());
+        assertEquals(1, computed.get());
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.data;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class WideningSchemaTest {
+
+    @Test
+    public void shouldReturnSameSchemaGivenStructsWithSameOrNarrowerSchemas() {
+        final WideningSchema schema = new WideningSchema();
+
+        final Schema first = schema.widen(new TypedStruct().put("a", "value").put("b", 1L).schema());
+        assertSame(first, schema.widen(new TypedStruct().put("a", "other").put("b", 2L).schema()));
+        assertSame(first, schema.widen(new TypedStruct().put("b", 1).schema()));
+    }
+
+    @Test
+    public void shouldWidenSchemaGivenStructsWithNewFieldsAndWiderTypes() {
+        final WideningSchema schema = new WideningSchema();
+
+        schema.widen(new TypedStruct().put("a", "value").put("b", 1).schema());
+        final Schema widened = schema.widen(new TypedStruct().put("b", 1L).put("c", true).schema());
+
+        final StructSchema expected = Schema.struct()
+                .field("a", Schema.string())
+                .field("b", Schema.int64())
+                .field("c", Schema.bool());
+        assertEquals(expected, widened);
+    }
+
+    @Test
+    public void shouldTypeArrayElementsGivenEmptyArrayFollowedByNonEmptyArray() {
+        final WideningSchema schema = new WideningSchema();
+
+        final Schema empty = schema.widen(new TypedStruct().put("a", Collections.emptyList()).schema());
+        assertEquals(Type.NULL, ((ArraySchema) ((StructSchema) empty).field("a").schema()).valueSchema().type());
+
+        final Schema typed = schema.widen(new TypedStruct().put("a", Arrays.asList(1L, 2L)).schema());
+        assertEquals(Schema.struct().field("a", Schema.array(Schema.int64())), typed);
+        assertSame(typed, schema.widen(new TypedStruct().put("a", Collections.emptyList()).schema()));
+    }
+
+    @Test
+    public void shouldReturnObservedSchemaGivenStructWithIncompatibleFieldType() {
+        final WideningSchema schema = new WideningSchema();
+
+        final Schema first = schema.widen(new TypedStruct().put("a", "value").schema());
+        final StructSchema incompatible = new TypedStruct().put("a", true).schema();
+        assertSame(incompatible, schema.widen(incompatible));
+        assertSame(first, schema.widen(new TypedStruct().put("a", "other").schema()));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.data.internal;
+
+import io.streamthoughts.kafka.connect.filepulse.data.DataException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+
+public class TypeConverterTest {
+
+    @Test
+    public void shouldParseIntegralNumbersGivenStrings() {
+        for (String s : new String[]{"0", "-1", "42", "-32768", "2147483648", "-9223372036854775807",
+                "9223372036854775807", "123456789012345678901234567890"}) {
+            final BigDecimal expected = new BigDecimal(s);
+            assertEquals(s, expected.shortValue(), (short) TypeConverter.getShort(s));
+            assertEquals(s, expected.intValue(), (int) TypeConverter.getInt(s));
+            assertEquals(s, expected.longValue(), (long) TypeConverter.getLong(s));
+            assertEquals(s, expected.floatValue(), TypeConverter.getFloat(s), 0.0f);
+            assertEquals(s, expected.doubleValue(), TypeConverter.getDouble(s), 0.0);
+        }
+    }
+
+    @Test
+    public void shouldParseIntegralNumbersGivenCharSequence() {
+        assertEquals(Long.valueOf(1234L), TypeConverter.getLong(new StringBuilder("1234")));
+        assertEquals(new Date(1234L), TypeConverter.getDate(new StringBuilder("1234")));
+    }
+
+    @Test(expected = DataException.class)
+    public void shouldThrowExceptionGivenNonIntegralString() {
+        TypeConverter.getInt("1.5");
+    }
+}
@@ -16,9 +16,11 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.data.merger;
 
+import io.streamthoughts.kafka.connect.filepulse.data.Schema;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.junit.Assert.*;
@@ -27,9 +29,13 @@ public class TypeValueMergerTest {
 
     private static final String FIELD_VALUE_A = "a";
     private static final String FIELD_VALUE_B = "b";
+    private static final String FIELD_VALUE_C = "c";
+    private static final String FIELD_VALUE_D = "d";
 
     private static final String VALUE_A = "value-a";
     private static final String VALUE_B = "value-b";
+    private static final String VALUE_C = "value-c";
+    private static final String VALUE_D = "value-d";
 
     private final TypeValueMerger merger = new DefaultTypeValueMerger();
 
@@ -130,4 +136,36 @@ public class TypeValueMergerTest {
         assertEquals(VALUE_A,  merged.getArray(FIELD_VALUE_A).get(0));
         assertEquals(VALUE_B,  merged.getArray(FIELD_VALUE_A).get(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldKeepLeftFieldsOrderGivenOverwrittenAndNewFields() {
+        final TypedStruct structLeft = new TypedStruct()
+                .put(FIELD_VALUE_A, VALUE_A)
+                .put(FIELD_VALUE_B, VALUE_B)
+                .put(FIELD_VALUE_C, VALUE_C);
+
+        final TypedStruct structRight = new TypedStruct()
+                .put(FIELD_VALUE_D, VALUE_D)
+                .put(FIELD_VALUE_A, VALUE_B);
+
+        final TypedStruct merged = merger.merge(structLeft, structRight, Collections.singleton(FIELD_VALUE_A));
+
+        assertEquals(Arrays.asList(FIELD_VALUE_B, FIELD_VALUE_C, FIELD_VALUE_D, FIELD_VALUE_A), merged.fieldNames());
+        assertEquals(VALUE_B,  merged.getString(FIELD_VALUE_A));
+        assertEquals(Arrays.asList(FIELD_VALUE_A, FIELD_VALUE_B, FIELD_VALUE_C), structLeft.fieldNames());
+        assertEquals(VALUE_A,  structLeft.getString(FIELD_VALUE_A));
+    }
+
+    @Test
+    public void shouldKeepArrayValueSchemaGivenLeftFieldWithArrayType() {
+        final TypedStruct structLeft = new TypedStruct()
+                .put(FIELD_VALUE_A, Collections.singletonList(VALUE_A));
+
+        final TypedStruct structRight = new TypedStruct()
+                .put(FIELD_VALUE_A, VALUE_B);
+
+        final TypedStruct merged = merger.merge(structLeft, structRight, Collections.emptySet());
+
+        assertEquals(Schema.array(Schema.string()), merged.field(FIELD_VALUE_A).schema());
+    }
+}
@@ -16,7 +16,9 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.filter;
 
+import io.streamthoughts.kafka.connect.filepulse.data.Schema;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStructBatch;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
@@ -199,6 +201,106 @@ public class DefaultRecordFilterPipelineTest {
         assertEquals(record2, records.collect().get(0));
     }
 
+    @Test
+    public void shouldOnlyReturnRecordsFilteredByLastInvocation() {
+
+        final FileRecord<TypedStruct> record1 = createWithOffsetAndValue(FileRecordOffset.with(1, 0), "value1");
+        final FileRecord<TypedStruct> record2 = createWithOffsetAndValue(FileRecordOffset.with(2, 0), "value2");
+
+        final TestFilter filter = new TestFilter()
+                .setFunction(((context, record, hasNext) -> RecordsIterable.of(record, record)));
+
+        DefaultRecordFilterPipeline pipeline = new DefaultRecordFilterPipeline(Collections.singletonList(filter));
+        pipeline.init(context);
+
+        assertEquals(2, pipeline.apply(new RecordsIterable<>(record1), true).size());
+        RecordsIterable<FileRecord<TypedStruct>> records = pipeline.apply(new RecordsIterable<>(record2), false);
+
+        assertEquals(2, records.size());
+        assertEquals(record2.value(), records.collect().get(0).value());
+        assertEquals(record2.value(), records.last().value());
+    }
+
+    @Test
+    public void shouldApplyColumnarFilterOnBatchThenRemainingFiltersOnEachRecord() {
+
+        final FileRecord<TypedStruct> record1 = createWithOffsetAndValue(FileRecordOffset.with(1, 0), "value1");
+        final FileRecord<TypedStruct> record2 = createWithOffsetAndValue(FileRecordOffset.with(2, 0), "value2");
+
+        final ColumnarTestFilter filter1 = new ColumnarTestFilter();
+        filter1.setException(new RuntimeException("per-record filtering is not expected"));
+
+        final TestFilter filter2 = new TestFilter()
+                .setFunction(((context, record, hasNext) -> RecordsIterable.of(record.put("hasNext", hasNext))));
+
+        DefaultRecordFilterPipeline pipeline = new DefaultRecordFilterPipeline(Arrays.asList(filter1, filter2));
+        pipeline.init(context);
+
+        List<FileRecord<TypedStruct>> records = pipeline.apply(new RecordsIterable<>(record1, record2), false).collect();
+
+        assertEquals(2, records.size());
+        assertEquals("VALUE1", records.get(0).value().getString("message"));
+        assertEquals("VALUE2", records.get(1).value().getString("message"));
+        assertEquals(true, records.get(0).value().getBoolean("hasNext"));
+        assertEquals(false, records.get(1).value().getBoolean("hasNext"));
+        assertEquals(record1.offset(), records.get(0).offset());
+        assertEquals(record2.offset(), records.get(1).offset());
+    }
+
+    @Test
+    public void shouldFilterEachRecordGivenColumnarFilterFailingOnBatch() {
+
+        final FileRecord<TypedStruct> record1 = createWithOffsetAndValue(FileRecordOffset.with(1, 0), "value1");
+        final FileRecord<TypedStruct> record2 = createWithOffsetAndValue(FileRecordOffset.with(2, 0), "value2");
+
+        final ColumnarTestFilter filter = new ColumnarTestFilter();
+        filter.batchException = new FilterException("test error");
+        filter.setFunction(((context, record, hasNext) -> RecordsIterable.of(record.put("message", "filtered"))));
+
+        DefaultRecordFilterPipeline pipeline = new DefaultRecordFilterPipeline(Collections.singletonList(filter));
+        pipeline.init(context);
+
+        List<FileRecord<TypedStruct>> records = pipeline.apply(new RecordsIterable<>(record1, record2), false).collect();
+
+        assertEquals(2, records.size());
+        assertEquals("filtered", records.get(0).value().getString("message"));
+        assertEquals("filtered", records.get(1).value().getString("message"));
+    }
+
+    @Test
+    public void shouldFilterEachRecordGivenColumnarFilterNotApplyingBatch() {
+
+        final FileRecord<TypedStruct> record1 = createWithOffsetAndValue(FileRecordOffset.with(1, 0), "value1");
+        final FileRecord<TypedStruct> record2 = createWithOffsetAndValue(FileRecordOffset.with(2, 0), "value2");
+
+        final ColumnarTestFilter filter = new ColumnarTestFilter();
+        filter.applyBatch = false;
+        filter.setFunction(((context, record, hasNext) -> RecordsIterable.of(record.put("message", "filtered"))));
+
+        DefaultRecordFilterPipeline pipeline = new DefaultRecordFilterPipeline(Collections.singletonList(filter));
+        pipeline.init(context);
+
+        List<FileRecord<TypedStruct>> records = pipeline.apply(new RecordsIterable<>(record1, record2), false).collect();
+
+        assertEquals(2, records.size());
+        assertEquals("filtered", records.get(0).value().getString("message"));
+        assertEquals("filtered", records.get(1).value().getString("message"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldReThrowUnexpectedExceptionGivenColumnarFilterFailingOnBatch() {
+
+        final FileRecord<TypedStruct> record1 = createWithOffsetAndValue(FileRecordOffset.with(1, 0), "value1");
+        final FileRecord<TypedStruct> record2 = createWithOffsetAndValue(FileRecordOffset.with(2, 0), "value2");
+
+        final ColumnarTestFilter filter = new ColumnarTestFilter();
+        filter.batchException = new IllegalStateException("test error");
+
+        DefaultRecordFilterPipeline pipeline = new DefaultRecordFilterPipeline(Collections.singletonList(filter));
+        pipeline.init(context);
+        pipeline.apply(new RecordsIterable<>(record1, record2), false);
+    }
+
     private static FileRecord<TypedStruct> createWithOffsetAndValue(final FileRecordOffset offset, final String value) {
         return new TypedFileRecord(offset, new TypedStruct().put("message", value));
     }
@@ -284,6 +386,34 @@ public class DefaultRecordFilterPipelineTest {
         }
     }
 
+    static class ColumnarTestFilter extends TestFilter implements ColumnarRecordFilter {
+
+        RuntimeException batchException;
+
+        boolean applyBatch = true;
+
+        @Override
+        public boolean acceptAll() {
+            return true;
+        }
+
+        @Override
+        public TypedStructBatch apply(final FilterContext context, final TypedStructBatch batch) {
+            if (batchException != null) {
+                throw batchException;
+            }
+            if (!applyBatch) {
+                return null;
+            }
+            final Object[] values = batch.column("message");
+            final Object[] upper = new Object[values.length];
+            for (int i = 0; i < values.length; i++) {
+                upper[i] = ((String) values[i]).toUpperCase();
+            }
+            return batch.put("message", Schema.string(), upper);
+        }
+    }
+
     @FunctionalInterface
     interface FilterFunction extends RecordFilter {
 
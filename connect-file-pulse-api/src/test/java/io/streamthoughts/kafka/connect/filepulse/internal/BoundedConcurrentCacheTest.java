@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class BoundedConcurrentCacheTest {
+
+    @Test
+    public void shouldEvictEntryNotUsedSinceLastSweepGivenFullCache() {
+        final BoundedConcurrentCache<Integer, String> cache = new BoundedConcurrentCache<>(2);
+        cache.put(1, "one");
+        cache.put(2, "two");
+        assertEquals("one", cache.get(1));
+
+        cache.put(3, "three");
+
+        assertEquals(2, cache.size());
+        assertEquals("one", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("three", cache.get(3));
+    }
+
+    @Test
+    public void shouldNotExceedMaxSize() {
+        final BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(10);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+            cache.get(i);
+        }
+        assertEquals(10, cache.size());
+    }
+}
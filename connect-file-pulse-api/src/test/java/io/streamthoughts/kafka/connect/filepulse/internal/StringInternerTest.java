@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.internal;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class StringInternerTest {
+
+    @Test
+    public void shouldReturnCanonicalInstanceGivenEqualStrings() {
+        final StringInterner interner = new StringInterner(10);
+        final String interned = interner.intern(new String("INFO"));
+
+        assertSame(interned, interner.intern(new String("INFO")));
+        assertEquals(1, interner.size());
+        assertEquals(1, interner.hits());
+        assertEquals(1, interner.misses());
+        assertEquals(0.5, interner.hitRate(), 0);
+    }
+
+    @Test
+    public void shouldReturnSameInstanceGivenStringOrBytes() {
+        final StringInterner interner = new StringInterner(10);
+        final byte[] bytes = "level=WARN host=hé".getBytes(StandardCharsets.UTF_8);
+
+        final String ascii = interner.intern(bytes, 6, 4);
+        assertEquals("WARN", ascii);
+        assertSame(ascii, interner.intern(new String("WARN")));
+
+        final String utf8 = interner.intern(bytes, 16, 3);
+        assertEquals("hé", utf8);
+        assertSame(utf8, interner.intern(bytes, 16, 3));
+    }
+
+    @Test
+    public void shouldNotInternNewValuesGivenFullCache() {
+        final StringInterner interner = new StringInterner(1);
+        interner.intern("GET");
+        final String post = new String("POST");
+
+        assertSame(post, interner.intern(post));
+        assertNotSame(post, interner.intern(new String("POST")));
+        assertEquals(1, interner.size());
+    }
+}
@@ -52,4 +52,26 @@ public class SourceMetadataTest {
         Assert.assertNotNull(metadata.inode());
         Assert.assertNotEquals(-1, metadata.hash());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldNotCreateArchiveEntryGivenFilePathContainingEntrySeparator() throws IOException {
+        final File dir = testFolder.newFolder("logs!");
+        final File regular = new File(dir, "app.log");
+        Files.write(regular.toPath(), "foo\n".getBytes());
+
+        final SourceMetadata metadata = SourceMetadata.fromFile(regular);
+        Assert.assertFalse(metadata.isArchiveEntry());
+        Assert.assertEquals(regular.getAbsolutePath(), metadata.absolutePath());
+        Assert.assertEquals(4, metadata.size());
+    }
+
+    @Test
+    public void shouldCreateArchiveEntryGivenEntryPath() {
+        final ArchiveEntry entry = new ArchiveEntry(file.getAbsolutePath(), "dir/entry.txt");
+        final SourceMetadata metadata = SourceMetadata.fromFile(new File(entry.path()));
+
+        Assert.assertTrue(metadata.isArchiveEntry());
+        Assert.assertEquals(entry.path(), metadata.absolutePath());
+        Assert.assertEquals(entry, ArchiveEntry.fromPath(metadata.absolutePath()));
+    }
+}
@@ -16,12 +16,16 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.source.internal;
 
+import io.streamthoughts.kafka.connect.filepulse.data.StructSchema;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.data.WideningSchema;
+import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
 import org.apache.kafka.connect.data.Struct;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -122,4 +126,99 @@ public class ConnectSchemaMapperTest {
         Assert.assertEquals("value", field1.get("field2").getString("field3"));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldReuseConnectSchemaGivenStructsWithSameStructure() {
+        final ConnectSchemaMapper mapper = new ConnectSchemaMapper();
+        final TypedStruct struct1 = new TypedStruct()
+                .put("field1", "value1")
+                .put("field2", Collections.singletonList(new TypedStruct().put("field3", "value3")));
+        final TypedStruct struct2 = new TypedStruct()
+                .put("field1", "value2")
+                .put("field2", Collections.singletonList(new TypedStruct().put("field3", "value4")));
+        final TypedStruct struct3 = new TypedStruct()
+                .put("field1", "value2")
+                .put("field2", Collections.singletonList(new TypedStruct().put("field4", "value4")));
+
+        final SchemaAndValue schemaAndValue1 = struct1.schema().map(mapper, struct1);
+        final SchemaAndValue schemaAndValue2 = struct2.schema().map(mapper, struct2);
+        final SchemaAndValue schemaAndValue3 = struct3.schema().map(mapper, struct3);
+
+        Assert.assertSame(schemaAndValue1.schema(), schemaAndValue2.schema());
+        Assert.assertNotEquals(schemaAndValue1.schema(), schemaAndValue3.schema());
+        Assert.assertEquals("value2", ((Struct)schemaAndValue2.value()).get("field1"));
+    }
+
+    @Test
+    public void shouldNotReuseConnectSchemaGivenDistinctStructuresWithSameFingerprint() {
+        final ConnectSchemaMapper mapper = new ConnectSchemaMapper();
+        final StructSchema schema1 = new CollidingStructSchema();
+        schema1.field("field1", io.streamthoughts.kafka.connect.filepulse.data.Schema.string());
+        final StructSchema schema2 = new CollidingStructSchema();
+        schema2.field("field2", io.streamthoughts.kafka.connect.filepulse.data.Schema.int64());
+
+        Assert.assertNotNull(schema1.map(mapper).field("field1"));
+        Assert.assertNotNull(schema2.map(mapper).field("field2"));
+        Assert.assertNotNull(schema1.map(mapper).field("field1"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldMapGivenTypeStructWithArrayOfWidenedNumbersAndNull() {
+        TypedStruct struct = new TypedStruct()
+                .put("field1", Arrays.asList(null, 1, 2L))
+                .put("field2", Collections.emptyList());
+
+        SchemaAndValue schemaAndValue = struct.schema().map(ConnectSchemaMapper.INSTANCE, struct);
+
+        Struct connectStruct = (Struct)schemaAndValue.value();
+        Assert.assertEquals(Schema.Type.INT64, connectStruct.schema().field("field1").schema().valueSchema().type());
+        Assert.assertEquals(Arrays.asList(null, 1L, 2L), connectStruct.getArray("field1"));
+        Assert.assertEquals(Collections.emptyList(), connectStruct.getArray("field2"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldMapGivenTypeStructWithArrayOfStructsWithDifferentFields() {
+        TypedStruct struct = new TypedStruct()
+                .put("field1", Arrays.asList(
+                    new TypedStruct().put("field2", "value"),
+                    new TypedStruct().put("field3", 42L)));
+
+        SchemaAndValue schemaAndValue = struct.schema().map(ConnectSchemaMapper.INSTANCE, struct);
+
+        Struct connectStruct = (Struct)schemaAndValue.value();
+        List<Struct> field1 = (List<Struct>)connectStruct.get("field1");
+        Assert.assertEquals("value", field1.get(0).getString("field2"));
+        Assert.assertNull(field1.get(0).getInt64("field3"));
+        Assert.assertEquals(Long.valueOf(42L), field1.get(1).getInt64("field3"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldMapGivenTypeStructWithWidenedSchema() {
+        final WideningSchema fileSchema = new WideningSchema();
+        fileSchema.widen(new TypedStruct()
+                .put("field1", Arrays.asList(1L, 2L))
+                .put("field2", 42L)
+                .put("field3", "value").schema());
+
+        TypedStruct struct = new TypedStruct()
+                .put("field1", Arrays.asList(1, 2))
+                .put("field2", 42);
+
+        SchemaAndValue schemaAndValue = fileSchema.widen(struct.schema()).map(ConnectSchemaMapper.INSTANCE, struct);
+
+        Struct connectStruct = (Struct)schemaAndValue.value();
+        Assert.assertEquals(Arrays.asList(1L, 2L), connectStruct.getArray("field1"));
+        Assert.assertEquals(Long.valueOf(42L), connectStruct.getInt64("field2"));
+        Assert.assertNull(connectStruct.getString("field3"));
+    }
+
+    private static final class CollidingStructSchema extends StructSchema {
+
+        @Override
+        public long fingerprint() {
+            return 42L;
+        }
+    }
+}
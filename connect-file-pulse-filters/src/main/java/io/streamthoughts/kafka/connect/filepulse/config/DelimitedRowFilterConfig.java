@@ -33,6 +33,9 @@ public class DelimitedRowFilterConfig extends CommonFilterConfig {
     public static final String READER_FIELD_SEPARATOR_DEFAULT             = ";";
     public static final String READER_FIELD_SEPARATOR_DOC                 = "The character used as a delimiter/separator between each value (default: ';').";
 
+    public static final String READER_FIELD_QUOTE_CONFIG                  = "quote";
+    public static final String READER_FIELD_QUOTE_DOC                     = "The character used to quote values which contain the separator, a quote being escaped by doubling it (default: no quoting).";
+
     public static final String READER_FIELD_TRIM_COLUMN_CONFIG            = "trimColumn";
     public static final String READER_FIELD_TRIM_COLUMN_DOC               = "Remove the leading and trailing whitespaces from all columns.";
     public static final boolean READER_FIELD_TRIM_COLUMN_DEFAULT          = false;
@@ -60,6 +63,11 @@ public class DelimitedRowFilterConfig extends CommonFilterConfig {
         return getString(READER_FIELD_SEPARATOR_CONFIG);
     }
 
+    public Character quote() {
+        final String quote = getString(READER_FIELD_QUOTE_CONFIG);
+        return quote != null ? quote.charAt(0) : null;
+    }
+
     public String extractColumnName() { return getString(READER_EXTRACT_COLUMN_NAME_CONFIG); }
 
     public boolean isTrimColumn() {
@@ -99,10 +107,13 @@ public class DelimitedRowFilterConfig extends CommonFilterConfig {
     }
 
     public static ConfigDef configDef() {
-        return CommonFilterConfig.configDef()
+        return CommonFilterConfig.withIntern(CommonFilterConfig.configDef())
                 .define(READER_FIELD_SEPARATOR_CONFIG, ConfigDef.Type.STRING, READER_FIELD_SEPARATOR_DEFAULT,
                         ConfigDef.Importance.HIGH, READER_FIELD_SEPARATOR_DOC)
 
+                .define(READER_FIELD_QUOTE_CONFIG, ConfigDef.Type.STRING, null,
+                        new ConfigDef.NonEmptyString(), ConfigDef.Importance.LOW, READER_FIELD_QUOTE_DOC)
+
                 .define(READER_EXTRACT_COLUMN_NAME_CONFIG, ConfigDef.Type.STRING, null,
                         ConfigDef.Importance.HIGH, READER_EXTRACT_COLUMN_NAME_DOC)
 
@@ -20,6 +20,7 @@ import io.streamthoughts.kafka.connect.filepulse.filter.config.CommonFilterConfi
 import org.apache.kafka.common.config.ConfigDef;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -33,6 +34,13 @@ public class GrokFilterConfig extends CommonFilterConfig {
     public static final String GROK_ROW_PATTERN_CONFIG             = "match";
     private static final String GROK_ROW_PATTERN_DOC               = "The Grok pattern to matches.";
 
+    public static final String GROK_ROW_PATTERNS_CONFIG            = "matches";
+    private static final String GROK_ROW_PATTERNS_DOC              = "The list of Grok patterns to try in order, after the 'match' pattern if any.";
+
+    public static final String GROK_ROW_ADAPTIVE_ORDER_CONFIG      = "adaptiveOrder";
+    private static final String GROK_ROW_ADAPTIVE_ORDER_DOC        = "If true, the patterns which match the most often are tried first (default=false). "
+                                                                   + "Only suitable for patterns that cannot match the same value.";
+
     public static final String GROK_ROW_PATTERN_DEFINITIONS_CONFIG = "patternDefinitions";
     private static final String GROK_ROW_PATTERN_DEFINITIONS_DOC   = "Custom pattern definitions";
 
@@ -55,6 +63,19 @@ public class GrokFilterConfig extends CommonFilterConfig {
         return this.getString(GROK_ROW_PATTERN_CONFIG);
     }
 
+    public List<String> patterns() {
+        final List<String> patterns = new ArrayList<>();
+        if (pattern() != null) {
+            patterns.add(pattern());
+        }
+        patterns.addAll(this.getList(GROK_ROW_PATTERNS_CONFIG));
+        return patterns;
+    }
+
+    public boolean adaptiveOrder() {
+        return this.getBoolean(GROK_ROW_ADAPTIVE_ORDER_CONFIG);
+    }
+
     public Set<String> overwrite() {
         return new HashSet<>(this.getList(CommonFilterConfig.FILTER_OVERWRITE_CONFIG));
     }
@@ -81,19 +102,32 @@ public class GrokFilterConfig extends CommonFilterConfig {
     public static ConfigDef configDef() {
         ConfigDef def = CommonFilterConfig.configDef();
         withPattern(def);
+        withPatterns(def);
+        withAdaptiveOrder(def);
         withNamedCapturesOnly(def);
         withPatternsDir(def);
         withPatternDefinitions(def);
         CommonFilterConfig.withSource(def);
         CommonFilterConfig.withOverwrite(def);
+        CommonFilterConfig.withIntern(def);
         return def;
     }
 
     static ConfigDef withPattern(final ConfigDef def) {
-        return def.define(GROK_ROW_PATTERN_CONFIG, ConfigDef.Type.STRING,
+        return def.define(GROK_ROW_PATTERN_CONFIG, ConfigDef.Type.STRING, null,
                 ConfigDef.Importance.HIGH, GROK_ROW_PATTERN_DOC);
     }
 
+    static ConfigDef withPatterns(final ConfigDef def) {
+        return def.define(GROK_ROW_PATTERNS_CONFIG, ConfigDef.Type.LIST, Collections.emptyList(),
+                ConfigDef.Importance.HIGH, GROK_ROW_PATTERNS_DOC);
+    }
+
+    static ConfigDef withAdaptiveOrder(final ConfigDef def) {
+        return def.define(GROK_ROW_ADAPTIVE_ORDER_CONFIG, ConfigDef.Type.BOOLEAN, false,
+                ConfigDef.Importance.LOW, GROK_ROW_ADAPTIVE_ORDER_DOC);
+    }
+
     static ConfigDef withNamedCapturesOnly(final ConfigDef def) {
         return def.define(GROK_ROW_NAMED_CAPTURES_ONLY_CONFIG, ConfigDef.Type.BOOLEAN, true,
                 ConfigDef.Importance.MEDIUM, GROK_ROW_NAMED_CAPTURES_ONLY_DOC);
@@ -28,6 +28,11 @@ public class JSONFilterConfig extends CommonFilterConfig {
     public static final String JSON_TARGET_CONFIG    = "target";
     public static final String JSON_TARGET_DOC       = "The target field to put the parsed JSON value";
 
+    public static final String JSON_LAZY_CONFIG      = "lazy";
+    public static final String JSON_LAZY_DOC         = "Decode the value of each JSON field only when it is accessed "
+                                                     + "by the next filters or the connector.";
+    public static final boolean JSON_LAZY_DEFAULT    = false;
+
     /**
      * Creates a new {@link JSONFilterConfig} instance.
      * @param originals the originals configuration.
@@ -44,6 +49,10 @@ public class JSONFilterConfig extends CommonFilterConfig {
         return getString(JSON_TARGET_CONFIG);
     }
 
+    public boolean lazy() {
+        return getBoolean(JSON_LAZY_CONFIG);
+    }
+
     public Set<String> overwrite() {
         return new HashSet<>(getList(CommonFilterConfig.FILTER_OVERWRITE_CONFIG));
     }
@@ -51,7 +60,9 @@ public class JSONFilterConfig extends CommonFilterConfig {
     public static ConfigDef configDef() {
         ConfigDef def = CommonFilterConfig.configDef()
                 .define(JSON_TARGET_CONFIG, ConfigDef.Type.STRING, null,
-                        ConfigDef.Importance.HIGH, JSON_TARGET_DOC);
+                        ConfigDef.Importance.HIGH, JSON_TARGET_DOC)
+                .define(JSON_LAZY_CONFIG, ConfigDef.Type.BOOLEAN, JSON_LAZY_DEFAULT,
+                        ConfigDef.Importance.LOW, JSON_LAZY_DOC);
         CommonFilterConfig.withOverwrite(def);
         CommonFilterConfig.withSource(def);
 
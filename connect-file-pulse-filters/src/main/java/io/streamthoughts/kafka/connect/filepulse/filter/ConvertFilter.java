@@ -17,14 +17,17 @@
 package io.streamthoughts.kafka.connect.filepulse.filter;
 
 import io.streamthoughts.kafka.connect.filepulse.config.ConvertFilterConfig;
+import io.streamthoughts.kafka.connect.filepulse.data.Schema;
+import io.streamthoughts.kafka.connect.filepulse.data.Type;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStructBatch;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import org.apache.kafka.common.config.ConfigDef;
 
 import java.util.Map;
 
-public class ConvertFilter extends AbstractRecordFilter<ConvertFilter> {
+public class ConvertFilter extends AbstractRecordFilter<ConvertFilter> implements ColumnarRecordFilter {
 
     private ConvertFilterConfig config;
 
@@ -65,4 +68,32 @@ public class ConvertFilter extends AbstractRecordFilter<ConvertFilter> {
 
         return RecordsIterable.of(record);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypedStructBatch apply(final FilterContext context,
+                                  final TypedStructBatch batch) throws FilterException {
+
+        if (batch.has(config.field())) {
+            final Type type = config.type();
+            final Object[] values = batch.column(config.field());
+            final Object[] converted = new Object[values.length];
+            try {
+                for (int row = 0; row < values.length; row++) {
+                    converted[row] = type.convert(values[row]);
+                }
+            } catch (RuntimeException e) {
+                // e.g a null or malformed value, the records are then converted one at a time.
+                throw new FilterException(e.getLocalizedMessage(), e);
+            }
+            batch.put(config.field(), Schema.of(type), converted);
+
+        } else if (!config.ignoreMissing()) {
+            throw new FilterException("Cannot find field with name '" + config.field() + "'");
+        }
+
+        return batch;
+    }
 }
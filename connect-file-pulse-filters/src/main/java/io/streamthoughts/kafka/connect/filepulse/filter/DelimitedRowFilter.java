@@ -19,11 +19,16 @@ package io.streamthoughts.kafka.connect.filepulse.filter;
 import io.streamthoughts.kafka.connect.filepulse.config.DelimitedRowFilterConfig;
 import io.streamthoughts.kafka.connect.filepulse.data.Schema;
 import io.streamthoughts.kafka.connect.filepulse.data.StructSchema;
+import io.streamthoughts.kafka.connect.filepulse.data.Type;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedField;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStructBatch;
+import io.streamthoughts.kafka.connect.filepulse.internal.StringInterner;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Map;
@@ -33,7 +38,9 @@ import static io.streamthoughts.kafka.connect.filepulse.config.DelimitedRowFilte
 import static io.streamthoughts.kafka.connect.filepulse.config.DelimitedRowFilterConfig.READER_EXTRACT_COLUMN_NAME_CONFIG;
 import static io.streamthoughts.kafka.connect.filepulse.config.DelimitedRowFilterConfig.READER_FIELD_COLUMNS_CONFIG;
 
-public class DelimitedRowFilter extends AbstractRecordFilter<DelimitedRowFilter> {
+public class DelimitedRowFilter extends AbstractRecordFilter<DelimitedRowFilter> implements ColumnarRecordFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DelimitedRowFilter.class);
 
     private static final String DEFAULT_SOURCE_FIELD = "message";
 
@@ -45,6 +52,17 @@ public class DelimitedRowFilter extends AbstractRecordFilter<DelimitedRowFilter>
 
     private StructSchema schema;
 
+    // The names of the schema fields, resolved once the schema is known.
+    private String[] columnNames;
+
+    private DelimitedRowTokenizer tokenizer;
+
+    // Whether the rows of the current file can be split as batches, i.e they have all the same number of fields.
+    private boolean splitAsBatch = true;
+
+    // The interners of the fields whose values should be deduplicated, keyed by field name.
+    private Map<String, StringInterner> interners;
+
     /**
      * {@inheritDoc}
      */
@@ -63,6 +81,23 @@ public class DelimitedRowFilter extends AbstractRecordFilter<DelimitedRowFilter>
         }
 
         this.schema = this.configs.schema();
+        try {
+            this.tokenizer = new DelimitedRowTokenizer(this.configs.delimiter(), this.configs.quote());
+        } catch (IllegalArgumentException e) {
+            throw new ConfigException(e.getMessage());
+        }
+        this.interners = this.configs.interners();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        splitAsBatch = true;
+        if (!interners.isEmpty()) {
+            LOG.debug("Deduplicated field values (filter={}) : {}", label(), interners);
+        }
     }
 
     private boolean isMandatoryConfigsMissing() {
@@ -89,12 +124,57 @@ public class DelimitedRowFilter extends AbstractRecordFilter<DelimitedRowFilter>
 
         final String source = record.first(DEFAULT_SOURCE_FIELD).getString();
 
-        String[] fieldValues = splitFields(source);
-        final StructSchema schema = getSchema(record, fieldValues.length);
-        final TypedStruct struct = buildStructForFields(fieldValues, schema);
+        int n = tokenizer.tokenize(source);
+        if (schema == null) {
+            getSchema(record, n);
+            // the columns names may have been split from another field.
+            n = tokenizer.tokenize(source);
+        }
+        final TypedStruct struct = buildStructForFields(n);
         return RecordsIterable.of(struct);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypedStructBatch apply(final FilterContext context,
+                                  final TypedStructBatch batch) throws FilterException {
+        if (!splitAsBatch || schema == null || !batch.has(DEFAULT_SOURCE_FIELD)
+                || batch.schema(DEFAULT_SOURCE_FIELD).type() != Type.STRING) {
+            return null;
+        }
+        final Object[] sources = batch.column(DEFAULT_SOURCE_FIELD);
+        final String[] names = columnNames();
+
+        Object[][] columns = null;
+        for (int row = 0; row < sources.length; row++) {
+            if (sources[row] == null) {
+                // the row is split again one at a time, so that the error is handled as usual.
+                return null;
+            }
+            final int n = tokenizer.tokenize((String) sources[row]);
+            checkNumberOfFields(n);
+            if (columns == null) {
+                columns = new Object[n][sources.length];
+            } else if (n != columns.length) {
+                LOG.debug("Rows with different number of fields found (filter={}), splitting rows one at a time",
+                    label());
+                splitAsBatch = false;
+                return null;
+            }
+            for (int i = 0; i < n; i++) {
+                columns[i][row] = fieldValue(i);
+            }
+        }
+
+        final TypedStructBatch result = new TypedStructBatch(sources.length);
+        for (int i = 0; i < columns.length; i++) {
+            result.put(names[i], DEFAULT_COLUMN_TYPE, columns[i]);
+        }
+        return result;
+    }
+
     private StructSchema getSchema(final TypedStruct record, int n) {
         if (schema != null) return schema;
 
@@ -121,24 +201,53 @@ public class DelimitedRowFilter extends AbstractRecordFilter<DelimitedRowFilter>
         return schema;
     }
 
+    private String intern(final String field, final String value) {
+        if (interners.isEmpty()) {
+            return value;
+        }
+        final StringInterner interner = interners.get(field);
+        return interner != null ? interner.intern(value) : value;
+    }
+
     private String[] splitFields(final String value) {
-        return value.split(configs.delimiter());
+        final String[] fields = new String[tokenizer.tokenize(value)];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = tokenizer.field(i);
+        }
+        return fields;
     }
 
-    private TypedStruct buildStructForFields(final String[] fieldValues, final StructSchema schema) {
-        List<TypedField> fields = schema.fields();
-        if (fieldValues.length > fields.size()) {
+    private String[] columnNames() {
+        if (columnNames == null) {
+            final List<TypedField> fields = schema.fields();
+            columnNames = new String[fields.size()];
+            for (int i = 0; i < columnNames.length; i++) {
+                columnNames[i] = fields.get(i).name();
+            }
+        }
+        return columnNames;
+    }
+
+    private void checkNumberOfFields(final int n) {
+        if (n > columnNames().length) {
             throw new FilterException(
-                "Error while reading delimited input row. Too large number of fields (" + fieldValues.length + ")");
+                "Error while reading delimited input row. Too large number of fields (" + n + ")");
         }
-        TypedStruct struct = new TypedStruct();
-        for (int i = 0; i < fieldValues.length; i++) {
-            String fieldValue = fieldValues[i];
-            if (configs.isTrimColumn()) {
-                fieldValue = fieldValue.trim();
-            }
-            TypedField field = fields.get(i);
-            struct = struct.put(field.name(), fieldValue);
+    }
+
+    /**
+     * Gets the value of the specified field of the last row split.
+     */
+    private String fieldValue(final int i) {
+        final String value = configs.isTrimColumn() ? tokenizer.field(i).trim() : tokenizer.field(i);
+        return intern(columnNames[i], value);
+    }
+
+    private TypedStruct buildStructForFields(final int n) {
+        checkNumberOfFields(n);
+        final TypedStruct struct = new TypedStruct();
+        for (int i = 0; i < n; i++) {
+            struct.put(columnNames[i], fieldValue(i));
         }
         return struct;
     }
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.filter;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Splits delimited rows (i.e CSV, TSV) into fields.
+ *
+ * Literal delimiters are scanned directly and the bounds of the fields are kept into arrays reused from one row
+ * to the next, so that a field is only copied when it is read. As for {@link String#split(String)}, the trailing
+ * empty fields are removed, and a delimiter containing regex constructs is evaluated as a regex.
+ *
+ * When a quote character is configured, a field enclosed by quotes may contain delimiters and a doubled quote
+ * is read as a single quote (see RFC 4180). This class is not thread-safe.
+ */
+final class DelimitedRowTokenizer {
+
+    // The characters which have a special meaning into a regex.
+    private static final String METACHARACTERS = "\\.[]{}()*+?^$|";
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // The literal delimiter, or null if the delimiter is a regex.
+    private final String delimiter;
+
+    private final Pattern pattern;
+
+    private final String quote;
+
+    private final String escapedQuote;
+
+    private String row;
+
+    private String[] splits;
+
+    private int count;
+
+    private int[] starts = new int[DEFAULT_CAPACITY];
+
+    private int[] ends = new int[DEFAULT_CAPACITY];
+
+    private boolean[] quoted = new boolean[DEFAULT_CAPACITY];
+
+    /**
+     * Creates a new {@link DelimitedRowTokenizer} instance.
+     *
+     * @param delimiter the fields delimiter.
+     * @param quote     the quote character, or {@code null} if fields cannot be quoted.
+     */
+    DelimitedRowTokenizer(final String delimiter, final Character quote) {
+        this.delimiter = literalOf(delimiter);
+        this.pattern = this.delimiter == null ? Pattern.compile(delimiter) : null;
+        if (quote != null && this.delimiter == null) {
+            throw new IllegalArgumentException("Cannot quote fields delimited by a regex : " + delimiter);
+        }
+        this.quote = quote != null ? String.valueOf(quote) : null;
+        this.escapedQuote = quote != null ? this.quote + this.quote : null;
+    }
+
+    /**
+     * @return the literal text matched by the specified delimiter, or {@code null} if it is a regex.
+     */
+    private static String literalOf(final String delimiter) {
+        if (delimiter.length() == 2 && delimiter.charAt(0) == '\\'
+                && METACHARACTERS.indexOf(delimiter.charAt(1)) >= 0) {
+            return delimiter.substring(1);
+        }
+        if (delimiter.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < delimiter.length(); i++) {
+            if (METACHARACTERS.indexOf(delimiter.charAt(i)) >= 0) {
+                return null;
+            }
+        }
+        return delimiter;
+    }
+
+    /**
+     * Splits the specified row.
+     *
+     * @param row   the row to split.
+     * @return      the number of fields.
+     */
+    int tokenize(final String row) {
+        this.row = row;
+        count = 0;
+        if (delimiter == null) {
+            splits = pattern.split(row);
+            return splits.length;
+        }
+        if (row.isEmpty()) {
+            add(0, 0, false);
+            return count;
+        }
+        int pos = 0;
+        while (pos >= 0) {
+            pos = quote != null && row.startsWith(quote, pos) ? readQuoted(pos) : readUnquoted(pos);
+        }
+        while (count > 0 && ends[count - 1] == starts[count - 1] && !quoted[count - 1]) {
+            count--;
+        }
+        return count;
+    }
+
+    /**
+     * @return the position of the next field, or {@code -1} if this field is the last one.
+     */
+    private int readUnquoted(final int pos) {
+        final int end = row.indexOf(delimiter, pos);
+        add(pos, end < 0 ? row.length() : end, false);
+        return end < 0 ? -1 : end + delimiter.length();
+    }
+
+    /**
+     * @return the position of the next field, or {@code -1} if this field is the last one.
+     */
+    private int readQuoted(final int pos) {
+        int end = row.indexOf(quote, pos + 1);
+        while (end >= 0 && row.startsWith(escapedQuote, end)) {
+            end = row.indexOf(quote, end + 2);
+        }
+        if (end < 0) {
+            throw new FilterException("Error while reading delimited input row. Unterminated quoted field at " + pos);
+        }
+        add(pos + 1, end, true);
+        final int next = end + 1;
+        if (next == row.length()) {
+            return -1;
+        }
+        if (!row.startsWith(delimiter, next)) {
+            throw new FilterException(
+                "Error while reading delimited input row. Unexpected character after quoted field at " + next);
+        }
+        return next + delimiter.length();
+    }
+
+    private void add(final int start, final int end, final boolean isQuoted) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+            quoted = Arrays.copyOf(quoted, count * 2);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        quoted[count] = isQuoted;
+        count++;
+    }
+
+    /**
+     * Gets the value of a field of the last row split.
+     *
+     * @param i the index of the field.
+     * @return  the field value.
+     */
+    String field(final int i) {
+        if (delimiter == null) {
+            return splits[i];
+        }
+        final String value = row.substring(starts[i], ends[i]);
+        return quoted[i] ? value.replace(escapedQuote, quote) : value;
+    }
+}
@@ -17,11 +17,12 @@
 package io.streamthoughts.kafka.connect.filepulse.filter;
 
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStructBatch;
 import io.streamthoughts.kafka.connect.filepulse.filter.config.CommonFilterConfig;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import org.apache.kafka.common.config.ConfigDef;
 
-public class DropFilter extends AbstractRecordFilter<DropFilter>  {
+public class DropFilter extends AbstractRecordFilter<DropFilter> implements ColumnarRecordFilter {
 
     /**
      * {@inheritDoc}
@@ -42,6 +43,16 @@ public class DropFilter extends AbstractRecordFilter<DropFilter>  {
         return condition.apply(context, record) ? RecordsIterable.empty() : RecordsIterable.of(record);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypedStructBatch apply(final FilterContext context,
+                                  final TypedStructBatch batch) throws FilterException {
+        // a batch is only applied when no condition is configured, thus all records are dropped.
+        return new TypedStructBatch(0);
+    }
+
     /**
      * {@inheritDoc}
      */
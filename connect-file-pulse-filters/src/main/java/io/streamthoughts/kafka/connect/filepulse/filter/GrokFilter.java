@@ -19,6 +19,7 @@ package io.streamthoughts.kafka.connect.filepulse.filter;
 import io.streamthoughts.kafka.connect.filepulse.config.GrokFilterConfig;
 import io.streamthoughts.kafka.connect.filepulse.data.Type;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.internal.StringInterner;
 import io.streamthoughts.kafka.connect.filepulse.pattern.GrokMatcher;
 import io.streamthoughts.kafka.connect.filepulse.pattern.GrokPattern;
 import io.streamthoughts.kafka.connect.filepulse.pattern.GrokPatternCompiler;
@@ -26,32 +27,46 @@ import io.streamthoughts.kafka.connect.filepulse.pattern.GrokPatternResolver;
 import io.streamthoughts.kafka.connect.filepulse.pattern.GrokSchemaBuilder;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.connect.data.Schema;
 import org.joni.Matcher;
 import org.joni.NameEntry;
 import org.joni.Option;
 import org.joni.Regex;
 import org.joni.Region;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 public class GrokFilter extends AbstractMergeRecordFilter<GrokFilter> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(GrokFilter.class);
+
     private GrokFilterConfig configs;
 
     private GrokPatternCompiler compiler;
 
     private List<GrokMatcher> patterns;
 
+    // The patterns in the order they are tried, along with their statistics.
+    private PatternStats[] candidates;
+
+    private boolean adaptiveOrder;
+
     private Schema schema;
 
+    private Set<String> overwrite;
+
+    // The interners of the fields whose values should be deduplicated, keyed by field name.
+    private Map<String, StringInterner> interners;
+
     /**
      * {@inheritDoc}
      */
@@ -64,10 +79,37 @@ public class GrokFilter extends AbstractMergeRecordFilter<GrokFilter> {
                         configs.patternDefinitions(),
                         configs.patternsDir()),
                         configs.namedCapturesOnly());
-        patterns = Collections.singletonList(compiler.compile(configs.pattern()));
+        patterns = new ArrayList<>();
+        for (String pattern : configs.patterns()) {
+            patterns.add(compiler.compile(pattern));
+        }
+        if (patterns.isEmpty()) {
+            throw new ConfigException("At least one of those parameters should be configured ["
+                + GrokFilterConfig.GROK_ROW_PATTERN_CONFIG + "," + GrokFilterConfig.GROK_ROW_PATTERNS_CONFIG + "]");
+        }
+        overwrite = configs.overwrite();
+        interners = configs.interners();
+        candidates = new PatternStats[patterns.size()];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = new PatternStats(patterns.get(i), new CapturePlan(patterns.get(i), interners));
+        }
+        adaptiveOrder = configs.adaptiveOrder();
         schema = GrokSchemaBuilder.buildSchemaForGrok(patterns);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Grok patterns statistics (filter={}) : {}", label(), Arrays.toString(candidates));
+        }
+        if (!interners.isEmpty()) {
+            LOG.debug("Deduplicated field values (filter={}) : {}", label(), interners);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -87,19 +129,32 @@ public class GrokFilter extends AbstractMergeRecordFilter<GrokFilter> {
 
         if (value == null) return null;
 
+        // the regex are compiled for UTF-8.
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
         final TypedStruct struct = TypedStruct.struct();
 
-        final byte[] bytes = value.getBytes();
-        for (GrokMatcher grok : patterns) {
+        for (int i = 0; i < candidates.length; i++) {
+            final PatternStats candidate = candidates[i];
+            final GrokMatcher grok = candidate.grok;
+            if (!grok.mayMatch(bytes)) {
+                candidate.rejected++;
+                continue;
+            }
             final Regex regex = grok.regex();
             final Matcher matcher = regex.matcher(bytes);
+            final long start = System.nanoTime();
             int result = matcher.search(0, bytes.length, Option.DEFAULT);
+            candidate.record(System.nanoTime() - start, result != -1);
             if (result != -1) {
-                extractAndPutFieldsTo(struct, regex, matcher, bytes, grok);
+                candidate.plan.extract(matcher.getEagerRegion(), bytes, struct);
+                if (adaptiveOrder) {
+                    promote(i);
+                }
                 return RecordsIterable.of(struct);
             }
         }
-        throw new FilterException("Can not matches grok pattern on value : " + value);
+        throw new FilterException("Can not matches grok pattern on value : " + record.getString(configs.source()));
     }
 
     /**
@@ -107,63 +162,127 @@ public class GrokFilter extends AbstractMergeRecordFilter<GrokFilter> {
      */
     @Override
     protected Set<String> overwrite() {
-        return configs.overwrite();
+        return overwrite;
     }
 
-    private void extractAndPutFieldsTo(final TypedStruct struct,
-                                       final Regex regex,
-                                       final Matcher matcher,
-                                       final byte[] bytes,
-                                       final GrokMatcher grok) {
-        final Region region = matcher.getEagerRegion();
-        for (Iterator<NameEntry> entry = regex.namedBackrefIterator(); entry.hasNext(); ) {
-            NameEntry e = entry.next();
-            final String field = GrokSchemaBuilder.getStringFieldName(e);
-            final GrokPattern pattern = grok.getGrokPattern(field);
-            final Type type = pattern != null ? pattern.type() : Type.STRING;
-            List<Object> objects = extractValuesForEntry(region, e, bytes, type);
-            append(struct, field, objects, type);
+    /**
+     * Moves the specified candidate ahead of the previous one if it matched more often, so that
+     * the candidates end up being tried from the most to the least frequently matched.
+     */
+    private void promote(final int i) {
+        if (i > 0 && candidates[i].matches > candidates[i - 1].matches) {
+            final PatternStats previous = candidates[i - 1];
+            candidates[i - 1] = candidates[i];
+            candidates[i] = previous;
         }
     }
 
-    private void append(final TypedStruct struct,
-                        final String field,
-                        final List<Object> values,
-                        final Type type) {
-        if (struct.has(field)) {
-            if (struct.field(field).type() == Type.ARRAY) {
-                struct.getArray(field).addAll(values);
-            } else {
-                final List<Object> list = new LinkedList<>();
-                list.add(struct.get(field).value());
-                list.addAll(values);
-                struct.put(field, type, list);
+    /**
+     * The captures to be extracted for a grok pattern, resolved once from the named groups of its regex.
+     */
+    private static final class CapturePlan {
+
+        // The field name, the capture groups and the type of each named group, indexed in the order of the groups.
+        private final String[] fields;
+        private final int[][] backRefs;
+        private final Type[] types;
+        private final StringInterner[] interners;
+
+        CapturePlan(final GrokMatcher grok, final Map<String, StringInterner> interners) {
+            final List<String> fields = new ArrayList<>();
+            final List<int[]> backRefs = new ArrayList<>();
+            for (Iterator<NameEntry> entry = grok.regex().namedBackrefIterator(); entry.hasNext(); ) {
+                NameEntry e = entry.next();
+                fields.add(GrokSchemaBuilder.getStringFieldName(e));
+                backRefs.add(e.getBackRefs());
+            }
+            final int size = fields.size();
+            this.fields = fields.toArray(new String[size]);
+            this.backRefs = backRefs.toArray(new int[size][]);
+            this.types = new Type[size];
+            this.interners = new StringInterner[size];
+            for (int i = 0; i < size; i++) {
+                final GrokPattern pattern = grok.getGrokPattern(this.fields[i]);
+                types[i] = pattern != null ? pattern.type() : Type.STRING;
+                this.interners[i] = interners.get(this.fields[i]);
             }
-        } else if (values.size() > 1) {
-            struct.put(field, type, values);
-        } else if (values.size() == 1) {
-            struct.put(field, type, values.get(0));
         }
-    }
 
-    private List<Object> extractValuesForEntry(final Region region,
-                                               final NameEntry e,
-                                               final byte[] bytes,
-                                               final Type target) {
-        final List<Object> values = new ArrayList<>(e.getBackRefs().length);
-        for (int i = 0; i < e.getBackRefs().length; i++) {
-            int capture = e.getBackRefs()[i];
-            int begin = region.beg[capture];
-            int end = region.end[capture];
-
-            if (begin > -1 && end > -1) {
-                Object value = new String(bytes, begin, end - begin, StandardCharsets.UTF_8);
-                if (target != null) {
-                    value = target.convert(value);
+        void extract(final Region region, final byte[] bytes, final TypedStruct struct) {
+            for (int i = 0; i < fields.length; i++) {
+                final int[] refs = backRefs[i];
+                if (refs.length == 1) {
+                    final Object value = valueOf(region, refs[0], bytes, i);
+                    if (value != null) {
+                        struct.put(fields[i], types[i], value);
+                    }
+                } else {
+                    final List<Object> values = new ArrayList<>(refs.length);
+                    for (int capture : refs) {
+                        final Object value = valueOf(region, capture, bytes, i);
+                        if (value != null) {
+                            values.add(value);
+                        }
+                    }
+                    if (values.size() > 1) {
+                        struct.put(fields[i], types[i], values);
+                    } else if (values.size() == 1) {
+                        struct.put(fields[i], types[i], values.get(0));
+                    }
                 }
-                values.add(value);
             }
         }
-        return values;
+
+        private Object valueOf(final Region region, final int capture, final byte[] bytes, final int i) {
+            final int begin = region.beg[capture];
+            final int end = region.end[capture];
+            if (begin < 0 || end < 0) {
+                return null;
+            }
+            if (types[i] != Type.STRING) {
+                return types[i].convert(new String(bytes, begin, end - begin, StandardCharsets.UTF_8));
+            }
+            return interners[i] != null
+                ? interners[i].intern(bytes, begin, end - begin)
+                : new String(bytes, begin, end - begin, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class PatternStats {
+
+        private final GrokMatcher grok;
+        private final CapturePlan plan;
+        // The number of inputs rejected by the prefilter, i.e without running the regex.
+        private long rejected;
+        private long attempts;
+        private long matches;
+        private long matchNanos;
+
+        PatternStats(final GrokMatcher grok, final CapturePlan plan) {
+            this.grok = grok;
+            this.plan = plan;
+        }
+
+        void record(final long nanos, final boolean matched) {
+            attempts++;
+            matchNanos += nanos;
+            if (matched) {
+                matches++;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "[" +
+                    "pattern=" + grok +
+                    ", matches=" + matches +
+                    ", attempts=" + attempts +
+                    ", rejected=" + rejected +
+                    ", avgMatchNanos=" + (attempts == 0 ? 0 : matchNanos / attempts) +
+                    ']';
+        }
     }
-}
\ No newline at end of file
+}
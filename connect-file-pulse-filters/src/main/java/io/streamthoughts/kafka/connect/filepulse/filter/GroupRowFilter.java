@@ -25,7 +25,6 @@ import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 import org.apache.kafka.common.config.ConfigDef;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -40,7 +39,7 @@ public class GroupRowFilter extends AbstractRecordFilter<GroupRowFilter> {
 
     private int maxBufferedRecords;
 
-    private List<TypedStruct> buffered = new LinkedList<>();
+    private List<TypedStruct> buffered = new ArrayList<>();
 
     private int lastObservedKey = -1;
 
@@ -74,7 +73,7 @@ public class GroupRowFilter extends AbstractRecordFilter<GroupRowFilter> {
                                               final TypedStruct record,
                                               final boolean hasNext) throws FilterException {
 
-        final List<TypedStruct> forward = new LinkedList<>();
+        final List<TypedStruct> forward = new ArrayList<>();
 
         if (buffered.size() >= maxBufferedRecords) {
             forward.add(groupBufferedRecords());
@@ -21,6 +21,8 @@ import io.streamthoughts.kafka.connect.filepulse.data.Type;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
 import io.streamthoughts.kafka.connect.filepulse.json.DefaultJSONStructConverter;
+import io.streamthoughts.kafka.connect.filepulse.json.JSONStructConverter;
+import io.streamthoughts.kafka.connect.filepulse.json.LazyJSONStructConverter;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import org.apache.kafka.common.config.ConfigDef;
 import java.util.Map;
@@ -28,7 +30,7 @@ import java.util.Set;
 
 public class JSONFilter extends AbstractMergeRecordFilter<JSONFilter> {
 
-    private final DefaultJSONStructConverter converter = new DefaultJSONStructConverter();
+    private JSONStructConverter converter;
 
     private JSONFilterConfig configs;
 
@@ -36,6 +38,8 @@ public class JSONFilter extends AbstractMergeRecordFilter<JSONFilter> {
 
     private String target;
 
+    private Set<String> overwrite;
+
     /**
      * {@inheritDoc}
      */
@@ -45,6 +49,8 @@ public class JSONFilter extends AbstractMergeRecordFilter<JSONFilter> {
         configs = new JSONFilterConfig(props);
         source = configs.source();
         target = configs.target();
+        overwrite = configs.overwrite();
+        converter = configs.lazy() ? new LazyJSONStructConverter() : new DefaultJSONStructConverter();
     }
 
     /**
@@ -98,6 +104,6 @@ public class JSONFilter extends AbstractMergeRecordFilter<JSONFilter> {
      */
     @Override
     protected Set<String> overwrite() {
-        return configs.overwrite();
+        return overwrite;
     }
 }
\ No newline at end of file
@@ -30,8 +30,9 @@ import org.joni.Matcher;
 import org.joni.Option;
 import org.joni.Regex;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -49,7 +50,7 @@ public class MultiRowFilter extends AbstractRecordFilter<MultiRowFilter> {
 
     private GrokMatcher matcher;
 
-    private final Collection<String> latest = new LinkedList<>();
+    private final Collection<String> latest = new ArrayList<>();
 
     private FileRecordOffset offset;
 
@@ -87,7 +88,7 @@ public class MultiRowFilter extends AbstractRecordFilter<MultiRowFilter> {
                                               final TypedStruct record,
                                               final boolean hasNext) throws FilterException {
 
-        final List<TypedStruct> next = new LinkedList<>();
+        final List<TypedStruct> next = new ArrayList<>();
 
         final String message = record.getString(DEFAULT_SOURCE_FIELD);
         if (mayNotMatchPreviousLines(message)) {
@@ -136,12 +137,13 @@ public class MultiRowFilter extends AbstractRecordFilter<MultiRowFilter> {
     /**
      * Checks whether the configured pattern can be found into the specified defaultStruct.
      *
-     * @param message   the input defaultStruct
+     * @param message   the input message.
      * @return          {@code true} if a matches is found.
      */
     private boolean isInputContainsPattern(final String message) {
         final Regex regex = matcher.regex();
-        byte[] bytes = message.getBytes();
+        // the regex is compiled for UTF-8.
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
         Matcher matcher = regex.matcher(bytes);
         return -1 != matcher.search(0, bytes.length, Option.DEFAULT);
     }
@@ -18,12 +18,13 @@ package io.streamthoughts.kafka.connect.filepulse.filter;
 
 import io.streamthoughts.kafka.connect.filepulse.config.RenameFilterConfig;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStructBatch;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import org.apache.kafka.common.config.ConfigDef;
 
 import java.util.Map;
 
-public class RenameFilter extends AbstractRecordFilter<RenameFilter> {
+public class RenameFilter extends AbstractRecordFilter<RenameFilter> implements ColumnarRecordFilter {
 
     private RenameFilterConfig configs;
 
@@ -62,4 +63,21 @@ public class RenameFilter extends AbstractRecordFilter<RenameFilter> {
 
         return new RecordsIterable<>(record);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypedStructBatch apply(final FilterContext context,
+                                  final TypedStructBatch batch) throws FilterException {
+
+        if (batch.has(configs.field())) {
+            return batch.rename(configs.field(), configs.target());
+
+        } else if (!configs.ignoreMissing()) {
+            throw new FilterException("Invalid field name '" + configs.field() + "'");
+        }
+
+        return batch;
+    }
 }
@@ -88,24 +88,26 @@ public class DefaultJSONStructConverter implements JSONStructConverter {
 
         @Override
         public TypedValue read(final JsonIterator it) throws IOException {
-            Any any = it.readAny();
+            return readNumber(it.readAny());
+        }
+    }
 
-            Object object = any.object();
-            if (object instanceof Long) {
-                return TypedValue.int64(any.toLong());
+    static TypedValue readNumber(final Any any) {
+        Object object = any.object();
+        if (object instanceof Long) {
+            return TypedValue.int64(any.toLong());
 
-            } else if (object instanceof Integer) {
-                return TypedValue.in32(any.toInt());
+        } else if (object instanceof Integer) {
+            return TypedValue.in32(any.toInt());
 
-            } else if (object instanceof Double) {
-                return TypedValue.float64(any.toDouble());
+        } else if (object instanceof Double) {
+            return TypedValue.float64(any.toDouble());
 
-            } else if (object instanceof Float) {
-                return TypedValue.float32(any.toFloat());
-            }
-
-            throw new ReaderException("Unknown number type : " + object.getClass());
+        } else if (object instanceof Float) {
+            return TypedValue.float32(any.toFloat());
         }
+
+        throw new ReaderException("Unknown number type : " + object.getClass());
     }
 
     private static class BooleanJsonFieldAccessor implements JsonFieldAccessor {
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.json;
+
+import com.jsoniter.JsonIterator;
+import com.jsoniter.ValueType;
+import com.jsoniter.any.Any;
+import io.streamthoughts.kafka.connect.filepulse.data.Type;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
+import io.streamthoughts.kafka.connect.filepulse.reader.ReaderException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link JSONStructConverter} which only decodes the value of a field when it is accessed.
+ *
+ * The JSON message is only scanned to delimit the top-level fields, each field being kept as a lazy
+ * {@link Any} over the raw message. Thus, filters which only read a few fields do not pay for decoding
+ * the whole document. Nested objects are decoded the same way when the field holding them is accessed.
+ *
+ * Invalid nested values are only reported by a {@link ReaderException} thrown when they are accessed,
+ * possibly after the filter that read the message.
+ */
+public class LazyJSONStructConverter implements JSONStructConverter {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypedStruct readJson(final String data) {
+
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            final JsonIterator it = JsonIterator.parse(data);
+            if (it.whatIsNext() != ValueType.OBJECT) {
+                throw new ReaderException("Error while reading json value, expected a JSON object.");
+            }
+            final TypedStruct struct = TypedStruct.struct();
+            for (String field = it.readObject(); field != null; field = it.readObject()) {
+                putLazy(struct, field, it.readAny());
+            }
+            return struct;
+
+        } catch (Exception e) {
+            throw new ReaderException("Error while reading json value, invalid JSON message.", e);
+        }
+    }
+
+    private static void putLazy(final TypedStruct struct, final String field, final Any any) {
+        // the value type is only read from the first character of the value, invalid values
+        // are thus still rejected while reading the message.
+        checkValueType(any.valueType());
+        struct.putLazy(field, () -> {
+            try {
+                return toTypedValue(any);
+            } catch (ReaderException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ReaderException("Error while reading json value for field '" + field + "'.", e);
+            }
+        });
+    }
+
+    private static TypedValue toTypedValue(final Any any) {
+        final ValueType type = any.valueType();
+        switch (checkValueType(type)) {
+            case STRING:
+                return TypedValue.string(any.toString());
+            case NUMBER:
+                return DefaultJSONStructConverter.readNumber(any);
+            case BOOLEAN:
+                return TypedValue.bool(any.toBoolean());
+            case ARRAY:
+                final List<Object> array = new ArrayList<>(any.size());
+                Type elementType = null;
+                for (Any element : any) {
+                    final TypedValue read = toTypedValue(element);
+                    elementType = read.type();
+                    array.add(read.value());
+                }
+                return TypedValue.array(array, elementType);
+            default:
+                final TypedStruct struct = TypedStruct.struct();
+                final Any.EntryIterator entries = any.entries();
+                while (entries.next()) {
+                    putLazy(struct, entries.key(), entries.value());
+                }
+                return TypedValue.struct(struct);
+        }
+    }
+
+    private static ValueType checkValueType(final ValueType type) {
+        if (type == ValueType.INVALID) {
+            throw new ReaderException(
+                "Error while reading value in JSON," +
+                " invalid type encounter - this is generally due to an unexpected character.");
+        }
+        if (type == ValueType.NULL) {
+            throw new ReaderException("Error while reading value in JSON - Unknown type " + type);
+        }
+        return type;
+    }
+}
@@ -34,20 +34,29 @@ public class GrokMatcher {
 
     private final String pattern;
 
-    private Regex regex;
+    private final GrokPrefilter prefilter;
+
+    // The compiled regex, immutable and thus shared by all the threads using this matcher.
+    private final Regex regex;
 
     /**
      * Creates a new {@link GrokMatcher} instance.
      *
      * @param patterns  the list of patterns.
      * @param matcher   the withMessage matcher.
+     * @param prefilter the prefilter for the inputs which cannot match.
      */
     GrokMatcher(final List<GrokPattern> patterns,
-                final String matcher) {
+                final String matcher,
+                final GrokPrefilter prefilter) {
         Objects.requireNonNull(patterns, "pattern can't be null");
         Objects.requireNonNull(matcher, "pattern can't be null");
+        Objects.requireNonNull(prefilter, "prefilter can't be null");
         this.patterns = patterns;
         this.pattern = matcher;
+        this.prefilter = prefilter;
+        final byte[] bytes = pattern.getBytes(StandardCharsets.UTF_8);
+        this.regex = new Regex(bytes, 0, bytes.length, Option.NONE, UTF8Encoding.INSTANCE);
         this.patternsByName = patterns
                 .stream()
                 .collect(Collectors.toMap(GrokPattern::syntax, p -> p,  (p1, p2) -> p1.semantic() != null ? p1 : p2));
@@ -61,11 +70,17 @@ public class GrokMatcher {
         return patternsByName.get(name);
     }
 
+    /**
+     * Checks whether the specified input may match this grok expression, without running the regex.
+     *
+     * @param bytes the UTF-8 encoded input.
+     * @return      {@code false} if the input cannot match, {@code true} if it may match.
+     */
+    public boolean mayMatch(final byte[] bytes) {
+        return prefilter.mayMatch(bytes);
+    }
+
     public Regex regex() {
-        if (regex == null) {
-            byte[] bytes = pattern.getBytes(StandardCharsets.UTF_8);
-            regex = new Regex(bytes, 0, bytes.length, Option.NONE, UTF8Encoding.INSTANCE);
-        }
         return regex;
     }
 
@@ -74,6 +89,7 @@ public class GrokMatcher {
         return "GrokMatcher{" +
                 "patterns=" + patterns +
                 ", pattern='" + pattern + '\'' +
+                ", prefilter='" + prefilter + '\'' +
                 '}';
     }
 }
@@ -16,12 +16,17 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.pattern;
 
+import org.apache.kafka.common.cache.Cache;
+import org.apache.kafka.common.cache.LRUCache;
+import org.apache.kafka.common.cache.SynchronizedCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -36,6 +41,18 @@ public class GrokPatternCompiler {
     private static final String REGEX = "(?:%\\{(?<syntax>[A-Z0-9_]+)(?:\\:(?<semantic>[a-zA-Z0-9_\\\\-]+))?(?:\\:(?<type>[a-zA-Z0-9_\\\\-]+))?\\})";
     private static final Pattern PATTERN = Pattern.compile(REGEX);
 
+    // The maximum number of compiled matchers to be cached, the least recently used ones being evicted first.
+    static final int MAX_CACHED_MATCHERS = 1_000;
+
+    // The matchers compiled by all the compilers of this JVM, which are immutable and thus shared between tasks.
+    // The cache is only accessed when filters are configured, thus a lock is not contended.
+    private static final Cache<CacheKey, GrokMatcher> MATCHERS =
+        new SynchronizedCache<>(new LRUCache<>(MAX_CACHED_MATCHERS));
+
+    private static final AtomicLong CACHE_HITS = new AtomicLong(0);
+    private static final AtomicLong CACHE_MISSES = new AtomicLong(0);
+    private static final AtomicLong COMPILE_NANOS = new AtomicLong(0);
+
     private final GrokPatternResolver resolver;
 
     private final boolean namedCapturesOnly;
@@ -56,11 +73,30 @@ public class GrokPatternCompiler {
     public GrokMatcher compile(final String expression) {
         Objects.requireNonNull(expression, "expression can't be null");
 
+        final CacheKey key = new CacheKey(expression, resolver, namedCapturesOnly);
+        final GrokMatcher cached = MATCHERS.get(key);
+        if (cached != null) {
+            final long hits = CACHE_HITS.incrementAndGet();
+            LOG.debug("Using cached grok matcher for expression : {} (hits={}, misses={})",
+                expression, hits, CACHE_MISSES.get());
+            return cached;
+        }
+
         LOG.info("Starting to compile grok matcher expression : {}", expression);
+        final long start = System.nanoTime();
         ArrayList<GrokPattern> patterns = new ArrayList<>();
         final String regex = compileRegex(expression, patterns);
-        LOG.info("Grok expression compiled to regex : {}", regex);
-        return new GrokMatcher(patterns, regex);
+        final GrokMatcher matcher = new GrokMatcher(patterns, regex, GrokPrefilter.forRegex(regex));
+        final long nanos = System.nanoTime() - start;
+        LOG.info("Grok expression compiled to regex in {} ms (total={} ms, hits={}, misses={}) : {}",
+            TimeUnit.NANOSECONDS.toMillis(nanos),
+            TimeUnit.NANOSECONDS.toMillis(COMPILE_NANOS.addAndGet(nanos)),
+            CACHE_HITS.get(),
+            CACHE_MISSES.incrementAndGet(),
+            regex);
+
+        MATCHERS.put(key, matcher);
+        return matcher;
     }
 
     private String compileRegex(final String expression, final List<GrokPattern> patterns) {
@@ -94,4 +130,40 @@ public class GrokPatternCompiler {
     private String capture(final String expression, final String name) {
         return "(?<" + name + ">" + expression + ")";
     }
+
+    private static final class CacheKey {
+
+        private final String expression;
+        private final GrokPatternResolver resolver;
+        private final boolean namedCapturesOnly;
+
+        CacheKey(final String expression,
+                 final GrokPatternResolver resolver,
+                 final boolean namedCapturesOnly) {
+            this.expression = expression;
+            this.resolver = resolver;
+            this.namedCapturesOnly = namedCapturesOnly;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey)) return false;
+            CacheKey that = (CacheKey) o;
+            return namedCapturesOnly == that.namedCapturesOnly &&
+                    expression.equals(that.expression) &&
+                    resolver.equals(that.resolver);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(expression, resolver, namedCapturesOnly);
+        }
+    }
 }
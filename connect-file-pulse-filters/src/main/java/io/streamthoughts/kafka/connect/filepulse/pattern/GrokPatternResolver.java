@@ -40,6 +40,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -55,8 +58,22 @@ public class GrokPatternResolver {
     private static final String NEWLINE = "\n";
     private static final String SPACE = " ";
 
+    // The pre-defined pattern definitions, loaded once per class loader.
+    private static final Map<ClassLoader, Map<String, String>> PREDEFINED =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    // The pattern definitions read from user-defined files, reloaded only when a file is modified.
+    private static final ConcurrentMap<Path, CachedDefinitions> USER_DEFINED = new ConcurrentHashMap<>();
+
+    // The pre-defined pattern definitions, shared by all the resolvers of the same class loader.
+    private final Map<String, String> predefined;
+
+    // The user-defined pattern definitions, which take precedence over the pre-defined ones.
     private final Map<String, String> definitions;
 
+    // The hash of the definitions, computed once as resolvers are used as keys for caching compiled matchers.
+    private final int hash;
+
     /**
      * Creates a new {@link GrokPatternResolver} instance.
      */
@@ -72,10 +89,23 @@ public class GrokPatternResolver {
      */
     public GrokPatternResolver(final Collection<String> patternDefinitions,
                                final Collection<File> patternsDir) {
+        this.predefined = predefinedPatterns();
         this.definitions = new LinkedHashMap<>();
-        loadPredefinedPatterns();
         loadUserDefinedPatterns(patternsDir);
         this.definitions.putAll(readPatterns(patternDefinitions));
+        this.hash = 31 * System.identityHashCode(predefined) + definitions.hashCode();
+    }
+
+    private static Map<String, String> predefinedPatterns() {
+        final ClassLoader cl = getClassLoader();
+        synchronized (PREDEFINED) {
+            Map<String, String> patterns = PREDEFINED.get(cl);
+            if (patterns == null) {
+                patterns = Collections.unmodifiableMap(loadPredefinedPatterns());
+                PREDEFINED.put(cl, patterns);
+            }
+            return patterns;
+        }
     }
 
     private void loadUserDefinedPatterns(final Collection<File>  patternsDir) {
@@ -95,7 +125,9 @@ public class GrokPatternResolver {
 
                 try {
                     List<Path> paths = Files.list(dir.toPath()).collect(Collectors.toList());
-                    loadPatternDefinitions(paths);
+                    for (final Path path : paths) {
+                        definitions.putAll(readCachedPatternDefinitionsFrom(path));
+                    }
                 } catch (IOException e) {
                     LOG.error("Unexpected error occurred while reading user defined patterns", e);
                 }
@@ -103,8 +135,9 @@ public class GrokPatternResolver {
         }
     }
 
-    private void loadPredefinedPatterns() {
+    private static Map<String, String> loadPredefinedPatterns() {
         LOG.info("Looking for pre-defined patterns definitions from : {}", PATTERNS_PATH);
+        final Map<String, String> definitions = new LinkedHashMap<>();
         try {
             ClassLoader cl = getClassLoader();
             URL url = cl.getResource(PATTERNS_PATH);
@@ -115,11 +148,11 @@ public class GrokPatternResolver {
                         final List<Path> paths = Files.walk(fs.getPath(PATTERNS_PATH))
                                 .filter(p -> Files.isRegularFile(p))
                                 .collect(Collectors.toList());
-                        loadPatternDefinitions(paths);
+                        loadPatternDefinitions(paths, definitions);
                     }
                 } else {
                     final List<Path> paths = Files.list(Paths.get(url.toURI())).collect(Collectors.toList());
-                    loadPatternDefinitions(paths);
+                    loadPatternDefinitions(paths, definitions);
                 }
             } else {
                 LOG.error("Failed to load pre-defined patterns definitions : {}", PATTERNS_PATH);
@@ -127,9 +160,10 @@ public class GrokPatternResolver {
         } catch (IOException | URISyntaxException e) {
             LOG.error("Unexpected error occurred while reading pre-defined patterns", e);
         }
+        return definitions;
     }
 
-    private FileSystem getFileSystemFor(final URL url) throws URISyntaxException, IOException {
+    private static FileSystem getFileSystemFor(final URL url) throws URISyntaxException, IOException {
         FileSystem fs;
         try {
             fs = FileSystems.getFileSystem(url.toURI());
@@ -139,7 +173,8 @@ public class GrokPatternResolver {
         return fs;
     }
 
-    private void loadPatternDefinitions(final List<Path> paths) throws IOException {
+    private static void loadPatternDefinitions(final List<Path> paths,
+                                               final Map<String, String> definitions) throws IOException {
         for (final Path path : paths) {
             Map<String, String> patternDefinitions = readPatternDefinitionsFrom(path);
             definitions.putAll(patternDefinitions);
@@ -147,6 +182,18 @@ public class GrokPatternResolver {
         }
     }
 
+    private Map<String, String> readCachedPatternDefinitionsFrom(final Path path) throws IOException {
+        final long lastModified = Files.getLastModifiedTime(path).toMillis();
+        final CachedDefinitions cached = USER_DEFINED.get(path);
+        if (cached != null && cached.lastModified == lastModified) {
+            return cached.definitions;
+        }
+        final Map<String, String> patternDefinitions = readPatternDefinitionsFrom(path);
+        USER_DEFINED.put(path, new CachedDefinitions(lastModified, patternDefinitions));
+        LOG.info("Loaded patterns definitions from : {}", path.toUri());
+        return patternDefinitions;
+    }
+
     private static ClassLoader getClassLoader() {
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
         if (cl == null) {
@@ -156,17 +203,20 @@ public class GrokPatternResolver {
     }
 
     public String resolve(final String syntax) {
-        if (!definitions.containsKey(syntax)) {
+        final String definition = definitions.getOrDefault(syntax, predefined.get(syntax));
+        if (definition == null) {
             throw new GrokException("No pattern definition found for syntax : " + syntax);
         }
 
-        return definitions.get(syntax);
+        return definition;
     }
 
     void print() {
         StringBuilder sb = new StringBuilder();
         sb.append("Defined pattern definitions list : \n");
-        definitions.forEach( (k, v) -> {
+        final Map<String, String> all = new LinkedHashMap<>(predefined);
+        all.putAll(definitions);
+        all.forEach( (k, v) -> {
             sb.append(TAB)
               .append(k)
               .append(SPACE)
@@ -179,10 +229,29 @@ public class GrokPatternResolver {
     }
 
     boolean isEmpty() {
-        return definitions.isEmpty();
+        return predefined.isEmpty() && definitions.isEmpty();
     }
 
-    private Map<String, String> readPatternDefinitionsFrom(final Path path) throws GrokException, IOException {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GrokPatternResolver)) return false;
+        GrokPatternResolver that = (GrokPatternResolver) o;
+        return hash == that.hash && predefined == that.predefined && definitions.equals(that.definitions);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static Map<String, String> readPatternDefinitionsFrom(final Path path) throws GrokException, IOException {
         final InputStream is = Files.newInputStream(path, StandardOpenOption.READ);
         try (BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
             List<String> definitions = br.lines().collect(Collectors.toList());
@@ -192,7 +261,7 @@ public class GrokPatternResolver {
         }
     }
 
-    private Map<String, String> readPatterns(final Collection<String> definitions) {
+    private static Map<String, String> readPatterns(final Collection<String> definitions) {
         return definitions.stream()
                 .map(s -> {
                     KeyValue<String, String> result = null;
@@ -208,6 +277,17 @@ public class GrokPatternResolver {
                 .collect(Collectors.toMap(KeyValue::key, KeyValue::value));
     }
 
+    private static final class CachedDefinitions {
+
+        private final long lastModified;
+        private final Map<String, String> definitions;
+
+        CachedDefinitions(final long lastModified, final Map<String, String> definitions) {
+            this.lastModified = lastModified;
+            this.definitions = definitions;
+        }
+    }
+
     private static class KeyValue<K, V> {
 
         private final K key;
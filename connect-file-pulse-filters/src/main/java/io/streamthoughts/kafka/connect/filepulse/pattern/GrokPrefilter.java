@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.pattern;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@code GrokPrefilter} rejects the inputs which cannot match a grok expression because they do not contain
+ * a literal text required by the expression, without having to run the regex.
+ */
+final class GrokPrefilter {
+
+    // The characters which have a special meaning outside of a character class.
+    private static final String METACHARACTERS = "\\.[]{}()*+?^$|";
+
+    // The escaped letters which may be followed by an operand that is hard to delimit (e.g \C-x, \M-\C-x).
+    private static final String UNSUPPORTED_ESCAPES = "cCMQ";
+
+    static final GrokPrefilter NONE = new GrokPrefilter(new byte[0]);
+
+    // The UTF-8 encoded literal which must be found into any matching input.
+    private final byte[] literal;
+
+    private GrokPrefilter(final byte[] literal) {
+        this.literal = literal;
+    }
+
+    /**
+     * Gets the prefilter for the longest literal which is required by the specified regex.
+     *
+     * Only the text outside of any regex group is considered, regex constructs (e.g escape sequences or quantifier
+     * bounds) being never taken as literal. If the regex contains an alternation outside of a group, an inline
+     * option (e.g case-insensitive) or an escape sequence which cannot be reliably delimited, no literal is required.
+     *
+     * @param regex     the regex compiled from a grok expression, i.e with all its patterns resolved.
+     * @return          the new {@link GrokPrefilter} instance, {@link #NONE} if no literal is required.
+     */
+    static GrokPrefilter forRegex(final String regex) {
+        if (hasInlineOptions(regex) || hasUnsupportedEscapes(regex)) {
+            return NONE;
+        }
+        String longest = "";
+        StringBuilder current = new StringBuilder();
+        int depth = 0;
+        for (int i = 0, next; i < regex.length(); i = next) {
+            next = endOfToken(regex, i);
+            if (depth == 0 && regex.charAt(i) == '|') {
+                // e.g a pattern defined as an alternation, which is not enclosed in a group when it is not captured.
+                return NONE;
+            }
+            depth += depthChangeAt(regex, i);
+
+            final String literal = literalAt(regex, i);
+            if (literal != null && depth == 0 && !isQuantifiedAt(regex, next)) {
+                current.append(literal);
+            } else {
+                longest = current.length() > longest.length() ? current.toString() : longest;
+                current = new StringBuilder();
+            }
+        }
+        longest = current.length() > longest.length() ? current.toString() : longest;
+        return longest.isEmpty() ? NONE : new GrokPrefilter(longest.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int depthChangeAt(final String expression, final int i) {
+        final char c = expression.charAt(i);
+        return c == '(' ? 1 : c == ')' ? -1 : 0;
+    }
+
+    // a token followed by one of those quantifiers may not appear into a matching input.
+    private static boolean isQuantifiedAt(final String expression, final int i) {
+        return i < expression.length() && "?*{".indexOf(expression.charAt(i)) >= 0;
+    }
+
+    private static int endOfToken(final String expression, final int i) {
+        final char c = expression.charAt(i);
+        if (c == '\\') {
+            return endOfEscape(expression, i);
+        }
+        if (c == '[') {
+            return endOfCharacterClass(expression, i);
+        }
+        if (c == '{') {
+            // the bounds of a quantifier (e.g {2} or {1,3}).
+            return endOf(expression, i + 1, '}');
+        }
+        return i + 1;
+    }
+
+    private static int endOfEscape(final String expression, final int start) {
+        final int i = start + 1;
+        if (i >= expression.length() || !Character.isLetterOrDigit(expression.charAt(i))) {
+            return i + 1;
+        }
+        final char escape = expression.charAt(i);
+        final int next = i + 1;
+        if (next < expression.length()) {
+            final char c = expression.charAt(next);
+            // e.g \x{41}, \p{Alpha}, \k<name> or \g'name'.
+            if (c == '{') {
+                return endOf(expression, next + 1, '}');
+            }
+            if ((escape == 'k' || escape == 'g') && (c == '<' || c == '\'')) {
+                return endOf(expression, next + 1, c == '<' ? '>' : '\'');
+            }
+        }
+        return endOfUndelimitedOperand(expression, escape, next);
+    }
+
+    private static int endOfUndelimitedOperand(final String expression, final char escape, final int start) {
+        switch (escape) {
+            case 'x':
+                return skipDigits(expression, start, 16, 2);
+            case 'u':
+                return skipDigits(expression, start, 16, 4);
+            case 'k':
+            case 'g':
+                return skipDigits(expression, start, 10, Integer.MAX_VALUE);
+            case 'p':
+            case 'P':
+                // a one-letter property, e.g \pL.
+                return Math.min(start + 1, expression.length());
+            default:
+                // an octal value or a backreference, e.g \012 or \12.
+                return Character.isDigit(escape) ? skipDigits(expression, start, 10, Integer.MAX_VALUE) : start;
+        }
+    }
+
+    private static int skipDigits(final String expression, final int start, final int radix, final int max) {
+        int i = start;
+        while (i < expression.length() && i - start < max && Character.digit(expression.charAt(i), radix) >= 0) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return the index following the specified closing character, or the length of the expression if not found,
+     *         so that the remaining characters are not taken as literal.
+     */
+    private static int endOf(final String expression, final int start, final char closing) {
+        final int i = expression.indexOf(closing, start);
+        return i < 0 ? expression.length() : i + 1;
+    }
+
+    /**
+     * @return the literal text of the token starting at the specified index, or {@code null} if the token
+     *         is not a literal (e.g a character class or any other regex construct).
+     */
+    private static String literalAt(final String expression, final int i) {
+        final char c = expression.charAt(i);
+        if (c == '\\') {
+            final boolean escaped = i + 1 < expression.length() && !Character.isLetterOrDigit(expression.charAt(i + 1));
+            return escaped ? String.valueOf(expression.charAt(i + 1)) : null;
+        }
+        if (METACHARACTERS.indexOf(c) >= 0) {
+            return null;
+        }
+        return String.valueOf(c);
+    }
+
+    private static boolean hasUnsupportedEscapes(final String expression) {
+        int i = expression.indexOf('\\');
+        while (i >= 0 && i + 1 < expression.length()) {
+            if (UNSUPPORTED_ESCAPES.indexOf(expression.charAt(i + 1)) >= 0) {
+                return true;
+            }
+            i = expression.indexOf('\\', i + 2);
+        }
+        return false;
+    }
+
+    private static boolean hasInlineOptions(final String expression) {
+        for (int i = expression.indexOf("(?"); i >= 0; i = expression.indexOf("(?", i + 2)) {
+            if (i + 2 < expression.length() && Character.isLetter(expression.charAt(i + 2))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int endOfCharacterClass(final String expression, final int start) {
+        // a closing bracket right after the opening one (or its negation) is part of the class.
+        int i = start + 1;
+        if (i < expression.length() && expression.charAt(i) == '^') i++;
+        if (i < expression.length() && expression.charAt(i) == ']') i++;
+        while (i < expression.length() && expression.charAt(i) != ']') {
+            i += expression.charAt(i) == '\\' ? 2 : 1;
+        }
+        return i + 1;
+    }
+
+    /**
+     * Checks whether the specified input may match the expression.
+     *
+     * @param bytes the UTF-8 encoded input.
+     * @return      {@code false} if the input cannot match.
+     */
+    boolean mayMatch(final byte[] bytes) {
+        final int n = literal.length;
+        if (n == 0) {
+            return true;
+        }
+        final byte first = literal[0];
+        for (int i = 0; i <= bytes.length - n; i++) {
+            if (bytes[i] == first && matchesAt(bytes, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesAt(final byte[] bytes, final int offset) {
+        for (int j = 1; j < literal.length; j++) {
+            if (bytes[offset + j] != literal[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new String(literal, StandardCharsets.UTF_8);
+    }
+}
@@ -17,7 +17,9 @@
 package io.streamthoughts.kafka.connect.filepulse.filter;
 
 import io.streamthoughts.kafka.connect.filepulse.config.ConvertFilterConfig;
+import io.streamthoughts.kafka.connect.filepulse.data.Schema;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStructBatch;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecordOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 import org.junit.Assert;
@@ -61,4 +63,14 @@ public class ConvertFilterTest {
         TypedStruct result = results.get(0);
         Assert.assertTrue(result.getBoolean("foo"));
     }
-}
\ No newline at end of file
+
+    @Test(expected = FilterException.class)
+    public void shouldThrowFilterExceptionGivenBatchWithNullValue() {
+        configs.put(ConvertFilterConfig.CONVERT_FIELD_CONFIG, "foo");
+        configs.put(ConvertFilterConfig.CONVERT_TYPE_CONFIG, "integer");
+        filter.configure(configs);
+
+        TypedStructBatch batch = new TypedStructBatch(2).put("foo", Schema.string(), new Object[]{"1", null});
+        filter.apply(context, batch);
+    }
+}
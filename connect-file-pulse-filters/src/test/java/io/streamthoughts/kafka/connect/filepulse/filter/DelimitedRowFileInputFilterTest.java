@@ -17,17 +17,22 @@
 package io.streamthoughts.kafka.connect.filepulse.filter;
 
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStructBatch;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static io.streamthoughts.kafka.connect.filepulse.config.DelimitedRowFilterConfig.READER_EXTRACT_COLUMN_NAME_CONFIG;
 import static io.streamthoughts.kafka.connect.filepulse.config.DelimitedRowFilterConfig.READER_FIELD_COLUMNS_CONFIG;
+import static io.streamthoughts.kafka.connect.filepulse.config.DelimitedRowFilterConfig.READER_FIELD_QUOTE_CONFIG;
+import static io.streamthoughts.kafka.connect.filepulse.config.DelimitedRowFilterConfig.READER_FIELD_SEPARATOR_CONFIG;
 
 
 public class DelimitedRowFileInputFilterTest {
@@ -88,4 +93,59 @@ public class DelimitedRowFileInputFilterTest {
         Assert.assertEquals("value2", record.getString("c2"));
         Assert.assertEquals("value3", record.getString("c3"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldSplitAllRowsOfBatchGivenConfiguredSchema() {
+        configs.put(READER_FIELD_COLUMNS_CONFIG, "c1:STRING;c2:STRING;c3:STRING");
+        filter.configure(configs);
+        final TypedStructBatch batch = TypedStructBatch.of(Arrays.asList(
+            new TypedStruct().put("message", "a1;a2;a3"),
+            new TypedStruct().put("message", "b1;b2;b3")
+        ));
+
+        final List<TypedStruct> output = filter.apply(null, batch).toStructs();
+        Assert.assertEquals(2, output.size());
+        final TypedStruct expected = filter.apply(null, new TypedStruct().put("message", "a1;a2;a3"), false).last();
+        Assert.assertEquals(expected, output.get(0));
+        Assert.assertEquals("b1", output.get(1).getString("c1"));
+        Assert.assertEquals("b3", output.get(1).getString("c3"));
+    }
+
+    @Test
+    public void shouldNotSplitBatchGivenRowsWithDifferentNumberOfFields() {
+        configs.put(READER_FIELD_COLUMNS_CONFIG, "c1:STRING;c2:STRING;c3:STRING");
+        filter.configure(configs);
+        final TypedStructBatch batch = TypedStructBatch.of(Arrays.asList(
+            new TypedStruct().put("message", "a1;a2;a3"),
+            new TypedStruct().put("message", "b1;b2")
+        ));
+
+        Assert.assertNull(filter.apply(null, batch));
+    }
+
+    @Test
+    public void shouldNotSplitBatchGivenRowsWithNoSourceField() {
+        configs.put(READER_FIELD_COLUMNS_CONFIG, "c1:STRING;c2:STRING;c3:STRING");
+        filter.configure(configs);
+        final TypedStructBatch batch = TypedStructBatch.of(Arrays.asList(
+            new TypedStruct().put("other", "a1;a2;a3"),
+            new TypedStruct().put("other", "b1;b2;b3")
+        ));
+
+        Assert.assertNull(filter.apply(null, batch));
+    }
+
+    @Test
+    public void shouldSplitQuotedFieldsGivenQuoteCharacter() {
+        configs.put(READER_FIELD_SEPARATOR_CONFIG, ",");
+        configs.put(READER_FIELD_QUOTE_CONFIG, "\"");
+        filter.configure(configs);
+        final TypedStruct struct = new TypedStruct().put("message", "1,\"Doe, John\",\"say \"\"hello\"\"\"");
+        RecordsIterable<TypedStruct> output = filter.apply(null, struct, false);
+
+        final TypedStruct record = output.iterator().next();
+        Assert.assertEquals("1", record.getString("column1"));
+        Assert.assertEquals("Doe, John", record.getString("column2"));
+        Assert.assertEquals("say \"hello\"", record.getString("column3"));
+    }
+}
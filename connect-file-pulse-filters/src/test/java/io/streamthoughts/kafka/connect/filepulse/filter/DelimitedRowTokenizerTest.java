@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.filter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DelimitedRowTokenizerTest {
+
+    @Test
+    public void shouldSplitLikeStringSplitGivenLiteralDelimiter() {
+        final DelimitedRowTokenizer tokenizer = new DelimitedRowTokenizer(";", null);
+        for (String row : new String[]{"a;b;c", "a;;c", ";b", "a;b;;", ";;", "", "a"}) {
+            assertFields(row.split(";"), tokenizer, row);
+        }
+    }
+
+    @Test
+    public void shouldSplitLikeStringSplitGivenRegexDelimiter() {
+        final DelimitedRowTokenizer escaped = new DelimitedRowTokenizer("\\|", null);
+        assertFields(new String[]{"a", "b"}, escaped, "a|b");
+
+        final DelimitedRowTokenizer regex = new DelimitedRowTokenizer("\\s*,\\s*", null);
+        assertFields(new String[]{"a", "b", "c"}, regex, "a , b,c");
+    }
+
+    @Test
+    public void shouldUnquoteFieldsGivenQuoteCharacter() {
+        final DelimitedRowTokenizer tokenizer = new DelimitedRowTokenizer(",", '"');
+        assertFields(new String[]{"a,b", "", "c\"d", "e"}, tokenizer, "\"a,b\",\"\",\"c\"\"d\",e");
+    }
+
+    @Test(expected = FilterException.class)
+    public void shouldThrowExceptionGivenUnterminatedQuotedField() {
+        new DelimitedRowTokenizer(",", '"').tokenize("a,\"b,c");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionGivenQuoteCharacterAndRegexDelimiter() {
+        new DelimitedRowTokenizer("\\s+", '"');
+    }
+
+    private static void assertFields(final String[] expected, final DelimitedRowTokenizer tokenizer, final String row) {
+        Assert.assertEquals(row, expected.length, tokenizer.tokenize(row));
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(row, expected[i], tokenizer.field(i));
+        }
+    }
+}
@@ -22,6 +22,7 @@ import io.streamthoughts.kafka.connect.filepulse.config.GrokFilterConfig;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -74,6 +75,72 @@ public class GrokFilterTest {
         Assert.assertEquals("a dummy log message", struct.getString("message"));
     }
 
+    @Test
+    public void testGivenInternFieldsProperty() {
+        configs.put(GrokFilterConfig.GROK_ROW_PATTERN_CONFIG, GROK_NAMED_CAPTURED_PATTERN);
+        configs.put(CommonFilterConfig.INTERN_FIELDS_CONFIG, "level");
+        filter.configure(configs);
+        TypedStruct first = filter.apply(null, DATA, false).collect().get(0);
+        TypedStruct second = filter.apply(null, DATA, false).collect().get(0);
+
+        Assert.assertEquals("INFO", first.getString("level"));
+        Assert.assertSame(first.getString("level"), second.getString("level"));
+        Assert.assertNotSame(first.getString("timestamp"), second.getString("timestamp"));
+    }
+
+    @Test
+    public void testGivenInputWithNonAsciiCharacters() {
+        final String input = "1970-01-01 00:00:00,000 INFO café crème";
+        configs.put(GrokFilterConfig.GROK_ROW_PATTERN_CONFIG, GROK_NAMED_CAPTURED_PATTERN);
+        configs.put(CommonFilterConfig.FILTER_OVERWRITE_CONFIG, "message");
+        filter.configure(configs);
+        final TypedStruct data = new TypedStruct().put("message", input);
+        TypedStruct struct = filter.apply(null, data, false).collect().get(0);
+
+        Assert.assertEquals("INFO", struct.getString("level"));
+        Assert.assertEquals("café crème", struct.getString("message"));
+    }
+
+    @Test
+    public void testGivenMultiplePatterns() {
+        configs.put(GrokFilterConfig.GROK_ROW_PATTERNS_CONFIG,
+            "%{IP:client} - - %{GREEDYDATA:request}," + GROK_NAMED_CAPTURED_PATTERN);
+        configs.put(CommonFilterConfig.FILTER_OVERWRITE_CONFIG, "message");
+        filter.configure(configs);
+
+        TypedStruct struct = filter.apply(null, DATA, false).collect().get(0);
+        Assert.assertEquals("INFO", struct.getString("level"));
+
+        struct = filter.apply(null, new TypedStruct().put("message", "127.0.0.1 - - GET /"), false).collect().get(0);
+        Assert.assertEquals("127.0.0.1", struct.getString("client"));
+        Assert.assertEquals("GET /", struct.getString("request"));
+    }
+
+    @Test
+    public void testGivenAdaptiveOrderProperty() {
+        configs.put(GrokFilterConfig.GROK_ROW_PATTERNS_CONFIG, "%{WORD:first} %{WORD},%{WORD:second} %{INT}");
+        configs.put(GrokFilterConfig.GROK_ROW_ADAPTIVE_ORDER_CONFIG, "true");
+        filter.configure(configs);
+        final TypedStruct both = new TypedStruct().put("message", "value 42");
+
+        Assert.assertTrue(filter.apply(null, both, false).collect().get(0).has("first"));
+        for (int i = 0; i < 2; i++) {
+            filter.apply(null, new TypedStruct().put("message", "value -1"), false);
+        }
+        Assert.assertTrue(filter.apply(null, both, false).collect().get(0).has("second"));
+    }
+
+    @Test
+    public void testGivenOptionalCaptures() {
+        configs.put(GrokFilterConfig.GROK_ROW_PATTERN_CONFIG, "%{WORD:method} %{INT:status}(?: %{WORD:extra})?");
+        filter.configure(configs);
+        TypedStruct struct = filter.apply(null, new TypedStruct().put("message", "GET 200"), false).collect().get(0);
+
+        Assert.assertEquals("GET", struct.getString("method"));
+        Assert.assertEquals("200", struct.getString("status"));
+        Assert.assertFalse(struct.has("extra"));
+    }
+
     @Test(expected = FilterException.class)
     public void testGivenNotMatchingInput() {
         configs.put(GrokFilterConfig.GROK_ROW_PATTERN_CONFIG, GROK_NAMED_CAPTURED_PATTERN);
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.json;
+
+import io.streamthoughts.kafka.connect.filepulse.data.Type;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.reader.ReaderException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class LazyJSONStructConverterTest {
+
+    private static final String JSON = "{\"field-string\":\"one\", \"field-int\":42, \"field-double\":1.5," +
+            "\"field-bool\":true, \"field-array\":[\"foo\",\"bar\"]," +
+            "\"field-struct\":{\"nested\":{\"value\":\"two\"}, \"items\":[1,2]}}";
+
+    private JSONStructConverter converter = new LazyJSONStructConverter();
+
+    @Test
+    public void shouldConvertToSameStructThanDefaultConverter() throws Exception {
+        TypedStruct expected = new DefaultJSONStructConverter().readJson(JSON);
+        TypedStruct struct = converter.readJson(JSON);
+
+        assertEquals(expected.schema(), struct.schema());
+        assertEquals(expected, struct);
+    }
+
+    @Test
+    public void shouldDecodeOnlyAccessedFields() throws Exception {
+        TypedStruct struct = converter.readJson("{\"field-one\":\"one\", \"field-two\":{\"value\":null}}");
+
+        assertEquals(Arrays.asList("field-one", "field-two"), struct.fieldNames());
+        assertEquals("one", struct.getString("field-one"));
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldThrowExceptionWhenAccessingInvalidField() throws Exception {
+        TypedStruct struct = converter.readJson("{\"field-one\":\"one\", \"field-two\":{\"value\":null}}");
+        struct.getStruct("field-two");
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldOnlyDecodeAccessedNestedFields() throws Exception {
+        TypedStruct struct = converter.readJson("{\"field-one\":{\"nested\":{\"value\":null}}}");
+        TypedStruct one = struct.getStruct("field-one");
+
+        assertEquals(Collections.singletonList("nested"), one.fieldNames());
+        one.getStruct("nested");
+    }
+
+    @Test
+    public void shouldNotDecodeFieldsWhenPuttingStructIntoAnotherStruct() throws Exception {
+        TypedStruct json = converter.readJson("{\"field-one\":\"one\", \"field-two\":{\"value\":null}}");
+        TypedStruct struct = TypedStruct.struct().put("target", json);
+
+        assertEquals(Type.STRUCT, struct.field("target").type());
+        assertEquals("one", struct.getStruct("target").getString("field-one"));
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldThrowExceptionGivenNullField() throws Exception {
+        converter.readJson("{\"field-one\":null}");
+    }
+}
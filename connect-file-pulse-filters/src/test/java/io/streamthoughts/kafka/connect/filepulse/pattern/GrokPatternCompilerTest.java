@@ -48,4 +48,16 @@ public class GrokPatternCompilerTest {
         Assert.assertEquals("timezone", matcher.getGrokPattern(0).semantic());
         Assert.assertEquals(Type.INTEGER, matcher.getGrokPattern(0).type());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldShareCompiledMatcherGivenSameExpressionAndDefinitions() {
+        final String expression = "%{LOGLEVEL:level} %{GREEDYDATA:message}";
+        final GrokMatcher matcher = compiler.compile(expression);
+
+        Assert.assertSame(matcher, new GrokPatternCompiler(new GrokPatternResolver(), false).compile(expression));
+        Assert.assertNotSame(matcher, new GrokPatternCompiler(new GrokPatternResolver(), true).compile(expression));
+        Assert.assertNotSame(matcher, new GrokPatternCompiler(
+            new GrokPatternResolver(Collections.singletonList("LOGLEVEL INFO|WARN"), Collections.emptyList()), false)
+            .compile(expression));
+    }
+}
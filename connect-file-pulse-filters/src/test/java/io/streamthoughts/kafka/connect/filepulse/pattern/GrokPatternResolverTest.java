@@ -3,6 +3,9 @@ package io.streamthoughts.kafka.connect.filepulse.pattern;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 public class GrokPatternResolverTest {
@@ -22,4 +25,24 @@ public class GrokPatternResolverTest {
         System.out.println(resolve);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldResolveUserDefinedPatternBeforePredefinedOne() {
+        GrokPatternResolver resolver = newResolver(Collections.singletonList("LOGLEVEL INFO|WARN"));
+
+        Assert.assertEquals("INFO|WARN", resolver.resolve("LOGLEVEL"));
+        Assert.assertEquals(new GrokPatternResolver().resolve("WORD"), resolver.resolve("WORD"));
+    }
+
+    @Test
+    public void shouldBeEqualGivenSameUserDefinedPatterns() {
+        final List<String> definitions = Collections.singletonList("LOGLEVEL INFO|WARN");
+
+        Assert.assertEquals(newResolver(definitions), newResolver(definitions));
+        Assert.assertEquals(newResolver(definitions).hashCode(), newResolver(definitions).hashCode());
+        Assert.assertNotEquals(new GrokPatternResolver(), newResolver(definitions));
+    }
+
+    private static GrokPatternResolver newResolver(final List<String> definitions) {
+        return new GrokPatternResolver(definitions, Collections.emptyList());
+    }
+}
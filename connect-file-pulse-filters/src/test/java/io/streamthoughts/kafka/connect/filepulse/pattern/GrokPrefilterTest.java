@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.pattern;
+
+import org.jcodings.specific.UTF8Encoding;
+import org.joni.Option;
+import org.joni.Regex;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class GrokPrefilterTest {
+
+    @Test
+    public void shouldRequireLongestLiteralOutsideOfGroups() {
+        final GrokPrefilter prefilter = GrokPrefilter.forRegex("(?<client>\\S+) - - \\[(?<ts>[^\\]]+)\\] \"\\w+");
+        Assert.assertEquals(" - - [", prefilter.toString());
+        Assert.assertTrue(prefilter.mayMatch(bytes("127.0.0.1 - - [10/Oct/2000:13:55:36 -0700] \"GET")));
+        Assert.assertFalse(prefilter.mayMatch(bytes("2000-10-10 13:55:36 INFO a log message")));
+    }
+
+    @Test
+    public void shouldIgnoreOptionalAndGroupedLiterals() {
+        Assert.assertEquals("ab", GrokPrefilter.forRegex("abc? (?:defghi)\\w+").toString());
+        Assert.assertEquals("a-", GrokPrefilter.forRegex("[xyz]+a-\\d").toString());
+    }
+
+    @Test
+    public void shouldNotRequireLiteralGivenAlternationOrInlineOptions() {
+        Assert.assertSame(GrokPrefilter.NONE, GrokPrefilter.forRegex("foo|bar \\w+"));
+        Assert.assertSame(GrokPrefilter.NONE, GrokPrefilter.forRegex("(?i)error \\w+"));
+        Assert.assertTrue(GrokPrefilter.NONE.mayMatch(bytes("anything")));
+    }
+
+    @Test
+    public void shouldRequireLiteralGivenAlternationInGroup() {
+        Assert.assertEquals(" - x", GrokPrefilter.forRegex("(?:a|b) - x").toString());
+    }
+
+    @Test
+    public void shouldMayMatchAllInputsMatchingBuiltInPatterns() {
+        final GrokPatternCompiler compiler = new GrokPatternCompiler(new GrokPatternResolver(), true);
+        // DATE is defined as %{DATE_US}|%{DATE_EU} and is not enclosed in a group when it is not captured.
+        final GrokMatcher date = compiler.compile("%{DATE} - %{GREEDYDATA:msg}");
+        assertMayMatchGivenMatchingInput(date, "12/25/2020 no dash here");
+
+        final GrokMatcher access = compiler.compile("%{IP:client} - - \\[%{HTTPDATE:ts}\\]");
+        assertMayMatchGivenMatchingInput(access, "127.0.0.1 - - [10/Oct/2000:13:55:36 -0700]");
+        Assert.assertFalse(access.mayMatch(bytes("2000-10-10 13:55:36 INFO a log message")));
+    }
+
+    @Test
+    public void shouldNotRequireQuantifierBoundsAsLiteral() {
+        final GrokPrefilter prefilter = GrokPrefilter.forRegex("\\d{2}:(?<w>\\w+)");
+        Assert.assertEquals(":", prefilter.toString());
+        Assert.assertTrue(prefilter.mayMatch(bytes("13:abc")));
+        Assert.assertEquals("-", GrokPrefilter.forRegex("\\d{1,3}-\\w+").toString());
+        Assert.assertSame(GrokPrefilter.NONE, GrokPrefilter.forRegex("a{2,}"));
+    }
+
+    @Test
+    public void shouldNotRequireEscapeSequenceOperandsAsLiteral() {
+        final GrokPrefilter hex = GrokPrefilter.forRegex("\\x41BC \\w+");
+        Assert.assertEquals("BC ", hex.toString());
+        Assert.assertTrue(hex.mayMatch(bytes("ABC foo")));
+        Assert.assertEquals("C ", GrokPrefilter.forRegex("\\x{41}C \\w+").toString());
+        Assert.assertEquals("C ", GrokPrefilter.forRegex("\\u0041C \\w+").toString());
+        Assert.assertEquals(" ", GrokPrefilter.forRegex("\\p{Alpha} \\w+").toString());
+        Assert.assertEquals(" ", GrokPrefilter.forRegex("\\0101 \\w+").toString());
+        Assert.assertEquals(" ", GrokPrefilter.forRegex("(?<n>a)\\k<n> \\w+").toString());
+        Assert.assertEquals(" ", GrokPrefilter.forRegex("(?<n>a)\\g'n' \\w+").toString());
+    }
+
+    @Test
+    public void shouldNotRequireLiteralGivenEscapeSequencesHardToDelimit() {
+        Assert.assertSame(GrokPrefilter.NONE, GrokPrefilter.forRegex("\\C-xabc"));
+        Assert.assertSame(GrokPrefilter.NONE, GrokPrefilter.forRegex("\\M-\\C-xabc"));
+        Assert.assertSame(GrokPrefilter.NONE, GrokPrefilter.forRegex("\\cAabc"));
+    }
+
+    @Test
+    public void shouldMayMatchAllInputsMatchingTheRegex() {
+        assertMayMatchGivenMatchingInput("\\d{2}:\\w+", "13:abc");
+        assertMayMatchGivenMatchingInput("\\d{1,3}-x", "123-x");
+        assertMayMatchGivenMatchingInput("\\x41BC", "ABC");
+        assertMayMatchGivenMatchingInput("\\101BC", "ABC");
+        assertMayMatchGivenMatchingInput("\\p{Alpha}BC", "ABC");
+        assertMayMatchGivenMatchingInput("(?<n>a)\\k<n>b", "aab");
+        assertMayMatchGivenMatchingInput("\\C-aabc", "\u0001abc");
+    }
+
+    private static void assertMayMatchGivenMatchingInput(final String expression, final String input) {
+        final byte[] pattern = bytes(expression);
+        final Regex regex = new Regex(pattern, 0, pattern.length, Option.NONE, UTF8Encoding.INSTANCE);
+        final byte[] bytes = bytes(input);
+        Assert.assertNotEquals(-1, regex.matcher(bytes).search(0, bytes.length, Option.DEFAULT));
+        Assert.assertTrue(expression, GrokPrefilter.forRegex(expression).mayMatch(bytes));
+    }
+
+    private static void assertMayMatchGivenMatchingInput(final GrokMatcher matcher, final String input) {
+        final byte[] bytes = bytes(input);
+        Assert.assertNotEquals(-1, matcher.regex().matcher(bytes).search(0, bytes.length, Option.DEFAULT));
+        Assert.assertTrue(input, matcher.mayMatch(bytes));
+    }
+
+    private static byte[] bytes(final String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
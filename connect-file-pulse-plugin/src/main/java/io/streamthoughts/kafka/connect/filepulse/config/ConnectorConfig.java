@@ -45,6 +45,12 @@ public class ConnectorConfig extends CommonConfig {
     public static final String FS_SCAN_FILTERS_CONFIG         = "fs.scan.filters";
     private static final String FS_SCAN_FILTERS_DOC           = "Filters classes which are used to apply list input files.";
 
+    public static final String FS_CHUNK_MIN_BYTES_SIZE_CONFIG = "fs.chunk.min.bytes.size";
+    private static final String FS_CHUNK_MIN_BYTES_SIZE_DOC   = "The minimum size in bytes of the chunks a file can be split into"
+            + " to be read in parallel by multiple tasks; only files which are no longer modified should be split."
+            + " Files are never split if negative (default : -1).";
+    private static final long FS_CHUNK_MIN_BYTES_SIZE_DEFAULT = -1L;
+
     /**
      * Creates a new {@link ConnectorConfig} instance.
      * @param originals the originals configuration.
@@ -67,6 +73,9 @@ public class ConnectorConfig extends CommonConfig {
                 .define(FS_SCAN_INTERVAL_MS_CONFIG, ConfigDef.Type.LONG, FS_SCAN_INTERVAL_MS_DEFAULT,
                         ConfigDef.Importance.HIGH, FS_SCAN_INTERVAL_MS_DOC)
 
+                .define(FS_CHUNK_MIN_BYTES_SIZE_CONFIG, ConfigDef.Type.LONG, FS_CHUNK_MIN_BYTES_SIZE_DEFAULT,
+                        ConfigDef.Importance.LOW, FS_CHUNK_MIN_BYTES_SIZE_DOC)
+
                 .define(FILE_CLEANER_CLASS_CONFIG,
                         ConfigDef.Type.CLASS, ConfigDef.Importance.HIGH, FILE_CLEANER_CLASS_DOC);
     }
@@ -83,6 +92,10 @@ public class ConnectorConfig extends CommonConfig {
         return this.getLong(FS_SCAN_INTERVAL_MS_CONFIG);
     }
 
+    public long chunkMinBytesSize() {
+        return this.getLong(FS_CHUNK_MIN_BYTES_SIZE_CONFIG);
+    }
+
     public String scanDirectoryPath() {
         return this.getString(FS_SCAN_DIRECTORY_PATH_CONFIG);
     }
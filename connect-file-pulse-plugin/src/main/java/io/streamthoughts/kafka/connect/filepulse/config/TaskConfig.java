@@ -39,6 +39,10 @@ public class TaskConfig extends CommonConfig {
     private static final String OMIT_READ_COMMITTED_FILE_CONFIG = "ignore.committed.offsets";
     private static final String OMIT_READ_COMMITTED_FILE_DOC    = "Boolean indicating whether offsets check has to be performed, to avoid multiple (default : false)";
 
+    public static final String TASK_MAX_OPEN_FILES_CONFIG       = "task.max.open.files";
+    private static final String TASK_MAX_OPEN_FILES_DOC         = "The maximum number of files a task keeps open and reads concurrently, in round-robin, among the files it must proceed (default : 1).";
+    private static final int TASK_MAX_OPEN_FILES_DEFAULT        = 1;
+
     private final EnrichedConnectorConfig enrichedConfig;
 
     static ConfigDef getConf() {
@@ -46,7 +50,9 @@ public class TaskConfig extends CommonConfig {
                 .define(FILE_INPUT_PATHS_CONFIG, ConfigDef.Type.LIST,
                         ConfigDef.Importance.HIGH, FILE_INPUT_PATHS_DOC)
                 .define(OMIT_READ_COMMITTED_FILE_CONFIG, ConfigDef.Type.BOOLEAN, false,
-                        ConfigDef.Importance.HIGH, OMIT_READ_COMMITTED_FILE_DOC);
+                        ConfigDef.Importance.HIGH, OMIT_READ_COMMITTED_FILE_DOC)
+                .define(TASK_MAX_OPEN_FILES_CONFIG, ConfigDef.Type.INT, TASK_MAX_OPEN_FILES_DEFAULT,
+                        ConfigDef.Range.atLeast(1), ConfigDef.Importance.MEDIUM, TASK_MAX_OPEN_FILES_DOC);
     }
 
     /**
@@ -120,6 +126,10 @@ public class TaskConfig extends CommonConfig {
         return this.getBoolean(OMIT_READ_COMMITTED_FILE_CONFIG);
     }
 
+    public int maxOpenFiles() {
+        return this.getInt(TASK_MAX_OPEN_FILES_CONFIG);
+    }
+
     public String topic() {
         return this.getString(CommonConfig.OUTPUT_TOPIC_CONFIG);
     }
@@ -16,6 +16,7 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.offset;
 
+import io.streamthoughts.kafka.connect.filepulse.source.FileChunk;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 
 import java.util.Collections;
@@ -53,6 +54,8 @@ public enum OffsetStrategy {
     private static final String FILEPATH_FIELD = "path";
     private static final String FILENAME_FIELD = "name";
     private static final String CRC32_FIELD    = "hash";
+    private static final String CHUNK_FIELD    = "chunk";
+    private static final String CHUNKS_FIELD   = "chunks";
 
     private final String label;
 
@@ -66,6 +69,24 @@ public enum OffsetStrategy {
 
     abstract Map<String, Object> toPartitionMap(final SourceMetadata metadata);
 
+    /**
+     * Builds the partition of the specified file chunk; each chunk of a file is tracked as
+     * a distinct source partition so that chunks can be read and committed independently.
+     *
+     * @param metadata  the source metadata.
+     * @param chunk     the file chunk, or {@code null} for the whole file.
+     * @return the partition map.
+     */
+    Map<String, Object> toPartitionMap(final SourceMetadata metadata, final FileChunk chunk) {
+        if (chunk == null) {
+            return toPartitionMap(metadata);
+        }
+        final Map<String, Object> partition = new HashMap<>(toPartitionMap(metadata));
+        partition.put(CHUNK_FIELD, chunk.index());
+        partition.put(CHUNKS_FIELD, chunk.count());
+        return partition;
+    }
+
     public String label() {
         return this.label;
     }
@@ -17,6 +17,7 @@
 package io.streamthoughts.kafka.connect.filepulse.offset;
 
 import io.streamthoughts.kafka.connect.filepulse.errors.ConnectFilePulseException;
+import io.streamthoughts.kafka.connect.filepulse.source.FileChunk;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
 import org.apache.kafka.connect.source.SourceTaskContext;
@@ -49,9 +50,10 @@ public class SimpleOffsetManager implements OffsetManager {
      */
     @Override
     public Optional<SourceOffset> getOffsetFor(final SourceTaskContext context,
-                                               final SourceMetadata metadata) {
+                                               final SourceMetadata metadata,
+                                               final FileChunk chunk) {
 
-        final Map<String, Object> partition = toPartitionMap(metadata);
+        final Map<String, Object> partition = toPartitionMap(metadata, chunk);
 
         final Map<String, Object> offset = context.offsetStorageReader().offset(partition);
 
@@ -92,8 +94,8 @@ public class SimpleOffsetManager implements OffsetManager {
      * {@inheritDoc}
      */
     @Override
-    public Map<String, Object> toPartitionMap(final SourceMetadata metadata) {
-        return strategy.toPartitionMap(metadata);
+    public Map<String, Object> toPartitionMap(final SourceMetadata metadata, final FileChunk chunk) {
+        return strategy.toPartitionMap(metadata, chunk);
     }
 
     /**
@@ -20,9 +20,18 @@ import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecordOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.FileModificationWatcher;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.HeaderFooterReader;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.LineReader;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.MemoryMappedLineReader;
 import io.streamthoughts.kafka.connect.filepulse.reader.internal.NonBlockingBufferReader;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.PrefetchingLineReader;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.StreamLineReader;
 import io.streamthoughts.kafka.connect.filepulse.reader.internal.TextBlock;
-import io.streamthoughts.kafka.connect.filepulse.reader.internal.ReversedInputFileReader;
+import io.streamthoughts.kafka.connect.filepulse.scanner.local.codec.CodecHandler;
+import io.streamthoughts.kafka.connect.filepulse.scanner.local.codec.CodecManager;
+import io.streamthoughts.kafka.connect.filepulse.source.ArchiveEntry;
+import io.streamthoughts.kafka.connect.filepulse.source.FileChunk;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
 import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 import org.apache.kafka.common.utils.Time;
@@ -32,10 +41,12 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -54,15 +65,30 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
     private FileContext context;
 
     /**
-     * The buffer reader.
+     * The line reader.
      */
-    private final NonBlockingBufferReader reader;
+    private final LineReader reader;
 
     /**
      * The minimum number of lines to read before returning records.
      */
     private int minNumReadRecords = 0;
 
+    /**
+     * The maximum number of records to return for each call to {@link #next()}.
+     */
+    private int maxBatchRecords = Integer.MAX_VALUE;
+
+    /**
+     * The maximum number of bytes of lines to return for each call to {@link #next()}.
+     */
+    private long maxBatchBytes = Long.MAX_VALUE;
+
+    /**
+     * The lines already read but exceeding the size of the previous batches.
+     */
+    private final Deque<TextBlock> pending = new ArrayDeque<>();
+
     /**
      * The number of rows to be skipped in the beginning of file.
      */
@@ -75,18 +101,41 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
 
     private final IteratorManager iteratorManager;
 
-    private List<TextBlock> headers;
     private List<String> headerStrings;
 
-    private List<TextBlock> footers;
     private List<String> footersStrings;
 
+    /**
+     * The position from which lines are not header lines.
+     */
+    private long headersEndPosition = 0L;
+
+    /**
+     * The position from which lines are footer lines.
+     */
+    private long footersStartPosition = Long.MAX_VALUE;
+
     private long offsetLines = 0L;
 
+    /**
+     * The position before which lines must start to be returned (i.e the end of the file chunk to be read).
+     */
+    private final long endPosition;
+
     private final Charset charset;
 
     private long maxWaitMs = 0L;
 
+    /**
+     * The last time bytes were available from the input file, used to time out when waiting for more bytes.
+     */
+    private long lastActivityMs = Time.SYSTEM.milliseconds();
+
+    /**
+     * The subscription used to wake up on file modifications while waiting for more bytes (lazily created).
+     */
+    private FileModificationWatcher.Subscription subscription;
+
     private AtomicBoolean closed = new AtomicBoolean(false);
 
     private Schema schema;
@@ -98,11 +147,11 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
      * Creates a new {@link RowFileInputIterator} instance.
      *
      * @param context           the text file context.
-     * @param reader            the buffer reader.
+     * @param reader            the line reader.
      * @param iteratorManager   the iterator manager.
      */
     private RowFileInputIterator(final FileContext context,
-                                 final NonBlockingBufferReader reader,
+                                 final LineReader reader,
                                  final IteratorManager iteratorManager,
                                  final Charset charset) {
         Objects.requireNonNull(context, "context can't be null");
@@ -113,12 +162,21 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
         this.reader = reader;
         this.iteratorManager = iteratorManager;
         this.charset = charset;
+        this.endPosition = context.chunk() != null ? context.chunk().endPosition() : Long.MAX_VALUE;
     }
 
     private void setMinNumReadRecords(final int minNumReadRecords) {
         this.minNumReadRecords = minNumReadRecords;
     }
 
+    private void setMaxBatchRecords(final int maxBatchRecords) {
+        this.maxBatchRecords = maxBatchRecords > 0 ? maxBatchRecords : Integer.MAX_VALUE;
+    }
+
+    private void setMaxBatchBytes(final long maxBatchBytes) {
+        this.maxBatchBytes = maxBatchBytes > 0 ? maxBatchBytes : Long.MAX_VALUE;
+    }
+
     private void setSkipHeaders(final int skipHeaders) {
         this.skipHeaders = skipHeaders;
     }
@@ -137,7 +195,12 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
     @Override
     public void seekTo(final SourceOffset offset) {
         Objects.requireNonNull(offset, "offset can't be null");
-        if (offset.position() != -1) {
+        final FileChunk chunk = context.chunk();
+        if (chunk != null && offset.position() < chunk.startPosition()) {
+            // A chunk only owns the lines starting within its range.
+            reader.seekToLineStart(chunk.startPosition());
+        } else if (offset.position() != -1) {
+            pending.clear();
             offsetLines = offset.rows();
             reader.seekTo(offset.position());
         }
@@ -159,14 +222,29 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
     public RecordsIterable<FileRecord<TypedStruct>> next() {
         try {
             initializeIfNeeded();
-            List<FileRecord<TypedStruct>> records = new LinkedList<>();
-            List<TextBlock> lines = reader.readLines(minNumReadRecords);
-            if (lines != null) {
-                for (TextBlock line : lines) {
-                    offsetLines++;
-                    if (isNotLineFooter(line) && isNotLineHeader(line)) {
-                        records.add(createOutputRecord(line));
-                    }
+            if (pending.isEmpty()) {
+                List<TextBlock> lines = reader.readLines(minNumReadRecords);
+                if (lines != null && !lines.isEmpty()) {
+                    lastActivityMs = Time.SYSTEM.milliseconds();
+                    pending.addAll(lines);
+                }
+            }
+            List<FileRecord<TypedStruct>> records = new ArrayList<>(Math.min(pending.size(), maxBatchRecords));
+            long batchBytes = 0L;
+            while (!pending.isEmpty() && records.size() < maxBatchRecords) {
+                final TextBlock line = pending.peek();
+                if (line.startOffset() >= endPosition) {
+                    pending.clear();
+                    break;
+                }
+                if (batchBytes > 0 && batchBytes + line.size() > maxBatchBytes) {
+                    break;
+                }
+                pending.poll();
+                batchBytes += line.size();
+                offsetLines++;
+                if (isNotLineFooter(line) && isNotLineHeader(line)) {
+                    records.add(createOutputRecord(line));
                 }
             }
             return new RecordsIterable<>(records);
@@ -180,8 +258,10 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
     }
 
     private void updateContext() {
+        // Lines not yet returned must be read again when resuming.
+        final long position = pending.isEmpty() ? reader.position() : pending.peek().startOffset();
         final SourceOffset offset = new SourceOffset(
-                reader.position(),
+                position,
                 offsetLines,
                 Time.SYSTEM.milliseconds());
         context = context.withOffset(offset);
@@ -210,8 +290,9 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
 
     private void initializeIfNeeded() {
         if (!initialized.get()) {
-            mayReadHeaders();
-            mayReadFooters();
+            if (skipHeaders > 0 || skipFooters > 0) {
+                readHeadersAndFooters();
+            }
             initialized.set(true);
         }
     }
@@ -221,15 +302,25 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
      */
     @Override
     public boolean hasNext() {
+        if (!pending.isEmpty()) {
+            return true;
+        }
+        if (reader.position() >= endPosition) {
+            return false;
+        }
         boolean hasNext = reader.hasNext();
-        if (hasNext) return true;
+        if (hasNext) {
+            lastActivityMs = Time.SYSTEM.milliseconds();
+            return true;
+        }
 
         LOG.debug("Waiting for more bytes from file {} (timeout={}ms)", context.metadata(), maxWaitMs);
-        long timeout = Time.SYSTEM.milliseconds() + maxWaitMs;
-        do {
-            Time.SYSTEM.sleep(Math.min(100, Math.abs(timeout - Time.SYSTEM.milliseconds())));
+        final long timeout = lastActivityMs + maxWaitMs;
+        long remainingMs = timeout - Time.SYSTEM.milliseconds();
+        while (!hasNext && remainingMs > 0 && awaitModification(remainingMs)) {
             hasNext = reader.hasNext();
-        } while (!hasNext && Time.SYSTEM.milliseconds() < timeout );
+            remainingMs = timeout - Time.SYSTEM.milliseconds();
+        }
 
         if (!hasNext) {
             LOG.info(
@@ -241,16 +332,51 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
                 reader.enableAutoFlush();
                 hasNext = true;
             }
+        } else {
+            lastActivityMs = Time.SYSTEM.milliseconds();
         }
         return hasNext;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReady() {
+        return !pending.isEmpty()
+            || reader.position() >= endPosition
+            || reader.hasNext()
+            || Time.SYSTEM.milliseconds() >= lastActivityMs + maxWaitMs;
+    }
+
+    /**
+     * Waits for the input file to be modified or for the subscription backoff to elapse.
+     *
+     * @param timeoutMs the maximum time to wait in milliseconds.
+     * @return          {@code false} if the current thread has been interrupted while waiting.
+     */
+    private boolean awaitModification(final long timeoutMs) {
+        if (subscription == null) {
+            subscription = FileModificationWatcher.shared().subscribe(context.file().toPath());
+        }
+        try {
+            subscription.await(timeoutMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void close() {
         if (!closed.get()) {
+            if (subscription != null) {
+                subscription.close();
+            }
             if (this.reader != null) {
                 this.reader.close();
             }
@@ -267,62 +393,90 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
         return closed.get();
     }
 
-    private void mayReadFooters() {
-        final String fileName = context.metadata().name();
+    private void readHeadersAndFooters() {
         final String path = context.metadata().absolutePath();
-        if (skipFooters > 0) {
-            LOG.info("Starting to read footer lines ({}) from file {}", skipFooters, fileName);
-
-            try (final ReversedInputFileReader reversedReader = new ReversedInputFileReader(path, charset)) {
-                footers = reversedReader.readLines(skipFooters);
-            } catch (Exception e) {
-                throw new RuntimeException("", e);
+        if (context.metadata().isArchiveEntry()) {
+            readArchiveEntryHeaders(path);
+            return;
+        }
+        final String fileName = context.metadata().name();
+        try (final HeaderFooterReader boundaryReader = new HeaderFooterReader(new File(path), charset)) {
+            if (skipHeaders > 0) {
+                LOG.info("Starting to read header lines ({}) from file {}", skipHeaders, fileName);
+                final List<TextBlock> headers = boundaryReader.readHeaders(skipHeaders);
+                setHeaders(headers, path);
             }
-            if (footers.size() < skipFooters) {
-                throw new ReaderException("Not enough value for reading footer lines from file "
-                        + path
-                        + " (available=" + footers.size() + ", expecting=" + skipFooters + ")");
+            if (skipFooters > 0) {
+                LOG.info("Starting to read footer lines ({}) from file {}", skipFooters, fileName);
+                final List<TextBlock> footers = boundaryReader.readFooters(skipFooters);
+                if (footers.size() < skipFooters) {
+                    throw new ReaderException("Not enough value for reading footer lines from file "
+                            + path
+                            + " (available=" + footers.size() + ", expecting=" + skipFooters + ")");
+                }
+                footersStrings = footers.stream().map(TextBlock::data).collect(Collectors.toList());
+                footersStartPosition = footers.get(0).startOffset();
             }
-            Collections.reverse(footers);
-            footersStrings = footers.stream().map(TextBlock::data).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new ReaderException("Error while reading header and footer lines from file " + path, e);
         }
     }
 
-    private void mayReadHeaders() {
-        final String fileName = context.metadata().name();
-        final String path = context.metadata().absolutePath();
-        if (skipHeaders > 0) {
-            LOG.info("Starting to read header lines ({}) from file {}", skipHeaders, fileName);
-            try (final NonBlockingBufferReader sequentialReader =
-                    new NonBlockingBufferReader(new File(path), charset)) {
-                headers = sequentialReader.readLines(skipHeaders);
-                headerStrings = headers
-                    .stream()
-                    .map(TextBlock::data)
-                    .collect(Collectors.toList());
-            } catch (Exception e) {
-                throw new RuntimeException("", e);
-            }
-            if (headers.size() < skipHeaders) {
-                throw new ReaderException(
-                    String.format(
-                        "Not enough value for reading header lines from file %s (available=%d, expecting=%d)",
-                        path,
-                        headers.size(),
-                        skipHeaders)
-                );
+    /**
+     * Reads the header lines of an archive entry from a second stream as the end of a stream can't be reached
+     * without reading the whole entry.
+     */
+    private void readArchiveEntryHeaders(final String path) {
+        if (skipFooters > 0) {
+            throw new ReaderException("Skipping footer lines is not supported for archive entry " + path);
+        }
+        LOG.info("Starting to read header lines ({}) from archive entry {}", skipHeaders, path);
+        try (final StreamLineReader headersReader = new StreamLineReader(openArchiveEntry(path), charset)) {
+            final List<TextBlock> headers = new ArrayList<>();
+            while (headers.size() < skipHeaders && headersReader.hasNext()) {
+                headers.addAll(headersReader.readLines(skipHeaders - headers.size()));
             }
+            setHeaders(headers.size() > skipHeaders ? headers.subList(0, skipHeaders) : headers, path);
+        } catch (IOException e) {
+            throw new ReaderException("Error while reading header lines from archive entry " + path, e);
+        }
+    }
+
+    private void setHeaders(final List<TextBlock> headers, final String path) {
+        if (headers.size() < skipHeaders) {
+            throw new ReaderException(
+                String.format(
+                    "Not enough value for reading header lines from file %s (available=%d, expecting=%d)",
+                    path,
+                    headers.size(),
+                    skipHeaders)
+            );
+        }
+        headerStrings = headers.stream().map(TextBlock::data).collect(Collectors.toList());
+        headersEndPosition = headers.get(headers.size() - 1).endOffset();
+    }
+
+    /**
+     * Opens a stream to read the uncompressed bytes of the specified archive entry.
+     *
+     * @param path  the archive entry path.
+     * @return      a new {@link InputStream}.
+     */
+    private static InputStream openArchiveEntry(final String path) throws IOException {
+        final ArchiveEntry entry = ArchiveEntry.fromPath(path);
+        final CodecHandler codec = new CodecManager().getCodecIfCompressedOrNull(entry.archive());
+        if (codec == null) {
+            throw new ReaderException("No codec found for reading archive " + entry.archivePath());
         }
+        return codec.openEntry(entry.archive(), entry.name());
     }
 
     private boolean isNotLineHeader(final TextBlock source) {
-        return skipHeaders <= 0 ||
-               source.startOffset() > headers.get(skipHeaders - 1).startOffset();
+        return source.startOffset() >= headersEndPosition;
     }
 
     private boolean isNotLineFooter(final TextBlock source) {
-        return skipFooters <= 0 ||
-               source.startOffset() < footers.get(0).startOffset();
+        return source.startOffset() < footersStartPosition;
     }
 
     /**
@@ -332,8 +486,14 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
 
         private Charset charset;
         private int minNumReadRecords;
+        private int maxBatchRecords;
+        private long maxBatchBytes;
         private FileContext context;
         private int initialBufferSize;
+        private boolean memoryMapped;
+        private int mmapWindowSize;
+        private int prefetchMaxBatches;
+        private long prefetchMaxBytes;
         private int skipHeaders;
         private int skipFooters;
         private long waitMaxMs;
@@ -346,6 +506,8 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
             this.charset = StandardCharsets.UTF_8;
             this.minNumReadRecords = 1;
             this.initialBufferSize = NonBlockingBufferReader.DEFAULT_INITIAL_CAPACITY;
+            this.mmapWindowSize = MemoryMappedLineReader.DEFAULT_WINDOW_SIZE;
+            this.prefetchMaxBytes = PrefetchingLineReader.DEFAULT_MAX_BUFFERED_BYTES;
         }
 
         Builder withContext(final FileContext context) {
@@ -368,6 +530,16 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
             return this;
         }
 
+        Builder withMaxBatchRecords(final int maxBatchRecords) {
+            this.maxBatchRecords = maxBatchRecords;
+            return this;
+        }
+
+        Builder withMaxBatchBytes(final long maxBatchBytes) {
+            this.maxBatchBytes = maxBatchBytes;
+            return this;
+        }
+
         Builder withMaxWaitMs(final long maxWaitMs) {
             this.waitMaxMs = maxWaitMs;
             return this;
@@ -378,6 +550,26 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
             return this;
         }
 
+        Builder withMemoryMapping(final boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
+        Builder withMemoryMappedWindowSize(final int mmapWindowSize) {
+            this.mmapWindowSize = mmapWindowSize;
+            return this;
+        }
+
+        Builder withPrefetchMaxBatches(final int prefetchMaxBatches) {
+            this.prefetchMaxBatches = prefetchMaxBatches;
+            return this;
+        }
+
+        Builder withPrefetchMaxBytes(final long prefetchMaxBytes) {
+            this.prefetchMaxBytes = prefetchMaxBytes;
+            return this;
+        }
+
         Builder withCharset(final Charset charset) {
             this.charset = charset;
             return this;
@@ -390,16 +582,39 @@ public class RowFileInputIterator implements FileInputIterator<FileRecord<TypedS
 
         RowFileInputIterator build() {
             validateNotNull(context, "context");
-            NonBlockingBufferReader reader = new NonBlockingBufferReader(context.file(), initialBufferSize, charset);
+            // Archive entries are complete, so there are no more bytes to wait for at the end of the stream.
+            final boolean isArchiveEntry = context.metadata().isArchiveEntry();
+            LineReader reader;
+            if (isArchiveEntry) {
+                reader = newArchiveEntryReader();
+            } else {
+                reader = memoryMapped ?
+                    new MemoryMappedLineReader(context.file(), mmapWindowSize, charset) :
+                    new NonBlockingBufferReader(context.file(), initialBufferSize, charset);
+            }
+            if (prefetchMaxBatches > 0) {
+                reader = new PrefetchingLineReader(reader, prefetchMaxBatches, prefetchMaxBytes, minNumReadRecords);
+            }
             reader.disableAutoFlush();
             RowFileInputIterator iterator = new RowFileInputIterator(context, reader, iteratorManager, charset);
             iterator.setSkipFooters(skipFooters);
             iterator.setSkipHeaders(skipHeaders);
             iterator.setMinNumReadRecords(minNumReadRecords);
-            iterator.setMaxWaitMs(waitMaxMs);
+            iterator.setMaxBatchRecords(maxBatchRecords);
+            iterator.setMaxBatchBytes(maxBatchBytes);
+            iterator.setMaxWaitMs(isArchiveEntry ? 0L : waitMaxMs);
             return iterator;
         }
 
+        private LineReader newArchiveEntryReader() {
+            final String path = context.metadata().absolutePath();
+            try {
+                return new StreamLineReader(openArchiveEntry(path), initialBufferSize, charset);
+            } catch (IOException e) {
+                throw new ReaderException("Error while opening archive entry " + path, e);
+            }
+        }
+
         private void validateNotNull(final Object o, final String property) {
             if (o == null) {
                 throw new IllegalStateException(
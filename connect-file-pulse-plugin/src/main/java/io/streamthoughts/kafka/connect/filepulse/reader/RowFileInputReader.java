@@ -32,12 +32,24 @@ public class RowFileInputReader implements FileInputReader {
 
     private final IteratorManager openIterators;
 
+    private final boolean memoryMapped;
+
     /**
      * Creates a new {@link RowFileInputReader} instance.
      */
     public RowFileInputReader() {
+        this(false);
+    }
+
+    /**
+     * Creates a new {@link RowFileInputReader} instance.
+     *
+     * @param memoryMapped  {@code true} to read files through memory-mapped regions.
+     */
+    RowFileInputReader(final boolean memoryMapped) {
         this.isClosed = new AtomicBoolean(false);
         this.openIterators = new IteratorManager();
+        this.memoryMapped = memoryMapped;
     }
 
     /**
@@ -61,7 +73,13 @@ public class RowFileInputReader implements FileInputReader {
                 .withContext(context)
                 .withCharset(configs.charset())
                 .withInitialBufferSize(configs.bufferInitialBytesSize())
+                .withMemoryMapping(memoryMapped)
+                .withMemoryMappedWindowSize(configs.mmapWindowBytesSize())
+                .withPrefetchMaxBatches(configs.prefetchMaxBatches())
+                .withPrefetchMaxBytes(configs.prefetchMaxBytesSize())
                 .withMinNumReadRecords(configs.minReadRecords())
+                .withMaxBatchRecords(configs.maxReadRecords())
+                .withMaxBatchBytes(configs.maxReadBytesSize())
                 .withSkipHeaders(configs.skipHeaders())
                 .withSkipFooters(configs.skipFooters())
                 .withMaxWaitMs(configs.maxWaitMs())
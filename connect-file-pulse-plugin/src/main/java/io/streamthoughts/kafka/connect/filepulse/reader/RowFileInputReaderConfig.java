@@ -36,9 +36,34 @@ class RowFileInputReaderConfig extends AbstractConfig {
     public static final String BUFFER_INIT_BYTES_SIZE_DOC      = "The initial buffer size used to read input files";
     public static final int BUFFER_INIT_BYTES_SIZE_DEFAULT     = 4096;
 
+    public static final String MMAP_WINDOW_BYTES_SIZE_CONFIG   = "mmap.window.bytes.size";
+    public static final String MMAP_WINDOW_BYTES_SIZE_DOC      = "The size of the file regions mapped into memory "
+                                                               + "(only used by MemoryMappedRowFileInputReader)";
+    public static final int MMAP_WINDOW_BYTES_SIZE_DEFAULT     = 64 * 1024 * 1024;
+
+    public static final String PREFETCH_MAX_BATCHES_CONFIG     = "prefetch.max.batches";
+    public static final String PREFETCH_MAX_BATCHES_DOC        = "The maximum number of batches of lines read ahead by a "
+                                                               + "background thread while records are processed (disabled if 0).";
+    public static final int PREFETCH_MAX_BATCHES_DEFAULT       = 0;
+
+    public static final String PREFETCH_MAX_BYTES_SIZE_CONFIG  = "prefetch.max.bytes.size";
+    public static final String PREFETCH_MAX_BYTES_SIZE_DOC     = "The maximum number of bytes of lines read ahead by a "
+                                                               + "background thread while records are processed.";
+    public static final long PREFETCH_MAX_BYTES_SIZE_DEFAULT   = 8 * 1024 * 1024;
+
     public static final String MIN_NUM_READ_RECORDS_CONFIG     = "min.read.records";
     public static final String MIN_NUM_READ_RECORDS_DOC        = "The minimum number of records to read from file before returning to task.";
 
+    public static final String MAX_NUM_READ_RECORDS_CONFIG     = "max.read.records";
+    public static final String MAX_NUM_READ_RECORDS_DOC        = "The maximum number of records to return to task for each poll "
+                                                               + "(unbounded if negative).";
+    public static final int MAX_NUM_READ_RECORDS_DEFAULT       = -1;
+
+    public static final String MAX_READ_BYTES_SIZE_CONFIG      = "max.read.bytes.size";
+    public static final String MAX_READ_BYTES_SIZE_DOC         = "The maximum number of bytes of lines to return to task for each poll; "
+                                                               + "at least one line is always returned (unbounded if negative).";
+    public static final long MAX_READ_BYTES_SIZE_DEFAULT       = -1L;
+
     public static final String READER_FIELD_HEADER_CONFIG      = "skip.headers";
     private static final String READER_FIELD_HEADER_DOC        = "The number of rows to be skipped in the beginning of file.";
     public static final int READER_FIELD_HEADER_DEFAULT        = 0;
@@ -63,10 +88,30 @@ class RowFileInputReaderConfig extends AbstractConfig {
         return getInt(BUFFER_INIT_BYTES_SIZE_CONFIG);
     }
 
+    int mmapWindowBytesSize() {
+        return getInt(MMAP_WINDOW_BYTES_SIZE_CONFIG);
+    }
+
+    int prefetchMaxBatches() {
+        return getInt(PREFETCH_MAX_BATCHES_CONFIG);
+    }
+
+    long prefetchMaxBytesSize() {
+        return getLong(PREFETCH_MAX_BYTES_SIZE_CONFIG);
+    }
+
     int minReadRecords() {
         return getInt(MIN_NUM_READ_RECORDS_CONFIG);
     }
 
+    int maxReadRecords() {
+        return getInt(MAX_NUM_READ_RECORDS_CONFIG);
+    }
+
+    long maxReadBytesSize() {
+        return getLong(MAX_READ_BYTES_SIZE_CONFIG);
+    }
+
     Charset charset() {
         return Charset.forName(getString(FILE_ENCODING_CONFIG));
     }
@@ -84,9 +129,24 @@ class RowFileInputReaderConfig extends AbstractConfig {
                 .define(BUFFER_INIT_BYTES_SIZE_CONFIG, ConfigDef.Type.INT, BUFFER_INIT_BYTES_SIZE_DEFAULT,
                         ConfigDef.Importance.MEDIUM, BUFFER_INIT_BYTES_SIZE_DOC)
 
+                .define(MMAP_WINDOW_BYTES_SIZE_CONFIG, ConfigDef.Type.INT, MMAP_WINDOW_BYTES_SIZE_DEFAULT,
+                        ConfigDef.Importance.LOW, MMAP_WINDOW_BYTES_SIZE_DOC)
+
+                .define(PREFETCH_MAX_BATCHES_CONFIG, ConfigDef.Type.INT, PREFETCH_MAX_BATCHES_DEFAULT,
+                        ConfigDef.Importance.LOW, PREFETCH_MAX_BATCHES_DOC)
+
+                .define(PREFETCH_MAX_BYTES_SIZE_CONFIG, ConfigDef.Type.LONG, PREFETCH_MAX_BYTES_SIZE_DEFAULT,
+                        ConfigDef.Importance.LOW, PREFETCH_MAX_BYTES_SIZE_DOC)
+
                 .define(MIN_NUM_READ_RECORDS_CONFIG, ConfigDef.Type.INT, 1,
                         ConfigDef.Importance.MEDIUM, MIN_NUM_READ_RECORDS_DOC)
 
+                .define(MAX_NUM_READ_RECORDS_CONFIG, ConfigDef.Type.INT, MAX_NUM_READ_RECORDS_DEFAULT,
+                        ConfigDef.Importance.MEDIUM, MAX_NUM_READ_RECORDS_DOC)
+
+                .define(MAX_READ_BYTES_SIZE_CONFIG, ConfigDef.Type.LONG, MAX_READ_BYTES_SIZE_DEFAULT,
+                        ConfigDef.Importance.MEDIUM, MAX_READ_BYTES_SIZE_DOC)
+
                 .define(FILE_ENCODING_CONFIG, ConfigDef.Type.STRING, FILE_ENCODING_DEFAULT,
                         ConfigDef.Importance.HIGH, FILE_ENCODING_DOC)
 
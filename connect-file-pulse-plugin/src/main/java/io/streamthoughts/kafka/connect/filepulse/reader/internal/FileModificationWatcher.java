@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notifies the readers waiting for bytes to be appended to the files they are tailing.
+ *
+ * A single {@link WatchService} and a single thread are shared by all the files of a JVM, so that tailing
+ * many files does not exhaust the per-user limit of watch instances (e.g inotify on Linux).
+ * If the file system does not support watching directories, readers fall back to an adaptive backoff.
+ */
+public final class FileModificationWatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileModificationWatcher.class);
+
+    private static FileModificationWatcher INSTANCE;
+
+    /**
+     * Gets the watcher shared by all readers for the default file system.
+     *
+     * @return the shared {@link FileModificationWatcher} instance.
+     */
+    public static synchronized FileModificationWatcher shared() {
+        if (INSTANCE == null) {
+            INSTANCE = new FileModificationWatcher(FileSystems.getDefault());
+        }
+        return INSTANCE;
+    }
+
+    private final WatchService service;
+
+    // The watch keys registered for each directory.
+    private final Map<Path, WatchKey> keys = new HashMap<>();
+
+    // The subscriptions for each watched file.
+    private final Map<Path, Set<Subscription>> subscriptions = new HashMap<>();
+
+    private Thread thread;
+
+    /**
+     * Creates a new {@link FileModificationWatcher} instance.
+     *
+     * @param fs    the file system to watch.
+     */
+    FileModificationWatcher(final FileSystem fs) {
+        WatchService service = null;
+        try {
+            service = fs.newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.warn("Can't create watch service, falling back to polling for file modifications : {}",
+                e.getMessage());
+        }
+        this.service = service;
+    }
+
+    /**
+     * Subscribes to the modifications of the specified file.
+     *
+     * @param file  the file to watch.
+     * @return      a new {@link Subscription} which must be closed once the file is no longer tailed.
+     */
+    public Subscription subscribe(final Path file) {
+        Objects.requireNonNull(file, "file can't be null");
+        return subscribe(Collections.singleton(file));
+    }
+
+    /**
+     * Subscribes to the modifications of any of the specified files.
+     *
+     * @param files the files to watch.
+     * @return      a new {@link Subscription} which must be closed once the files are no longer tailed.
+     */
+    public synchronized Subscription subscribe(final Collection<Path> files) {
+        Objects.requireNonNull(files, "files can't be null");
+        final Set<Path> paths = new HashSet<>();
+        files.forEach(file -> paths.add(file.toAbsolutePath()));
+        final Set<Path> watched = new HashSet<>();
+        for (Path path : paths) {
+            if (service != null && register(path.getParent())) {
+                watched.add(path);
+            }
+        }
+        // the modifications of the files which are not watched are only polled, thus the backoff is shorter.
+        final Subscription subscription = new Subscription(watched, watched.size() == paths.size());
+        watched.forEach(path -> subscriptions.computeIfAbsent(path, k -> new HashSet<>()).add(subscription));
+        return subscription;
+    }
+
+    private boolean register(final Path dir) {
+        try {
+            if (!keys.containsKey(dir)) {
+                keys.put(dir, dir.register(service,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_CREATE));
+            }
+            startIfNeeded();
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.warn("Can't watch directory {}, falling back to polling for file modifications : {}",
+                dir, e.getMessage());
+            return false;
+        }
+    }
+
+    private synchronized void unsubscribe(final Subscription subscription) {
+        for (Path path : subscription.paths) {
+            final Set<Subscription> subscribed = subscriptions.get(path);
+            if (subscribed == null || !subscribed.remove(subscription)) {
+                continue;
+            }
+            if (subscribed.isEmpty()) {
+                subscriptions.remove(path);
+            }
+            final Path dir = path.getParent();
+            final boolean watched = subscriptions.keySet().stream().anyMatch(p -> dir.equals(p.getParent()));
+            if (!watched) {
+                final WatchKey key = keys.remove(dir);
+                if (key != null) {
+                    key.cancel();
+                }
+            }
+        }
+    }
+
+    private void startIfNeeded() {
+        if (thread == null) {
+            thread = new Thread(this::runLoop, "file-pulse-modification-watcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    private void runLoop() {
+        try {
+            while (true) {
+                final WatchKey key = service.take();
+                final Path dir = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        signalAll(dir);
+                    } else {
+                        signal(dir.resolve((Path) event.context()));
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            LOG.info("Stopped watching for file modifications");
+        }
+    }
+
+    private void signal(final Path file) {
+        final Set<Subscription> subscribed;
+        synchronized (this) {
+            subscribed = new HashSet<>(subscriptions.getOrDefault(file, Collections.emptySet()));
+        }
+        subscribed.forEach(Subscription::signal);
+    }
+
+    private void signalAll(final Path dir) {
+        final Set<Subscription> subscribed = new HashSet<>();
+        synchronized (this) {
+            subscriptions.forEach((path, s) -> {
+                if (dir.equals(path.getParent())) {
+                    subscribed.addAll(s);
+                }
+            });
+        }
+        subscribed.forEach(Subscription::signal);
+    }
+
+    /**
+     * A subscription to the modifications of one or more files.
+     *
+     * Waiting is bounded by an adaptive backoff which is reset on each modification, so that a missed
+     * or a not supported event only delays (and never blocks) the reader.
+     */
+    public final class Subscription implements AutoCloseable {
+
+        private static final long MIN_BACKOFF_MS = 1L;
+        private static final long MAX_WATCHED_BACKOFF_MS = 1000L;
+        private static final long MAX_POLLING_BACKOFF_MS = 100L;
+
+        // The files whose modifications wake up this subscription.
+        private final Set<Path> paths;
+        private final long maxBackoffMs;
+        private long backoffMs = MIN_BACKOFF_MS;
+        private boolean modified = false;
+
+        private Subscription(final Set<Path> paths, final boolean watched) {
+            this.paths = paths;
+            this.maxBackoffMs = watched ? MAX_WATCHED_BACKOFF_MS : MAX_POLLING_BACKOFF_MS;
+        }
+
+        /**
+         * Waits until a file is modified, the current backoff elapsed or the specified timeout elapsed.
+         *
+         * @param timeoutMs the maximum time to wait in milliseconds.
+         * @return          {@code true} if a modification of a file has been notified.
+         * @throws InterruptedException if the current thread is interrupted while waiting.
+         */
+        public synchronized boolean await(final long timeoutMs) throws InterruptedException {
+            if (!modified) {
+                final long waitMs = Math.max(1L, Math.min(timeoutMs, backoffMs));
+                TimeUnit.MILLISECONDS.timedWait(this, waitMs);
+            }
+            final boolean result = modified;
+            modified = false;
+            backoffMs = result ? MIN_BACKOFF_MS : Math.min(2 * backoffMs, maxBackoffMs);
+            return result;
+        }
+
+        private synchronized void signal() {
+            modified = true;
+            notifyAll();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() {
+            unsubscribe(this);
+        }
+    }
+}
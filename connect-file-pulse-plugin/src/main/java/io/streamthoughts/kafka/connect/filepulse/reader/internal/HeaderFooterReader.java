@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import io.streamthoughts.kafka.connect.filepulse.reader.ReaderException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@code HeaderFooterReader} reads a fixed number of lines from the top and from the bottom of a file.
+ *
+ * All lines are read from a single channel using positional reads into a reusable buffer, so
+ * reading the footers does not require to scan the whole file.
+ */
+public class HeaderFooterReader implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HeaderFooterReader.class);
+
+    static final int DEFAULT_INITIAL_CAPACITY = 4096;
+
+    private final FileChannel channel;
+
+    private final Charset charset;
+
+    private final LineTerminator terminator;
+
+    // The number of bytes of an encoded line terminator (1 for all ASCII-compatible charsets).
+    private final int unit;
+
+    // The buffer used for all reads, only grown if a single line does not fit in it.
+    private ByteBuffer buffer;
+
+    /**
+     * Creates a new {@link HeaderFooterReader} instance.
+     *
+     * @param file         the input file pointer.
+     * @param charset      the input file charset.
+     */
+    public HeaderFooterReader(final File file,
+                              final Charset charset) {
+        this(file, DEFAULT_INITIAL_CAPACITY, charset);
+    }
+
+    /**
+     * Creates a new {@link HeaderFooterReader} instance.
+     *
+     * @param file            the input file pointer.
+     * @param initialCapacity the buffer initial capacity.
+     * @param charset         the input file charset.
+     */
+    HeaderFooterReader(final File file,
+                       final int initialCapacity,
+                       final Charset charset) {
+        Objects.requireNonNull(file, "file can't be null");
+        this.charset = charset;
+        this.terminator = new LineTerminator(charset);
+        this.unit = terminator.unit;
+        // The capacity must be a multiple of the terminator size to keep reads aligned on characters.
+        this.buffer = ByteBuffer.allocate(Math.max(initialCapacity / unit, 4) * unit);
+        try {
+            LOG.debug("Opening file {}", file);
+            this.channel = new FileInputStream(file).getChannel();
+        } catch (FileNotFoundException e) {
+            throw new ReaderException("Can't found source file : " + file);
+        }
+    }
+
+    /**
+     * Reads the first lines of the file.
+     *
+     * @param numLines  the number of lines to read.
+     * @return          the list of {@link TextBlock}, containing less lines than expected if the file is too short.
+     * @throws IOException  if an error occurred while reading the file.
+     */
+    public List<TextBlock> readHeaders(final int numLines) throws IOException {
+        final List<TextBlock> lines = new ArrayList<>(numLines);
+        final long size = channel.size();
+        long start = 0L;
+        while (lines.size() < numLines && start < size) {
+            final long end = nextLineEnd(start, size);
+            lines.add(readLine(start, end));
+            start = end;
+        }
+        return lines;
+    }
+
+    /**
+     * Reads the last non-empty lines of the file.
+     *
+     * @param numLines  the number of lines to read.
+     * @return          the list of {@link TextBlock} in file order, containing less lines than expected
+     *                  if the file is too short.
+     * @throws IOException  if an error occurred while reading the file.
+     */
+    public List<TextBlock> readFooters(final int numLines) throws IOException {
+        final LinkedList<TextBlock> lines = new LinkedList<>();
+        long end = channel.size();
+        while (lines.size() < numLines && end > 0) {
+            final long start = previousLineStart(end);
+            final TextBlock line = readLine(start, end);
+            // We exclude all empty row
+            if (line.size() > 0) {
+                lines.addFirst(line);
+            }
+            end = start;
+        }
+        return lines;
+    }
+
+    /**
+     * Gets the position following the terminator of the line starting at the specified position.
+     */
+    private long nextLineEnd(final long start, final long size) throws IOException {
+        long position = start;
+        while (position < size) {
+            final int nread = read(position, (int) Math.min(buffer.capacity(), size - position));
+            final byte[] bytes = buffer.array();
+            int i = 0;
+            while (i + unit <= nread) {
+                if (terminator.isLF(bytes, i)) {
+                    return position + i + unit;
+                } else if (terminator.isCR(bytes, i)) {
+                    if (i + 2 * unit <= nread) {
+                        return position + i + (terminator.isLF(bytes, i + unit) ? 2 * unit : unit);
+                    } else if (position + i + unit >= size) {
+                        return size;
+                    }
+                    // We need to check for \r\n, so read again from the carriage-return.
+                    break;
+                }
+                i += unit;
+            }
+            if (i == 0 && nread < unit) {
+                break;
+            }
+            position += i;
+        }
+        return size;
+    }
+
+    /**
+     * Gets the start position of the line whose terminator ends at the specified position.
+     */
+    private long previousLineStart(final long end) throws IOException {
+        // The terminator of the line itself is never a line boundary before its end.
+        long i = end - 2L * unit;
+        while (i >= 0) {
+            // The unit following each position is read to check for \r\n.
+            final long windowEnd = i + 2L * unit;
+            final long windowStart = Math.max(0L, windowEnd - buffer.capacity());
+            read(windowStart, (int) (windowEnd - windowStart));
+            final byte[] bytes = buffer.array();
+            for (; i >= windowStart; i -= unit) {
+                final int k = (int) (i - windowStart);
+                if (terminator.isLF(bytes, k) || (terminator.isCR(bytes, k) && !terminator.isLF(bytes, k + unit))) {
+                    return i + unit;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    private TextBlock readLine(final long start, final long end) throws IOException {
+        final int length = (int) (end - start);
+        if (buffer.capacity() < length) {
+            buffer = ByteBuffer.allocate((length + unit - 1) / unit * unit);
+        }
+        final int nread = read(start, length);
+        final byte[] bytes = buffer.array();
+        int size = nread;
+        if (size >= unit && terminator.isLF(bytes, size - unit)) {
+            size -= unit;
+            if (size >= unit && terminator.isCR(bytes, size - unit)) {
+                size -= unit;
+            }
+        } else if (size >= unit && terminator.isCR(bytes, size - unit)) {
+            size -= unit;
+        }
+        return new TextBlock(new String(bytes, 0, size, charset), charset, start, end, size);
+    }
+
+    private int read(final long position, final int length) throws IOException {
+        ((Buffer) buffer).clear();
+        ((Buffer) buffer).limit(length);
+        int nread;
+        do {
+            nread = channel.read(buffer, position + buffer.position());
+        } while (nread >= 0 && buffer.hasRemaining());
+        return buffer.position();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+            LOG.trace("Closed input channel");
+        } catch (IOException e) {
+            LOG.error("Failed to close HeaderFooterReader channel : ", e);
+        }
+    }
+}
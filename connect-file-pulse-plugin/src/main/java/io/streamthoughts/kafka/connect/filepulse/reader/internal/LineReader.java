@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * A {@code LineReader} reads an input file line by line and tracks the byte position of the next line.
+ */
+public interface LineReader extends AutoCloseable {
+
+    /**
+     * Gets the charset used to decode lines.
+     *
+     * @return the {@link Charset} instance.
+     */
+    Charset charset();
+
+    /**
+     * Gets the byte position of the next line to be returned.
+     *
+     * @return the position in bytes.
+     */
+    long position();
+
+    /**
+     * Enables auto-flush; The reader will automatically
+     * flush all remaining read bytes as a single line when EOF is reached.
+     */
+    void enableAutoFlush();
+
+    /**
+     * Disable auto-flush; Reader will not automatically
+     * flush all remaining read bytes when EOF is reached.
+     */
+    void disableAutoFlush();
+
+    /**
+     * Reads the next available lines.
+     *
+     * @param minRecords    the minimum number of lines to read if available.
+     * @return              the list of {@link TextBlock}, possibly empty.
+     * @throws IOException  if an error occurred while reading the file.
+     */
+    List<TextBlock> readLines(final int minRecords) throws IOException;
+
+    /**
+     * Checks whether there is still remaining bytes already read but not returned as a line.
+     *
+     * @return  {@code true} if there is bytes already read.
+     */
+    boolean remaining();
+
+    /**
+     * Checks whether there is still bytes to read from the input file.
+     *
+     * @return  {@code true} if there is bytes to read.
+     */
+    boolean hasNext();
+
+    /**
+     * Seeks this reader to the specified byte position. If the position is not the beginning
+     * of a line then the reader is positioned at the beginning of the next line.
+     *
+     * @param offset  the position in bytes.
+     */
+    void seekTo(final Long offset);
+
+    /**
+     * Seeks this reader to the beginning of the first line starting at or after the specified byte position,
+     * or to the end of the file if no line starts after it.
+     *
+     * @param position  the position in bytes.
+     */
+    void seekToLineStart(final long position);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * The encoded line-feed and carriage-return of a charset.
+ */
+final class LineTerminator {
+
+    private static final int ALIGN_BUFFER_SIZE = 512;
+
+    final byte[] lf;
+    final byte[] cr;
+
+    // The number of bytes of an encoded line terminator (1 for all ASCII-compatible charsets).
+    final int unit;
+
+    /**
+     * Creates a new {@link LineTerminator} for the specified charset.
+     *
+     * @param charset   the charset to use.
+     */
+    LineTerminator(final Charset charset) {
+        this.lf = encode('\n', charset);
+        this.cr = encode('\r', charset);
+        this.unit = lf.length;
+    }
+
+    /**
+     * Encodes the given line terminator without any byte-order-mark
+     * that may be prepended by the charset encoder.
+     */
+    private static byte[] encode(final char c, final Charset charset) {
+        final byte[] one = String.valueOf(c).getBytes(charset);
+        final byte[] two = new String(new char[]{c, c}).getBytes(charset);
+        final int length = two.length - one.length;
+        return Arrays.copyOfRange(two, two.length - length, two.length);
+    }
+
+    boolean isLF(final byte[] bytes, final int from) {
+        return matches(bytes, from, lf);
+    }
+
+    boolean isCR(final byte[] bytes, final int from) {
+        return matches(bytes, from, cr);
+    }
+
+    private boolean matches(final byte[] bytes, final int from, final byte[] terminator) {
+        if (unit == 1) {
+            return bytes[from] == terminator[0];
+        }
+        for (int j = 0; j < unit; j++) {
+            if (bytes[from + j] != terminator[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the position of the first line starting at or after the specified position,
+     * using positional reads on the given channel.
+     *
+     * @param channel   the file channel.
+     * @param position  the byte position.
+     * @return          the byte position of the line start, or {@code position} if no line terminator
+     *                  can be found after it.
+     * @throws IOException if an error occurred while reading the channel.
+     */
+    long alignToLineStart(final FileChannel channel, final long position) throws IOException {
+        final long aligned = nextLineStart(channel, position);
+        return aligned < 0 ? position : aligned;
+    }
+
+    /**
+     * Gets the position of the first line starting at or after the specified position,
+     * using positional reads on the given channel.
+     *
+     * @param channel   the file channel.
+     * @param position  the byte position.
+     * @return          the byte position of the line start, or {@code -1} if no line terminator
+     *                  can be found after it.
+     * @throws IOException if an error occurred while reading the channel.
+     */
+    long nextLineStart(final FileChannel channel, final long position) throws IOException {
+        if (position <= 0) {
+            return 0L;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(ALIGN_BUFFER_SIZE);
+        final byte[] bytes = buffer.array();
+        // Start from the previous terminator which is expected to end the previous line.
+        long start = position - unit;
+        while (true) {
+            final int nread = readFully(channel, buffer, start);
+            final boolean eof = nread < bytes.length;
+            int i = 0;
+            while (i + unit <= nread) {
+                if (isLF(bytes, i)) {
+                    return start + i + unit;
+                } else if (isCR(bytes, i)) {
+                    if (i + 2 * unit <= nread) {
+                        return start + i + (isLF(bytes, i + unit) ? 2 * unit : unit);
+                    } else if (eof) {
+                        return start + i + unit;
+                    }
+                    break;
+                }
+                i += unit;
+            }
+            if (eof) {
+                return -1L;
+            }
+            start += i;
+        }
+    }
+
+    private static int readFully(final FileChannel channel,
+                                 final ByteBuffer buffer,
+                                 final long position) throws IOException {
+        ((Buffer) buffer).clear();
+        int nread;
+        do {
+            nread = channel.read(buffer, position + buffer.position());
+        } while (nread >= 0 && buffer.hasRemaining());
+        return buffer.position();
+    }
+}
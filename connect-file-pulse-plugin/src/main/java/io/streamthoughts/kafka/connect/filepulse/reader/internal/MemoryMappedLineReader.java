@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import io.streamthoughts.kafka.connect.filepulse.reader.ReaderException;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link LineReader} which iterates over lines directly from sliding memory-mapped windows of a file.
+ *
+ * This reader is intended to be used for files which are completely written before being read.
+ * Seeking to a position is a constant-time operation since no bytes has to be read or decoded.
+ *
+ * The size of the file is only read once per call to {@link #readLines(int)}. A window is not explicitly unmapped
+ * when it slides : releasing a mapping requires non-public JDK APIs, and any access to an unmapped buffer crashes
+ * the JVM. Instead, only the current window is referenced (lines are copied before being decoded), so that previous
+ * ones are unmapped once collected, and their pages, being backed by the file, can be reclaimed by the OS meanwhile.
+ */
+public class MemoryMappedLineReader implements LineReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryMappedLineReader.class);
+
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+    private final FileChannel channel;
+
+    private final Charset charset;
+
+    private final LineTerminator terminator;
+
+    // The number of bytes of an encoded line terminator (1 for all ASCII-compatible charsets).
+    private final int unit;
+
+    private final int windowSize;
+
+    // The current mapped region of the file.
+    private MappedByteBuffer window;
+
+    // The file position of the first byte of the current mapped region.
+    private long windowStart;
+
+    // The current bytes position.
+    private long offset = 0L;
+
+    // The position up to which bytes have been read without finding a complete line.
+    private long scanned = 0L;
+
+    // The size of the file, as last read from the channel.
+    private long size;
+
+    // The buffer used to copy line bytes before decoding.
+    private byte[] bytes = new byte[1024];
+
+    private boolean autoFlush = true;
+
+    /**
+     * Creates a new {@link MemoryMappedLineReader} instance.
+     *
+     * @param file         the input file pointer.
+     * @param charset      the input file charset.
+     */
+    public MemoryMappedLineReader(final File file,
+                                  final Charset charset) {
+        this(file, DEFAULT_WINDOW_SIZE, charset);
+    }
+
+    /**
+     * Creates a new {@link MemoryMappedLineReader} instance.
+     *
+     * @param file            the input file pointer.
+     * @param windowSize      the number of bytes to map at once.
+     * @param charset         the input file charset.
+     */
+    public MemoryMappedLineReader(final File file,
+                                  final int windowSize,
+                                  final Charset charset) {
+        Objects.requireNonNull(file, "file can't be null");
+        this.charset = charset;
+        this.terminator = new LineTerminator(charset);
+        this.unit = terminator.unit;
+        this.windowSize = Math.max(windowSize, 2 * unit);
+        try {
+            LOG.debug("Opening file {}", file);
+            this.channel = new FileInputStream(file).getChannel();
+        } catch (FileNotFoundException e) {
+            throw new ReaderException("Can't found source file : " + file);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Charset charset() {
+        return charset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long position() {
+        return offset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void enableAutoFlush() {
+        this.autoFlush = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void disableAutoFlush() {
+        this.autoFlush = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TextBlock> readLines(final int minRecords) throws IOException {
+        final List<TextBlock> records = new ArrayList<>();
+        size = channel.size();
+        while (scanned < size && (records.isEmpty() || records.size() < minRecords)) {
+            final TextBlock line = tryToExtractLine();
+            if (line != null) {
+                records.add(line);
+            }
+        }
+
+        if (scanned >= size && remaining() && autoFlush) {
+            LOG.info("End of file reached - flushing remaining bytes from mapped file.");
+            final int length = (int) (scanned - offset);
+            map(offset, length);
+            records.add(newTextBlock(0, length, length));
+        }
+        return records;
+    }
+
+    private TextBlock tryToExtractLine() throws IOException {
+        if (window == null || offset < windowStart || offset >= windowStart + window.limit()) {
+            map(offset, windowSize);
+        }
+
+        while (true) {
+            final int from = (int) (offset - windowStart);
+            final int end = window.limit();
+            final TextBlock line = tryToExtractLineFromWindow(from, end);
+            if (line != null) {
+                return line;
+            }
+
+            if (windowStart + end >= size) {
+                scanned = size;
+                return null;
+            }
+            // The line does not fit in the remaining mapped bytes, slide (or grow) the window.
+            final int length = (int) Math.min(Math.max(windowSize, 2L * (end - from)), MAX_WINDOW_SIZE);
+            if (length <= end - from) {
+                throw new ReaderException("Can't read line starting at position " + offset
+                        + " larger than the maximum mapped window size");
+            }
+            map(offset, length);
+        }
+    }
+
+    private TextBlock tryToExtractLineFromWindow(final int from, final int end) {
+        int i = from;
+        while (i + unit <= end) {
+            if (matches(i, terminator.lf)) {
+                return newTextBlock(from, i, i + unit);
+            } else if (matches(i, terminator.cr)) {
+                // We need to check for \r\n, so we must skip this if we can't check the next char
+                if (i + 2 * unit > end) {
+                    return null;
+                }
+                return newTextBlock(from, i, matches(i + unit, terminator.lf) ? i + 2 * unit : i + unit);
+            }
+            i += unit;
+        }
+        return null;
+    }
+
+    private void map(final long position, final int length) throws IOException {
+        final long mapped = Math.min(length, size - position);
+        LOG.debug("Mapping file region [{}, {}]", position, position + mapped);
+        // release the reference to the previous window before mapping the next one.
+        window = null;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, mapped);
+        windowStart = position;
+    }
+
+    private boolean matches(final int from, final byte[] bytes) {
+        if (unit == 1) {
+            return window.get(from) == bytes[0];
+        }
+        for (int j = 0; j < unit; j++) {
+            if (window.get(from + j) != bytes[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private TextBlock newTextBlock(final int from, final int until, final int newStart) {
+        final int size = until - from;
+        if (bytes.length < size) {
+            bytes = new byte[size];
+        }
+        ((Buffer) window).position(from);
+        window.get(bytes, 0, size);
+        final TextBlock result = TextBlock.decode(bytes, 0, size, charset, offset, offset + newStart - from);
+        offset += newStart - from;
+        scanned = offset;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remaining() {
+        return scanned > offset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        try {
+            size = channel.size();
+            return scanned < size;
+        } catch (IOException e) {
+            LOG.error("Error while checking for remaining bytes to read", e.getLocalizedMessage());
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekTo(final Long offset) {
+        final long position = offset != null && offset > 0 ? offset : 0L;
+        try {
+            if (position > channel.size()) {
+                throw new ConnectException(
+                    "Can't seek to position " + position + " beyond the end of file (size=" + channel.size() + ")");
+            }
+            final long aligned = terminator.alignToLineStart(channel, position);
+            if (aligned != position) {
+                LOG.warn("Position {} is not the beginning of a line, seeking to next line at position {}",
+                        position, aligned);
+            }
+            seek(aligned);
+        } catch (IOException e) {
+            LOG.error("Error while trying to seek to previous position bytes in file: ", e);
+            throw new ConnectException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekToLineStart(final long position) {
+        try {
+            final long aligned = terminator.nextLineStart(channel, position);
+            seek(aligned < 0 ? channel.size() : aligned);
+        } catch (IOException e) {
+            LOG.error("Error while trying to seek to line start in file: ", e);
+            throw new ConnectException(e);
+        }
+    }
+
+    private void seek(final long position) {
+        this.offset = position;
+        this.scanned = position;
+        LOG.debug("Seeked to file position bytes {}", this.offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        try {
+            window = null;
+            if (channel != null) {
+                channel.close();
+                LOG.trace("Closed input channel");
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to close MemoryMappedLineReader channel : ", e);
+        }
+    }
+}
@@ -16,15 +16,15 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.reader.internal;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -34,33 +34,37 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A BufferedReader wrapper to read lines in non-blocking way.
+ * A {@link FileChannel} wrapper to read lines in non-blocking way.
+ *
+ * Lines are split on raw bytes and only the bytes of each line are decoded,
+ * so all positions returned by this reader are byte offsets in the input file.
  */
-public class NonBlockingBufferReader implements AutoCloseable {
+public class NonBlockingBufferReader implements LineReader {
 
     private static final Logger LOG = LoggerFactory.getLogger(NonBlockingBufferReader.class);
 
     public static final int DEFAULT_INITIAL_CAPACITY = 4096;
 
-    private final InputStream stream;
-
-    private final int initialCapacity;
+    private final FileChannel channel;
 
     private final Charset charset;
 
-    private BufferedReader reader;
+    private final LineTerminator terminator;
+
+    // The number of bytes of an encoded line terminator (1 for all ASCII-compatible charsets).
+    private final int unit;
 
     // The current bytes position.
-    private Long offset = 0L;
+    private long offset = 0L;
 
-    // The buffer used to read extract lines from the iterator file.
-    private char[] buffer;
+    // The buffer used to read extract lines from the iterator file (data is in [start, buffer.position()).
+    private ByteBuffer buffer;
 
-    // The current buffer positions.
-    private int bufferOffset = 0;
+    // The buffer position of the first byte not yet returned as a line.
+    private int start = 0;
 
-    // Number of bytes read during last iteration.
-    private int nread = -1;
+    // The buffer position from which to resume scanning for a line terminator.
+    private int cursor = 0;
 
     private boolean autoFlush = true;
 
@@ -86,148 +90,195 @@ public class NonBlockingBufferReader implements AutoCloseable {
                                    final int initialCapacity,
                                    final Charset charset) {
         Objects.requireNonNull(file, "file can't be null");
-        this.initialCapacity = initialCapacity;
-        this.buffer = new char[initialCapacity];
         this.charset = charset;
+        this.terminator = new LineTerminator(charset);
+        this.unit = terminator.unit;
+        this.buffer = ByteBuffer.allocate(Math.max(initialCapacity, 2 * unit));
         try {
             LOG.debug("Opening file {}", file);
-            this.stream = new FileInputStream(file);
+            this.channel = new FileInputStream(file).getChannel();
         } catch (FileNotFoundException e) {
             throw new ReaderException("Can't found source file : " + file);
         }
-        this.reader = new BufferedReader(new InputStreamReader(stream, charset));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public Charset charset() {
         return charset;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public long position() {
         return offset;
     }
 
     /**
-     * Enables auto-flush; The reader will automatically
-     * flush all remaining buffered bytes as a single line when EOF is reached.
+     * {@inheritDoc}
      */
+    @Override
     public void enableAutoFlush() {
         this.autoFlush = true;
     }
 
     /**
-     * Disable auto-flush; Reader will not automatically
-     * flush all remaining buffered bytes when EOF is reached.
+     * {@inheritDoc}
      */
+    @Override
     public void disableAutoFlush() {
         this.autoFlush = false;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public List<TextBlock> readLines(int minRecords) throws IOException {
         // Unfortunately we can't just use readLine() because it blocks in an uninterruptible way.
         // Instead we have to manage splitting lines ourselves, using simple backoff when no new value
         // is available.
-        final List<TextBlock> records = new LinkedList<>();
-        nread = 0;
-        while (reader.ready() && (records.isEmpty()|| records.size() < minRecords)) {
-            nread = reader.read(buffer, bufferOffset, buffer.length - bufferOffset);
-            if (nread > 0) {
-                bufferOffset += nread;
-                TextBlock line;
-                do {
-                    line = tryToExtractLine();
-                    if (line != null) {
-                        records.add(line);
-                    }
-                } while (line != null);
-
-                if (records.isEmpty() && bufferOffset == buffer.length) {
-                    char[] newbuf = new char[buffer.length * 2];
-                    System.arraycopy(buffer, 0, newbuf, 0, buffer.length);
-                    buffer = newbuf;
-                }
+        final List<TextBlock> records = new ArrayList<>();
+        while (hasNext() && (records.isEmpty() || records.size() < minRecords)) {
+            if (fill() > 0) {
+                extractLines(records);
             }
         }
 
         if (!hasNext() && remaining() && autoFlush) {
             LOG.info("End of file reached - flushing remaining bytes from reader buffer.");
-            final String line = new String(buffer, 0, bufferOffset);
-            records.add(new TextBlock(line, charset, offset, offset + bufferOffset, bufferOffset));
-            offset+=bufferOffset;
-            bufferOffset = 0;
+            final int end = buffer.position();
+            // A trailing \r could not be checked for a following \n before reaching the end of file.
+            final boolean endsWithCR = cursor + unit == end && terminator.isCR(buffer.array(), cursor);
+            records.add(newTextBlock(start, endsWithCR ? cursor : end, end));
+            start = cursor = end;
         }
         return records;
     }
 
     /**
-     * Checks whether there is still remaining bytes in the internal buffer.
+     * Reads the next bytes from the channel; the unconsumed bytes are moved to the beginning
+     * of the buffer once per refill and the buffer is only grown if a single line does not fit in it.
      *
-     * @return  {@code true} if there is bytes already read.
+     * @return the number of bytes read, possibly zero, or -1 if the channel has reached end-of-stream.
+     */
+    private int fill() throws IOException {
+        if (start > 0) {
+            final int length = buffer.position() - start;
+            System.arraycopy(buffer.array(), start, buffer.array(), 0, length);
+            ((Buffer) buffer).position(length);
+            cursor -= start;
+            start = 0;
+        }
+
+        if (!buffer.hasRemaining()) {
+            final ByteBuffer newbuf = ByteBuffer.allocate(buffer.capacity() * 2);
+            ((Buffer) buffer).flip();
+            newbuf.put(buffer);
+            buffer = newbuf;
+        }
+        return channel.read(buffer);
+    }
+
+    private void extractLines(final List<TextBlock> records) {
+        final byte[] bytes = buffer.array();
+        final int end = buffer.position();
+        int i = cursor;
+        while (i + unit <= end) {
+            if (terminator.isLF(bytes, i)) {
+                records.add(newTextBlock(start, i, i + unit));
+                i += unit;
+                start = i;
+            } else if (terminator.isCR(bytes, i)) {
+                // We need to check for \r\n, so we must skip this if we can't check the next char
+                if (i + 2 * unit > end) {
+                    break;
+                }
+                final int newStart = terminator.isLF(bytes, i + unit) ? i + 2 * unit : i + unit;
+                records.add(newTextBlock(start, i, newStart));
+                i = newStart;
+                start = i;
+            } else {
+                i += unit;
+            }
+        }
+        cursor = i;
+    }
+
+    private TextBlock newTextBlock(final int from, final int until, final int newStart) {
+        final int size = until - from;
+        final TextBlock result = TextBlock.decode(
+            buffer.array(), from, size, charset, offset, offset + newStart - from);
+        offset += newStart - from;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
      */
+    @Override
     public boolean remaining() {
-        return bufferOffset != 0;
+        return buffer.position() > start;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public boolean hasNext() {
         try {
-            return (nread > 0 || nread == -1) && reader.ready();
+            return channel.position() < channel.size();
         } catch (IOException e) {
             LOG.error("Error while checking for remaining bytes to read", e.getLocalizedMessage());
             return false;
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public void seekTo(final Long offset) {
-        if (offset != null && offset > 0) {
-            buffer = new char[initialCapacity];
-            LOG.debug("Trying to skip to file bufferOffset bytes {}", offset);
-            long skipLeft = offset;
-            while (skipLeft > 0) {
-                try {
-                    long skipped = reader.skip(skipLeft);
-                    skipLeft -= skipped;
-                } catch (IOException e) {
-                    LOG.error("Error while trying to seek to previous bufferOffset bytes in file: ", e);
-                    throw new ConnectException(e);
-                }
+        final long position = offset != null && offset > 0 ? offset : 0L;
+        LOG.debug("Trying to seek to file position bytes {}", position);
+        try {
+            final long aligned = terminator.alignToLineStart(channel, position);
+            if (aligned != position) {
+                LOG.warn("Position {} is not the beginning of a line, seeking to next line at position {}",
+                        position, aligned);
             }
-            LOG.debug("Skipped to bufferOffset bytes {}", offset);
-            this.offset = offset;
-        } else {
-            this.offset = 0L;
+            seek(aligned);
+        } catch (IOException e) {
+            LOG.error("Error while trying to seek to previous position bytes in file: ", e);
+            throw new ConnectException(e);
         }
     }
 
-    private TextBlock tryToExtractLine() {
-        int until = -1, newStart = -1;
-        for (int i = 0; i < bufferOffset; i++) {
-            if (buffer[i] == '\n') {
-                until = i;
-                newStart = i + 1;
-                break;
-            } else if (buffer[i] == '\r') {
-                // We need to check for \r\n, so we must skip this if we can't check the next char
-                if (i + 1 >= bufferOffset) {
-                    return null;
-                }
-
-                until = i;
-                newStart = (buffer[i + 1] == '\n') ? i + 2 : i + 1;
-                break;
-            }
-        }
-
-        TextBlock result = null;
-        if (until != -1) {
-            final String line = new String(buffer, 0, until);
-            result =  new TextBlock(line, charset,  offset, offset + newStart ,until);
-            System.arraycopy(buffer, newStart, buffer, 0, buffer.length - newStart);
-            bufferOffset = bufferOffset - newStart;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekToLineStart(final long position) {
+        LOG.debug("Trying to seek to the first line starting from file position bytes {}", position);
+        try {
+            final long aligned = terminator.nextLineStart(channel, position);
+            seek(aligned < 0 ? channel.size() : aligned);
+        } catch (IOException e) {
+            LOG.error("Error while trying to seek to line start in file: ", e);
+            throw new ConnectException(e);
         }
+    }
 
-        if (newStart != -1) {
-            offset += newStart;
-        }
-        return result;
+    private void seek(final long position) throws IOException {
+        channel.position(position);
+        this.offset = position;
+        ((Buffer) buffer).clear();
+        start = cursor = 0;
+        LOG.debug("Seeked to file position bytes {}", this.offset);
     }
 
     /**
@@ -236,12 +287,12 @@ public class NonBlockingBufferReader implements AutoCloseable {
     @Override
     public void close() {
         try {
-            if (stream != null && stream != System.in) {
-                stream.close();
-                LOG.trace("Closed input stream");
+            if (channel != null) {
+                channel.close();
+                LOG.trace("Closed input channel");
             }
         } catch (IOException e) {
-            LOG.error("Failed to close NonBlockingBufferReader stream : ", e);
+            LOG.error("Failed to close NonBlockingBufferReader channel : ", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,428 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import io.streamthoughts.kafka.connect.filepulse.reader.ReaderException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link LineReader} which reads lines ahead from a background thread.
+ *
+ * Batches of lines read from the underlying reader are buffered in a bounded ring buffer,
+ * so that disk I/O overlaps with the records processing done by the caller. The background thread
+ * blocks when either the maximum number of batches or the maximum number of bytes is buffered.
+ *
+ * Once started, the underlying reader is only accessed by the background thread.
+ */
+public class PrefetchingLineReader implements LineReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PrefetchingLineReader.class);
+
+    public static final long DEFAULT_MAX_BUFFERED_BYTES = 8 * 1024 * 1024;
+
+    // The time to wait for a new batch of lines before returning to the caller.
+    private static final long POLL_TIMEOUT_MS = 100L;
+
+    // The time to wait for new bytes to be appended after hitting the end of file.
+    private static final long IDLE_WAIT_MS = 100L;
+
+    private final LineReader reader;
+
+    private final int maxBufferedBatches;
+
+    private final long maxBufferedBytes;
+
+    private final int minRecords;
+
+    private final Deque<List<TextBlock>> batches;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition notEmpty = lock.newCondition();
+
+    private long bufferedBytes = 0L;
+
+    private Thread thread;
+
+    private volatile boolean closed = false;
+
+    // The failure thrown by the underlying reader, to be rethrown to the caller.
+    private volatile Exception failure;
+
+    // Whether the underlying reader has still bytes to read, as seen by the background thread.
+    private volatile boolean readerHasNext = true;
+
+    // Whether the underlying reader has read bytes not yet returned as a line, as seen by the background thread.
+    private volatile boolean readerRemaining = false;
+
+    private volatile boolean autoFlush = true;
+
+    // The position of the next line to be returned to the caller.
+    private long position;
+
+    // The total time in nanoseconds the background thread was blocked because the buffer was full.
+    private volatile long readerStallNanos = 0L;
+
+    // The total time in nanoseconds the caller waited for lines while the buffer was empty.
+    private long callerStallNanos = 0L;
+
+    private int maxObservedDepth = 0;
+
+    /**
+     * Creates a new {@link PrefetchingLineReader} instance.
+     *
+     * @param reader             the underlying line reader.
+     * @param maxBufferedBatches the maximum number of batches of lines to buffer.
+     * @param maxBufferedBytes   the maximum number of bytes of lines to buffer.
+     * @param minRecords         the minimum number of lines of each batch read from the underlying reader.
+     */
+    public PrefetchingLineReader(final LineReader reader,
+                                 final int maxBufferedBatches,
+                                 final long maxBufferedBytes,
+                                 final int minRecords) {
+        Objects.requireNonNull(reader, "reader can't be null");
+        if (maxBufferedBatches <= 0) {
+            throw new IllegalArgumentException("maxBufferedBatches must be greater than 0");
+        }
+        this.reader = reader;
+        this.maxBufferedBatches = maxBufferedBatches;
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.minRecords = minRecords;
+        this.batches = new ArrayDeque<>(maxBufferedBatches);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Charset charset() {
+        return reader.charset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long position() {
+        return isStarted() ? position : reader.position();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void enableAutoFlush() {
+        autoFlush = true;
+        if (!isStarted()) {
+            reader.enableAutoFlush();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void disableAutoFlush() {
+        autoFlush = false;
+        if (!isStarted()) {
+            reader.disableAutoFlush();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TextBlock> readLines(final int minRecords) throws IOException {
+        startIfNeeded();
+        final List<TextBlock> records = new ArrayList<>();
+        List<TextBlock> batch = take(POLL_TIMEOUT_MS);
+        while (batch != null) {
+            records.addAll(batch);
+            batch = records.size() < minRecords ? take(0L) : null;
+        }
+        if (!records.isEmpty()) {
+            position = records.get(records.size() - 1).endOffset();
+        } else {
+            mayThrowFailure();
+        }
+        return records;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remaining() {
+        if (!isStarted()) {
+            return reader.remaining();
+        }
+        return readerRemaining;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (!isStarted()) {
+            return reader.hasNext();
+        }
+        // The flag must be read before checking the buffer; the background thread updates it after buffering lines.
+        final boolean hasNext = readerHasNext;
+        return hasNext || bufferedBatches() > 0 || failure != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekTo(final Long offset) {
+        checkNotStarted();
+        reader.seekTo(offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekToLineStart(final long position) {
+        checkNotStarted();
+        reader.seekToLineStart(position);
+    }
+
+    /**
+     * Gets the number of batches of lines currently buffered.
+     *
+     * @return the queue depth.
+     */
+    public int bufferedBatches() {
+        lock.lock();
+        try {
+            return batches.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of bytes of lines currently buffered.
+     *
+     * @return the number of bytes.
+     */
+    public long bufferedBytes() {
+        lock.lock();
+        try {
+            return bufferedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the maximum number of batches of lines which has been buffered at the same time.
+     *
+     * @return the maximum queue depth.
+     */
+    public int maxObservedDepth() {
+        lock.lock();
+        try {
+            return maxObservedDepth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the total time the background thread has been blocked because the buffer was full.
+     * A high value means that records are processed slower than they are read.
+     *
+     * @return the stall time in milliseconds.
+     */
+    public long readerStallMs() {
+        return TimeUnit.NANOSECONDS.toMillis(readerStallNanos);
+    }
+
+    /**
+     * Gets the total time the caller has waited for lines because the buffer was empty.
+     * A high value means that lines are read slower than they are processed.
+     *
+     * @return the stall time in milliseconds.
+     */
+    public long callerStallMs() {
+        return TimeUnit.NANOSECONDS.toMillis(callerStallNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        closed = true;
+        lock.lock();
+        try {
+            notFull.signalAll();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (thread != null) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            LOG.info("Closed prefetching reader (max-depth={}, reader-stall-ms={}, caller-stall-ms={})",
+                maxObservedDepth(), readerStallMs(), callerStallMs());
+        }
+        reader.close();
+    }
+
+    private boolean isStarted() {
+        return thread != null;
+    }
+
+    private void checkNotStarted() {
+        if (isStarted()) {
+            throw new IllegalStateException("Can't seek prefetching reader once started");
+        }
+    }
+
+    private void startIfNeeded() {
+        if (!isStarted()) {
+            position = reader.position();
+            readerRemaining = reader.remaining();
+            thread = new Thread(this::runLoop, "file-pulse-prefetch-" + Thread.currentThread().getName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    private void mayThrowFailure() throws IOException {
+        final Exception e = failure;
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        } else if (e != null) {
+            throw new ReaderException("Error while reading lines ahead", e);
+        }
+    }
+
+    private void runLoop() {
+        try {
+            while (!closed) {
+                readerHasNext = reader.hasNext();
+                if (readerHasNext || flushRequested()) {
+                    syncAutoFlush();
+                    final List<TextBlock> batch = reader.readLines(minRecords);
+                    if (!batch.isEmpty()) {
+                        put(batch);
+                    }
+                    readerRemaining = reader.remaining();
+                } else {
+                    waitForMoreBytes();
+                }
+            }
+        } catch (InterruptedException e) {
+            LOG.debug("Prefetching thread has been interrupted");
+        } catch (Exception e) {
+            LOG.error("Error while reading lines ahead", e);
+            failure = e;
+            readerHasNext = false;
+        }
+    }
+
+    private void syncAutoFlush() {
+        if (autoFlush) {
+            reader.enableAutoFlush();
+        } else {
+            reader.disableAutoFlush();
+        }
+    }
+
+    private boolean flushRequested() {
+        return autoFlush && readerRemaining;
+    }
+
+    private void waitForMoreBytes() throws InterruptedException {
+        lock.lock();
+        try {
+            if (!closed) {
+                notFull.await(IDLE_WAIT_MS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(final List<TextBlock> batch) throws InterruptedException {
+        final long bytes = batch.stream().mapToLong(b -> b.endOffset() - b.startOffset()).sum();
+        lock.lock();
+        try {
+            final long started = System.nanoTime();
+            while (!closed && isFull(bytes)) {
+                notFull.await();
+            }
+            readerStallNanos += System.nanoTime() - started;
+            batches.addLast(batch);
+            bufferedBytes += bytes;
+            maxObservedDepth = Math.max(maxObservedDepth, batches.size());
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFull(final long bytes) {
+        // A batch is always accepted into an empty buffer, whatever its size.
+        return batches.size() >= maxBufferedBatches
+            || (!batches.isEmpty() && bufferedBytes + bytes > maxBufferedBytes);
+    }
+
+    private List<TextBlock> take(final long timeoutMs) throws IOException {
+        lock.lock();
+        try {
+            if (batches.isEmpty() && timeoutMs > 0 && readerHasNext && !closed) {
+                final long started = System.nanoTime();
+                notEmpty.await(timeoutMs, TimeUnit.MILLISECONDS);
+                callerStallNanos += System.nanoTime() - started;
+            }
+            final List<TextBlock> batch = batches.pollFirst();
+            if (batch != null) {
+                bufferedBytes -= batch.stream().mapToLong(b -> b.endOffset() - b.startOffset()).sum();
+                notFull.signal();
+            }
+            return batch;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for lines", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
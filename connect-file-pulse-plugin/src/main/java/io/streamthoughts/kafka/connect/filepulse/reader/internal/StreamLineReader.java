@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link LineReader} which reads lines from an {@link InputStream}, e.g the decompressed bytes of an archive entry.
+ *
+ * The stream is expected to be complete, i.e the end of stream is the end of the input.
+ * Positions are byte offsets in the stream, so seeking to a position requires to skip all the previous bytes.
+ */
+public class StreamLineReader implements LineReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamLineReader.class);
+
+    public static final int DEFAULT_INITIAL_CAPACITY = 4096;
+
+    private final ReadableByteChannel channel;
+
+    private final Charset charset;
+
+    private final LineTerminator terminator;
+
+    // The number of bytes of an encoded line terminator (1 for all ASCII-compatible charsets).
+    private final int unit;
+
+    // The current bytes position.
+    private long offset = 0L;
+
+    // The buffer used to read extract lines from the stream (data is in [start, buffer.position()).
+    private ByteBuffer buffer;
+
+    // The buffer position of the first byte not yet returned as a line.
+    private int start = 0;
+
+    // The buffer position from which to resume scanning for a line terminator.
+    private int cursor = 0;
+
+    private boolean eof = false;
+
+    private boolean autoFlush = true;
+
+    /**
+     * Creates a new {@link StreamLineReader} instance.
+     *
+     * @param stream       the input stream.
+     * @param charset      the input charset.
+     */
+    public StreamLineReader(final InputStream stream,
+                            final Charset charset) {
+        this(stream, DEFAULT_INITIAL_CAPACITY, charset);
+    }
+
+    /**
+     * Creates a new {@link StreamLineReader} instance.
+     *
+     * @param stream          the input stream.
+     * @param initialCapacity the buffer initial capacity.
+     * @param charset         the input charset.
+     */
+    public StreamLineReader(final InputStream stream,
+                            final int initialCapacity,
+                            final Charset charset) {
+        Objects.requireNonNull(stream, "stream can't be null");
+        this.channel = Channels.newChannel(stream);
+        this.charset = charset;
+        this.terminator = new LineTerminator(charset);
+        this.unit = terminator.unit;
+        this.buffer = ByteBuffer.allocate(Math.max(initialCapacity, 2 * unit));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Charset charset() {
+        return charset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long position() {
+        return offset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void enableAutoFlush() {
+        this.autoFlush = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void disableAutoFlush() {
+        this.autoFlush = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TextBlock> readLines(final int minRecords) throws IOException {
+        final List<TextBlock> records = new ArrayList<>();
+        while (hasNext() && (records.isEmpty() || records.size() < minRecords)) {
+            if (fill() > 0) {
+                extractLines(records);
+            }
+        }
+
+        if (!hasNext() && remaining() && autoFlush) {
+            LOG.info("End of stream reached - flushing remaining bytes from reader buffer.");
+            final int end = buffer.position();
+            // A trailing \r could not be checked for a following \n before reaching the end of stream.
+            final boolean endsWithCR = cursor + unit == end && terminator.isCR(buffer.array(), cursor);
+            records.add(newTextBlock(start, endsWithCR ? cursor : end, end));
+            start = cursor = end;
+        }
+        return records;
+    }
+
+    private int fill() throws IOException {
+        if (start > 0) {
+            final int length = buffer.position() - start;
+            System.arraycopy(buffer.array(), start, buffer.array(), 0, length);
+            ((Buffer) buffer).position(length);
+            cursor -= start;
+            start = 0;
+        }
+
+        if (!buffer.hasRemaining()) {
+            final ByteBuffer newbuf = ByteBuffer.allocate(buffer.capacity() * 2);
+            ((Buffer) buffer).flip();
+            newbuf.put(buffer);
+            buffer = newbuf;
+        }
+        final int nread = channel.read(buffer);
+        if (nread < 0) {
+            eof = true;
+        }
+        return nread;
+    }
+
+    private void extractLines(final List<TextBlock> records) {
+        final byte[] bytes = buffer.array();
+        final int end = buffer.position();
+        int i = cursor;
+        while (i + unit <= end) {
+            if (terminator.isLF(bytes, i)) {
+                records.add(newTextBlock(start, i, i + unit));
+                i += unit;
+                start = i;
+            } else if (terminator.isCR(bytes, i)) {
+                // We need to check for \r\n, so we must skip this if we can't check the next char
+                if (i + 2 * unit > end) {
+                    break;
+                }
+                final int newStart = terminator.isLF(bytes, i + unit) ? i + 2 * unit : i + unit;
+                records.add(newTextBlock(start, i, newStart));
+                i = newStart;
+                start = i;
+            } else {
+                i += unit;
+            }
+        }
+        cursor = i;
+    }
+
+    private TextBlock newTextBlock(final int from, final int until, final int newStart) {
+        final int size = until - from;
+        final TextBlock result = TextBlock.decode(
+            buffer.array(), from, size, charset, offset, offset + newStart - from);
+        offset += newStart - from;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remaining() {
+        return buffer.position() > start;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        return !eof;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The position is expected to be the beginning of a line, as committed by this reader.
+     */
+    @Override
+    public void seekTo(final Long offset) {
+        final long position = offset != null && offset > 0 ? offset : 0L;
+        if (position < this.offset) {
+            throw new ConnectException(
+                "Can't seek backward to position " + position + " from position " + this.offset + " in stream");
+        }
+        LOG.debug("Skipping stream bytes up to position {}", position);
+        try {
+            ((Buffer) buffer).clear();
+            start = cursor = 0;
+            long skipped = this.offset;
+            while (skipped < position) {
+                ((Buffer) buffer).limit((int) Math.min(buffer.capacity(), position - skipped));
+                final int nread = channel.read(buffer);
+                if (nread < 0) {
+                    eof = true;
+                    break;
+                }
+                skipped += nread;
+                ((Buffer) buffer).clear();
+            }
+            this.offset = skipped;
+        } catch (IOException e) {
+            LOG.error("Error while trying to seek to previous position bytes in stream: ", e);
+            throw new ConnectException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekToLineStart(final long position) {
+        throw new UnsupportedOperationException("Can't seek to an arbitrary position of a stream");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+            LOG.trace("Closed input stream");
+        } catch (IOException e) {
+            LOG.error("Failed to close StreamLineReader stream : ", e);
+        }
+    }
+}
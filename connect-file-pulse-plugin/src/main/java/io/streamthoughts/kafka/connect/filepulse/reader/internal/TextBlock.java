@@ -27,6 +27,26 @@ public class TextBlock {
     private final int size;
     private final Charset charset;
 
+    /**
+     * Creates a new {@link TextBlock} by decoding the specified bytes.
+     *
+     * @param bytes         the buffer holding the encoded value.
+     * @param from          the index of the first byte of the value into the buffer.
+     * @param size          the size of value in bytes.
+     * @param charset       the charset.
+     * @param startOffset   the byte starting position of the value.
+     * @param endOffset     the byte ending position of the value.
+     * @return              the new {@link TextBlock} instance.
+     */
+    static TextBlock decode(final byte[] bytes,
+                            final int from,
+                            final int size,
+                            final Charset charset,
+                            final long startOffset,
+                            final long endOffset) {
+        return new TextBlock(new String(bytes, from, size, charset), charset, startOffset, endOffset, size);
+    }
+
     /**
      * Creates a new {@link TextBlock} instance.
      *
@@ -25,6 +25,8 @@ import io.streamthoughts.kafka.connect.filepulse.clean.FileCleanupPolicyResultSe
 import io.streamthoughts.kafka.connect.filepulse.clean.GenericFileCleanupPolicy;
 import io.streamthoughts.kafka.connect.filepulse.internal.KeyValuePair;
 import io.streamthoughts.kafka.connect.filepulse.offset.OffsetManager;
+import io.streamthoughts.kafka.connect.filepulse.source.FileChunk;
+import io.streamthoughts.kafka.connect.filepulse.source.KafkaFileStateReporter;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceFile;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceStatus;
@@ -37,6 +39,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -86,6 +89,9 @@ public class LocalFileSystemScanner implements FileSystemScanner {
 
     private final BatchFileCleanupPolicy cleaner;
 
+    // The minimum size of the chunks a file can be split into, or a negative value to never split files.
+    private final long chunkMinBytesSize;
+
     private ScanStatus status;
 
     /**
@@ -102,6 +108,25 @@ public class LocalFileSystemScanner implements FileSystemScanner {
                                   final GenericFileCleanupPolicy cleaner,
                                   final OffsetManager offsetManager,
                                   final StateBackingStore<SourceFile> store) {
+        this(sourceDirectoryPath, fsWalker, cleaner, offsetManager, store, -1L);
+    }
+
+    /**
+     * Creates a new {@link LocalFileSystemScanner} instance.
+     *
+     * @param sourceDirectoryPath the source directory path to scan.
+     * @param fsWalker            the walker used to scan FS directory.
+     * @param cleaner             the file cleaner policy.
+     * @param offsetManager       the offset manager.
+     * @param store               the state store used to track file progression.
+     * @param chunkMinBytesSize   the minimum size of the chunks a file can be split into (negative to disable).
+     */
+    public LocalFileSystemScanner(final String sourceDirectoryPath,
+                                  final FSDirectoryWalker fsWalker,
+                                  final GenericFileCleanupPolicy cleaner,
+                                  final OffsetManager offsetManager,
+                                  final StateBackingStore<SourceFile> store,
+                                  final long chunkMinBytesSize) {
         Objects.requireNonNull(fsWalker, "fsWalker can't be null");
         Objects.requireNonNull(sourceDirectoryPath, "scanDirectoryPath can't be null");
         Objects.requireNonNull(cleaner, "cleaner can't be null");
@@ -121,6 +146,7 @@ public class LocalFileSystemScanner implements FileSystemScanner {
         }
         this.offsetManager = offsetManager;
         this.store = store;
+        this.chunkMinBytesSize = chunkMinBytesSize;
         this.status = ScanStatus.CREATED;
         LOG.info("Creating local filesystem scanner");
         // The listener is not call until the store is fully STARTED.
@@ -132,6 +158,10 @@ public class LocalFileSystemScanner implements FileSystemScanner {
 
             @Override
             public void onStateUpdate(final String key, final SourceFile state) {
+                // The state of a split file is only reported once all of its chunks are completed.
+                if (KafkaFileStateReporter.isChunkState(state)) {
+                    return;
+                }
                 final SourceStatus status = state.status();
                 if (status.isOneOf(SourceStatus.completed())) {
                     completed.add(state);
@@ -158,6 +188,7 @@ public class LocalFileSystemScanner implements FileSystemScanner {
         LOG.info("Recovering completed files from a previous execution");
         fileState.states().values()
                 .stream()
+                .filter(s -> !KafkaFileStateReporter.isChunkState(s))
                 .filter(s -> s.status().isOneOf(SourceStatus.completed()))
                 .forEach(s -> completed.add(s));
         LOG.info("Finished recovering previously completed files : " + completed);
@@ -192,8 +223,22 @@ public class LocalFileSystemScanner implements FileSystemScanner {
     private void cleanUpCompletedFiles() {
         if (!completed.isEmpty()) {
             LOG.info("Cleaning up completed files '{}'", completed.size());
-            final List<SourceFile> cleanable = new ArrayList<>(completed.size());
-            completed.drainTo(cleanable);
+            final List<SourceFile> drained = new ArrayList<>(completed.size());
+            completed.drainTo(drained);
+
+            // The completion of a split file may be reported by more than one task.
+            final Map<String, SourceFile> distinct = new LinkedHashMap<>();
+            drained.forEach(s -> distinct.putIfAbsent(offsetManager.toPartitionJson(s.metadata()), s));
+            final List<SourceFile> cleanable = new ArrayList<>(distinct.size());
+            for (SourceFile source : distinct.values()) {
+                // Archive entries are streamed from their archive which is left in place.
+                if (source.metadata().isArchiveEntry()) {
+                    final String partition = offsetManager.toPartitionJson(source.metadata());
+                    store.put(partition, source.withStatus(SourceStatus.CLEANED));
+                } else {
+                    cleanable.add(source);
+                }
+            }
 
             FileCleanupPolicyResultSet cleaned = cleaner.apply(cleanable);
             cleaned.forEach( (source, result) -> {
@@ -273,22 +318,44 @@ public class LocalFileSystemScanner implements FileSystemScanner {
             partitions =  Collections.emptyList();
         } else {
 
-            int numGroups = Math.min(scheduled.size(), maxGroups);
-
             List<SourceMetadata> sources = new ArrayList<>(scheduled.values());
             sources.sort(BY_LAST_MODIFIED);
 
-            final List<String> paths = sources
-                    .stream()
-                    .map(SourceMetadata::absolutePath)
-                    .collect(Collectors.toList());
-           partitions = ConnectorUtils.groupPartitions(paths, numGroups);
+            final List<String> paths = new ArrayList<>(sources.size());
+            sources.forEach(source -> paths.addAll(splitIntoChunks(source, maxGroups)));
+
+            int numGroups = Math.min(paths.size(), maxGroups);
+            partitions = ConnectorUtils.groupPartitions(paths, numGroups);
         }
 
         status = ScanStatus.STARTED;
         return partitions;
     }
 
+    /**
+     * Splits the specified source into chunks to be read in parallel if it is large enough
+     * and has not been modified since it was scanned.
+     *
+     * @param source    the source file to split.
+     * @param maxGroups the maximum number of groups, i.e the maximum number of chunks.
+     * @return          the paths of the source, encoded with their chunk if the source is split.
+     */
+    private List<String> splitIntoChunks(final SourceMetadata source, final int maxGroups) {
+        final String path = source.absolutePath();
+        if (chunkMinBytesSize <= 0 || maxGroups <= 1) {
+            return Collections.singletonList(path);
+        }
+        final int count = (int) Math.min(maxGroups, source.size() / chunkMinBytesSize);
+        if (count <= 1 || new File(path).length() != source.size()) {
+            return Collections.singletonList(path);
+        }
+        LOG.info("Splitting source file '{}' into {} chunks", path, count);
+        return FileChunk.split(source.size(), count)
+                .stream()
+                .map(chunk -> chunk.encode(path))
+                .collect(Collectors.toList());
+    }
+
     /**
      * {@inheritDoc}
      */
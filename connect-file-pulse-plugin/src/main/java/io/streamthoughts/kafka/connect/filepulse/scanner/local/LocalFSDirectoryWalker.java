@@ -32,6 +32,9 @@ import java.util.stream.Collectors;
 import io.streamthoughts.kafka.connect.filepulse.scanner.local.codec.CodecHandler;
 import io.streamthoughts.kafka.connect.filepulse.scanner.local.codec.CodecManager;
 import io.streamthoughts.kafka.connect.filepulse.scanner.local.filter.CompositeFileListFilter;
+import io.streamthoughts.kafka.connect.filepulse.source.ArchiveEntry;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.connect.errors.ConnectException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +50,9 @@ public class LocalFSDirectoryWalker implements FSDirectoryWalker {
 
     private CodecManager codecs;
 
+    // Whether archive entries are listed to be streamed instead of extracting archives.
+    private boolean streamArchives = false;
+
     /**
      * Creates a new {@link LocalFSDirectoryWalker} instance.
      */
@@ -70,7 +76,7 @@ public class LocalFSDirectoryWalker implements FSDirectoryWalker {
      */
     @Override
     public void configure(final Map<String, ?> originals) {
-
+        this.streamArchives = new LocalFSDirectoryWalkerConfig(originals).streamArchives();
     }
 
     /**
@@ -109,6 +115,10 @@ public class LocalFSDirectoryWalker implements FSDirectoryWalker {
                         final CodecHandler codec = codecs.getCodecIfCompressedOrNull(file);
                         if (codec != null) {
                             LOG.debug("Detecting compressed file : {}", file.getCanonicalPath());
+                            if (streamArchives) {
+                                listingLocalFiles.addAll(listArchiveEntries(codec, file));
+                                return;
+                            }
                             final File decompressed = codec.decompress(file);
                             listingLocalFiles.addAll(listEligibleFiles(decompressed));
                             decompressedDirs.add(decompressed);
@@ -137,8 +147,36 @@ public class LocalFSDirectoryWalker implements FSDirectoryWalker {
         return listingLocalFiles;
     }
 
+    private List<File> listArchiveEntries(final CodecHandler codec, final File archive) throws IOException {
+        final String archivePath = archive.getAbsolutePath();
+        return codec.listEntries(archive)
+                .stream()
+                .map(name -> new File(new ArchiveEntry(archivePath, name).path()))
+                .collect(Collectors.toList());
+    }
+
     private boolean isReadableAndNotHidden(final File file) {
         return file.exists() && file.canRead() && !file.isHidden();
     }
 
-}
\ No newline at end of file
+    public static class LocalFSDirectoryWalkerConfig extends AbstractConfig {
+
+        final static String FS_SCAN_STREAM_ARCHIVES_CONFIG = "fs.scan.stream.archives";
+        final static String FS_SCAN_STREAM_ARCHIVES_DOC    =
+                "Read the entries of compressed files as streams instead of extracting them to disk (default false)";
+
+        LocalFSDirectoryWalkerConfig(final Map<?, ?> originals) {
+            super(getConf(), originals);
+        }
+
+        boolean streamArchives() {
+            return getBoolean(FS_SCAN_STREAM_ARCHIVES_CONFIG);
+        }
+
+        static ConfigDef getConf() {
+            return new ConfigDef()
+                    .define(FS_SCAN_STREAM_ARCHIVES_CONFIG, ConfigDef.Type.BOOLEAN, false,
+                            ConfigDef.Importance.LOW, FS_SCAN_STREAM_ARCHIVES_DOC);
+        }
+    }
+}
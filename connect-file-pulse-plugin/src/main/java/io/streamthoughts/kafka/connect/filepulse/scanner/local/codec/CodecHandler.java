@@ -20,6 +20,8 @@ import org.apache.kafka.common.Configurable;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
 public interface CodecHandler extends Configurable {
@@ -47,4 +49,25 @@ public interface CodecHandler extends Configurable {
      * @throws IOException if an error occurred while decompressing the file.
      */
     File decompress(final File file) throws IOException;
+
+    /**
+     * Lists the names of the file entries of the specified archive without extracting them.
+     *
+     * @param file      the archive file.
+     * @return          the list of entry names.
+     *
+     * @throws IOException if an error occurred while reading the archive.
+     */
+    List<String> listEntries(final File file) throws IOException;
+
+    /**
+     * Opens a stream to read the uncompressed bytes of the specified entry.
+     *
+     * @param file      the archive file.
+     * @param entry     the entry name, as returned by {@link #listEntries(File)}.
+     * @return          a new {@link InputStream} which must be closed by the caller.
+     *
+     * @throws IOException if an error occurred while reading the archive or if the entry does not exist.
+     */
+    InputStream openEntry(final File file, final String entry) throws IOException;
 }
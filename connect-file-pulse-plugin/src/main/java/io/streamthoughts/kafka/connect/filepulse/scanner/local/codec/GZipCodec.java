@@ -20,11 +20,15 @@ import io.streamthoughts.kafka.connect.filepulse.internal.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -81,4 +85,23 @@ public class GZipCodec implements CodecHandler {
 
         return parent;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> listEntries(final File file) {
+        return Collections.singletonList(IOUtils.getNameWithoutExtension(file));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream openEntry(final File file, final String entry) throws IOException {
+        if (!listEntries(file).contains(entry)) {
+            throw new IOException("Can't find entry '" + entry + "' in archive " + file.getName());
+        }
+        return new GZIPInputStream(new BufferedInputStream(new FileInputStream(file)));
+    }
 }
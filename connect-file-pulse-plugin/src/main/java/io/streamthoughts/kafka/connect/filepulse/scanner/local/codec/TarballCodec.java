@@ -22,16 +22,21 @@ import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 public class TarballCodec implements CodecHandler {
 
@@ -102,4 +107,52 @@ public class TarballCodec implements CodecHandler {
 
         return parent;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> listEntries(final File file) throws IOException {
+        // Entry contents are skipped; a gzipped tarball still has to be inflated as it has no index.
+        final List<String> entries = new ArrayList<>();
+        try (TarArchiveInputStream inputStream = newTarArchiveInputStream(file)) {
+            ArchiveEntry entry;
+            while ((entry = inputStream.getNextEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    entries.add(entry.getName());
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream openEntry(final File file, final String entry) throws IOException {
+        final TarArchiveInputStream inputStream = newTarArchiveInputStream(file);
+        try {
+            ArchiveEntry next;
+            while ((next = inputStream.getNextEntry()) != null) {
+                if (!next.isDirectory() && next.getName().equals(entry)) {
+                    // The stream returns the bytes of the current entry only.
+                    return inputStream;
+                }
+            }
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+        inputStream.close();
+        throw new IOException("Can't find entry '" + entry + "' in archive " + file.getName());
+    }
+
+    private static TarArchiveInputStream newTarArchiveInputStream(final File file) throws IOException {
+        final InputStream inputStream = new BufferedInputStream(new FileInputStream(file));
+        if (file.getName().endsWith(TAR_GZ_SUFFIX)) {
+            return new TarArchiveInputStream(new GZIPInputStream(inputStream));
+        }
+        return new TarArchiveInputStream(inputStream);
+    }
 }
@@ -22,14 +22,20 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 public class ZipCodec implements CodecHandler {
@@ -92,4 +98,46 @@ public class ZipCodec implements CodecHandler {
         }
         return parent;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> listEntries(final File file) throws IOException {
+        // Entries are listed from the central directory, no entry is inflated.
+        final List<String> entries = new ArrayList<>();
+        try (ZipFile zipFile = new ZipFile(file)) {
+            final Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+            while (enumeration.hasMoreElements()) {
+                final ZipEntry entry = enumeration.nextElement();
+                if (!entry.isDirectory()) {
+                    entries.add(entry.getName());
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream openEntry(final File file, final String entry) throws IOException {
+        final ZipFile zipFile = new ZipFile(file);
+        final ZipEntry zipEntry = zipFile.getEntry(entry);
+        if (zipEntry == null || zipEntry.isDirectory()) {
+            zipFile.close();
+            throw new IOException("Can't find entry '" + entry + "' in archive " + file.getName());
+        }
+        return new FilterInputStream(zipFile.getInputStream(zipEntry)) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    zipFile.close();
+                }
+            }
+        };
+    }
 }
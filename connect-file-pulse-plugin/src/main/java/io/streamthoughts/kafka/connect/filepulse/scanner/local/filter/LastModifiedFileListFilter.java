@@ -16,6 +16,8 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.scanner.local.filter;
 
+import io.streamthoughts.kafka.connect.filepulse.source.ArchiveEntry;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -70,8 +72,11 @@ public class LastModifiedFileListFilter extends AbstractFileListFilter {
     }
 
     private static boolean isNotModifiedForMs(final File f, final long minimumAgeMs) {
+        // The last modified time of an archive entry is the one of its archive.
+        final String path = f.getPath();
+        final File file = ArchiveEntry.isEntryPath(path) ? ArchiveEntry.fromPath(path).archive() : f;
         try {
-            final FileTime lastModifiedTime = Files.getLastModifiedTime(f.toPath(), LinkOption.NOFOLLOW_LINKS);
+            final FileTime lastModifiedTime = Files.getLastModifiedTime(file.toPath(), LinkOption.NOFOLLOW_LINKS);
             long lastModifiedTimeMs = lastModifiedTime.to(TimeUnit.MILLISECONDS);
             long currentTimeMs = System.currentTimeMillis();
             return currentTimeMs - lastModifiedTimeMs > minimumAgeMs;
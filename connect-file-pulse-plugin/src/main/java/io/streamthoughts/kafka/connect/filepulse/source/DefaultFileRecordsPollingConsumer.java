@@ -17,22 +17,30 @@
 package io.streamthoughts.kafka.connect.filepulse.source;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.data.WideningSchema;
 import io.streamthoughts.kafka.connect.filepulse.errors.ConnectFilePulseException;
 import io.streamthoughts.kafka.connect.filepulse.filter.FilterException;
 import io.streamthoughts.kafka.connect.filepulse.filter.RecordFilterPipeline;
+import io.streamthoughts.kafka.connect.filepulse.internal.KeyValuePair;
 import io.streamthoughts.kafka.connect.filepulse.offset.OffsetManager;
 import io.streamthoughts.kafka.connect.filepulse.reader.FileInputReader;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import io.streamthoughts.kafka.connect.filepulse.reader.FileInputIterator;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.FileModificationWatcher;
 import org.apache.kafka.connect.source.SourceTaskContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,23 +49,41 @@ import static io.streamthoughts.kafka.connect.filepulse.source.FileInputIterable
 
 /**
  * This class is not thread-safe and is attended to be used only by one Source Connect Task.
+ *
+ * Up to {@code maxOpenFiles} files are kept open and read in round-robin, skipping the files which are waiting
+ * for more bytes to be written, so that a single file being tailed does not starve the other ones.
+ * When all the open files are waiting for more bytes, the consumer waits for any of them to be modified.
+ * Each open file gets its own filter pipeline because filters may buffer records between two invocations.
  */
 public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingConsumer<FileRecord<TypedStruct>> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultFileRecordsPollingConsumer.class);
 
+    // The maximum time to wait for an open file to be modified when none of them is ready.
+    private static final long MAX_WAIT_FOR_READY_FILE_MS = 500L;
+
+    // The files not opened yet.
     private final Queue<FileInputIterable> queue;
+    // The files currently open, in round-robin order.
+    private final List<OpenFile> openFiles;
+    // The filter pipelines released by closed files, to be reused for the next opened files.
+    private final Deque<RecordFilterPipeline<FileRecord<TypedStruct>>> pipelines;
+    private final int maxOpenFiles;
     private final boolean ignoreCommittedOffsets;
     private final FileInputReader reader;
-    private final RecordFilterPipeline<FileRecord<TypedStruct>> pipeline;
+    private final Supplier<RecordFilterPipeline<FileRecord<TypedStruct>>> pipelineSupplier;
     private final OffsetManager offsetManager;
     private StateListener listener;
     private final SourceTaskContext taskContext;
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
-    private FileRecord latestPollRecord;
+    // The index of the next open file to be read.
+    private int cursor = 0;
+
+    // The subscription to the modifications of the open files, renewed each time a file is opened or closed.
+    private FileModificationWatcher.Subscription openFilesSubscription;
 
-    private FileInputIterator<FileRecord<TypedStruct>> currentIterator;
+    private OpenFile currentFile;
 
     /**
      * Creates a new {@link DefaultFileRecordsPollingConsumer} instance.
@@ -73,10 +99,35 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
                                       final RecordFilterPipeline<FileRecord<TypedStruct>> pipeline,
                                       final OffsetManager offsetManager,
                                       final boolean ignoreCommittedOffsets) {
+        this(taskContext, reader, () -> pipeline, offsetManager, ignoreCommittedOffsets, 1);
+    }
+
+    /**
+     * Creates a new {@link DefaultFileRecordsPollingConsumer} instance.
+     *
+     * @param taskContext               the current task context.
+     * @param reader                    the reader to be used.
+     * @param pipelineSupplier          the supplier of filter pipelines to apply on each records.
+     * @param offsetManager             the startPosition manager.
+     * @param ignoreCommittedOffsets    flag to indicate if committed offsets should be ignored.
+     * @param maxOpenFiles              the maximum number of files to be read concurrently.
+     */
+    DefaultFileRecordsPollingConsumer(final SourceTaskContext taskContext,
+                                      final FileInputReader reader,
+                                      final Supplier<RecordFilterPipeline<FileRecord<TypedStruct>>> pipelineSupplier,
+                                      final OffsetManager offsetManager,
+                                      final boolean ignoreCommittedOffsets,
+                                      final int maxOpenFiles) {
+        if (maxOpenFiles <= 0) {
+            throw new IllegalArgumentException("maxOpenFiles must be greater than 0, was " + maxOpenFiles);
+        }
         this.queue = new LinkedBlockingQueue<>();
+        this.openFiles = new ArrayList<>(maxOpenFiles);
+        this.pipelines = new ArrayDeque<>(maxOpenFiles);
+        this.maxOpenFiles = maxOpenFiles;
         this.ignoreCommittedOffsets = ignoreCommittedOffsets;
         this.reader = reader;
-        this.pipeline = pipeline;
+        this.pipelineSupplier = pipelineSupplier;
         this.offsetManager = offsetManager;
         this.taskContext = taskContext;
     }
@@ -89,13 +140,19 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
             .stream()
             .map(toIterable())
             .filter(excludeUnreadableAndNotify())
-            .peek(it -> listener.onScheduled(new FileContext(it.metadata())))
+            .peek(it -> listener.onScheduled(it.context(SourceOffset.empty())))
             .collect(Collectors.toList());
         queue.addAll(iterables);
     }
 
     private Function<String, FileInputIterable> toIterable() {
-        return file -> new FileInputIterable(new File(file), reader);
+        return file -> {
+            if (FileChunk.isEncoded(file)) {
+                final KeyValuePair<String, FileChunk> chunk = FileChunk.decode(file);
+                return new FileInputIterable(new File(chunk.key), reader, chunk.value);
+            }
+            return new FileInputIterable(new File(file), reader);
+        };
     }
 
     private Predicate<FileInputIterable> excludeUnreadableAndNotify() {
@@ -105,7 +162,7 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
                 LOG.error(
                     "Invalid source, file doesn't exist or is not readable - ignore : {}",
                     it.file().getAbsolutePath());
-                listener.onInvalid(new FileContext(it.metadata()));
+                listener.onInvalid(it.context(SourceOffset.empty()));
             }
             return valid;
          };
@@ -116,12 +173,10 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
      */
     @Override
     public FileContext context() {
-        if (currentIterator != null) {
-            FileContext context = currentIterator.context();
-            if (latestPollRecord != null) {
-                context = new FileContext(
-                        context.metadata(),
-                        latestPollRecord.offset().toSourceOffset());
+        if (currentFile != null) {
+            FileContext context = currentFile.iterator.context();
+            if (currentFile.latestPollRecord != null) {
+                context = context.withOffset(currentFile.latestPollRecord.offset().toSourceOffset());
             }
             return context;
         }
@@ -142,32 +197,29 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
     @Override
     @SuppressWarnings("unchecked")
     public RecordsIterable<FileRecord<TypedStruct>> next() {
-        if (queue.isEmpty()) return RecordsIterable.empty();
-
-        do {
-            final FileInputIterable iterable = queue.peek();
-            if (iterable.isOpen()) {
-                currentIterator = getOrCloseIteratorIfNoMoreRecord(iterable);
-            } else {
-                currentIterator = openAndGetIteratorOrNullIfInvalid(taskContext, iterable);
-            }
-        // Quickly iterate to lookup for a valid iterator
-        } while (!queue.isEmpty() && currentIterator == null);
-
-        if (currentIterator == null) {
+        final OpenFile file = nextFileOrNull();
+        if (file == null) {
             return RecordsIterable.empty();
         }
+        currentFile = file;
 
-        final RecordsIterable<FileRecord<TypedStruct>> records = currentIterator.next();
+        final RecordsIterable<FileRecord<TypedStruct>> records = file.iterator.next();
+        // A file waiting for more bytes may still have records, checking it must not block the other files.
+        final boolean hasNext = !file.iterator.isReady() || file.iterator.hasNext();
 
         Exception exception = null;
         try {
-            final RecordsIterable<FileRecord<TypedStruct>> filtered = pipeline.apply(
+            final RecordsIterable<FileRecord<TypedStruct>> filtered = file.pipeline.apply(
                 records,
-                currentIterator.hasNext()
+                hasNext
             );
             if (!filtered.isEmpty()) {
-                latestPollRecord = filtered.last();
+                file.latestPollRecord = filtered.last();
+            }
+            for (FileRecord<TypedStruct> record : filtered) {
+                if (record instanceof TypedFileRecord) {
+                    ((TypedFileRecord) record).withFileSchema(file.schema);
+                }
             }
             return filtered;
         } catch (final FilterException e) {
@@ -185,17 +237,111 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
 
         } finally {
             if (exception != null) {
-                closeIterator(currentIterator, exception);
+                closeFile(file, exception);
             }
         }
     }
 
+    /**
+     * Gets the next open file to be read, waiting for any of the open files to be modified if none is ready.
+     *
+     * @return the {@link OpenFile} to be read, or {@code null} if no file is ready.
+     */
+    private OpenFile nextFileOrNull() {
+        OpenFile file;
+        int numOpenFiles;
+        do {
+            openFilesIfNeeded();
+            numOpenFiles = openFiles.size();
+            file = nextReadyFileOrNull();
+        // Quickly iterate to replace the completed files by the next ones
+        } while (file == null && openFiles.size() < numOpenFiles && !queue.isEmpty());
+
+        if (file == null && !openFiles.isEmpty() && awaitOpenFilesModification()) {
+            file = nextReadyFileOrNull();
+        }
+        return file;
+    }
+
+    /**
+     * Opens the next files to be read until the maximum number of open files is reached.
+     */
+    private void openFilesIfNeeded() {
+        while (openFiles.size() < maxOpenFiles && !queue.isEmpty()) {
+            final FileInputIterable iterable = queue.poll();
+            final RecordFilterPipeline<FileRecord<TypedStruct>> pipeline =
+                pipelines.isEmpty() ? pipelineSupplier.get() : pipelines.pop();
+            final FileInputIterator<FileRecord<TypedStruct>> iterator =
+                openAndGetIteratorOrNullIfInvalid(taskContext, iterable, pipeline);
+            if (iterator != null) {
+                openFiles.add(new OpenFile(iterator, pipeline));
+                closeOpenFilesSubscription();
+            } else {
+                pipelines.push(pipeline);
+            }
+        }
+    }
+
+    /**
+     * Gets the next open file, in round-robin, which can be read without waiting for more bytes.
+     * Files having no more records are closed. If a single file is open, this method waits for
+     * more bytes to be available from it.
+     *
+     * @return the {@link OpenFile} to be read, or {@code null} if no file is ready.
+     */
+    private OpenFile nextReadyFileOrNull() {
+        int attempts = openFiles.size();
+        while (attempts-- > 0 && !openFiles.isEmpty()) {
+            cursor = cursor % openFiles.size();
+            final OpenFile file = openFiles.get(cursor);
+            if (openFiles.size() == 1 || file.iterator.isReady()) {
+                if (file.iterator.hasNext()) {
+                    cursor++;
+                    return file;
+                }
+                // the file is removed, so the cursor already points to the next one.
+                closeFile(file, null);
+            } else {
+                cursor++;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Waits for any of the open files to be modified, as all of them are waiting for more bytes.
+     *
+     * @return  {@code false} if the current thread has been interrupted while waiting.
+     */
+    private boolean awaitOpenFilesModification() {
+        if (openFilesSubscription == null) {
+            final List<Path> paths = openFiles.stream()
+                .map(file -> file.iterator.context().file().toPath())
+                .collect(Collectors.toList());
+            openFilesSubscription = FileModificationWatcher.shared().subscribe(paths);
+        }
+        try {
+            openFilesSubscription.await(MAX_WAIT_FOR_READY_FILE_MS);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void closeOpenFilesSubscription() {
+        if (openFilesSubscription != null) {
+            openFilesSubscription.close();
+            openFilesSubscription = null;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean hasNext() {
-        return !queue.isEmpty();
+        return !queue.isEmpty() || !openFiles.isEmpty();
     }
 
     /**
@@ -203,6 +349,16 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
      */
     @Override
     public void close() {
+        for (OpenFile file : openFiles) {
+            try {
+                file.iterator.close();
+            } catch (Exception ignore) {
+
+            }
+        }
+        openFiles.clear();
+        closeOpenFilesSubscription();
+        currentFile = null;
         FileInputIterable monitor;
         while ((monitor = queue.poll()) != null) {
             try {
@@ -240,36 +396,39 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
      *
      * @param context   the connect source task context
      * @param iterable  the source file iterable
+     * @param pipeline  the filter pipeline to initialize for the iterable.
      * @return a new {@link FileInputIterator} instance or {@code null} if the iterable is invalid.
      */
     private FileInputIterator<FileRecord<TypedStruct>> openAndGetIteratorOrNullIfInvalid(
             final SourceTaskContext context,
-            final FileInputIterable iterable
+            final FileInputIterable iterable,
+            final RecordFilterPipeline<FileRecord<TypedStruct>> pipeline
     ) {
         FileInputIterator<FileRecord<TypedStruct>> newIterator = null;
         final SourceMetadata metadata = iterable.metadata();
+        final FileChunk chunk = iterable.chunk();
         try {
             // Re-check if the file is still valid.
             if (!iterable.isValid()) {
                 LOG.error(
                     "File does not exist or is not readable, skip entry and continue '{}'",
                     metadata.absolutePath());
-                deleteFileQueueAndInvokeListener(new FileContext(metadata), null);
+                invokeListener(iterable.context(SourceOffset.empty()), null);
                 return null;
             }
 
             final SourceOffset committedOffset;
             if (!ignoreCommittedOffsets) {
-                committedOffset = offsetManager.getOffsetFor(context, metadata).orElse(SourceOffset.empty());
+                committedOffset = offsetManager.getOffsetFor(context, metadata, chunk).orElse(SourceOffset.empty());
             } else {
                 committedOffset = SourceOffset.empty();
             }
 
-            if (!ignoreCommittedOffsets && isAlreadyCompleted(committedOffset, metadata)) {
+            if (!ignoreCommittedOffsets && isAlreadyCompleted(committedOffset, metadata, chunk)) {
                 LOG.warn(
                     "Detected source file already completed, skip entry and continue '{}'",
                     metadata.absolutePath());
-                deleteFileQueueAndInvokeListener(new FileContext(metadata, committedOffset), null);
+                invokeListener(iterable.context(committedOffset), null);
             } else {
                 newIterator = iterable.open(committedOffset);
                 pipeline.init(newIterator.context());
@@ -278,39 +437,34 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
                 }
             }
         } catch (final Exception e) {
-            deleteFileQueueAndInvokeListener(new FileContext(metadata), e);
+            invokeListener(iterable.context(SourceOffset.empty()), e);
         }
         return newIterator;
     }
 
-    private FileInputIterator<FileRecord<TypedStruct>> getOrCloseIteratorIfNoMoreRecord(
-            final FileInputIterable iterable) {
-
-        final FileInputIterator<FileRecord<TypedStruct>> currItr = iterable.iterator();
-        // then check if there is still records to consume.
-        if (!currItr.hasNext()) {
-            // close otherwise.
-            closeIterator(currItr, null);
-        } else {
-            return currItr;
+    private void closeFile(final OpenFile file, final Exception cause) {
+        final int index = openFiles.indexOf(file);
+        if (index < 0) {
+            return;
         }
-        return null;
-    }
-
-    private void closeIterator(final FileInputIterator<FileRecord<TypedStruct>> iterator,
-                               final Exception cause) {
+        openFiles.remove(index);
+        closeOpenFilesSubscription();
+        if (index < cursor) {
+            cursor--;
+        }
+        pipelines.push(file.pipeline);
+        final FileInputIterator<FileRecord<TypedStruct>> iterator = file.iterator;
         try {
             iterator.close();
         } catch (final Exception e) {
             LOG.debug("Error while closing file '{}'", iterator.context(), e);
         } finally {
-            deleteFileQueueAndInvokeListener(iterator.context(), cause);
+            invokeListener(iterator.context(), cause);
         }
     }
 
-    private void deleteFileQueueAndInvokeListener(final FileContext taskContext,
-                                                  final Throwable exception) {
-        queue.remove();
+    private void invokeListener(final FileContext taskContext,
+                                final Throwable exception) {
         if (hasListener()) {
             if (exception != null) {
                 listener.onFailure(taskContext, exception);
@@ -323,4 +477,22 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
     private boolean hasListener() {
         return listener != null;
     }
-}
\ No newline at end of file
+
+    /**
+     * An open file being read by this consumer.
+     */
+    private static final class OpenFile {
+
+        private final FileInputIterator<FileRecord<TypedStruct>> iterator;
+        private final RecordFilterPipeline<FileRecord<TypedStruct>> pipeline;
+        private FileRecord latestPollRecord;
+        // The schema of the records of this file, so that they do not change the connect schema on each record.
+        private final WideningSchema schema = new WideningSchema();
+
+        private OpenFile(final FileInputIterator<FileRecord<TypedStruct>> iterator,
+                         final RecordFilterPipeline<FileRecord<TypedStruct>> pipeline) {
+            this.iterator = iterator;
+            this.pipeline = pipeline;
+        }
+    }
+}
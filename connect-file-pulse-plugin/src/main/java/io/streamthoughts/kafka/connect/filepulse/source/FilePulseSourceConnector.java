@@ -103,7 +103,8 @@ public class FilePulseSourceConnector extends SourceConnector {
                 directoryScanner,
                 config.cleanupPolicy(),
                 new SimpleOffsetManager(config.offsetStrategy()),
-                store);
+                store,
+                config.chunkMinBytesSize());
 
         fsMonitorThread = new FileSystemMonitorThread(context, scanner, config.scanInternalMs());
         fsMonitorThread.setUncaughtExceptionHandler((t, e) -> {
@@ -19,7 +19,6 @@ package io.streamthoughts.kafka.connect.filepulse.source;
 import io.streamthoughts.kafka.connect.filepulse.config.TaskConfig;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.filter.DefaultRecordFilterPipeline;
-import io.streamthoughts.kafka.connect.filepulse.filter.RecordFilterPipeline;
 import io.streamthoughts.kafka.connect.filepulse.state.FileStateBackingStore;
 import io.streamthoughts.kafka.connect.filepulse.state.StateBackingStoreRegistry;
 import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
@@ -31,9 +30,9 @@ import org.apache.kafka.connect.source.SourceTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * The FilePulseSourceTask.
@@ -84,13 +83,13 @@ public class FilePulseSourceTask extends SourceTask {
 
     @SuppressWarnings("unchecked")
     private DefaultFileRecordsPollingConsumer newFileRecordsPollingConsumer() {
-        final RecordFilterPipeline filter = new DefaultRecordFilterPipeline(config.filters());
         return new DefaultFileRecordsPollingConsumer(
                 context,
                 config.reader(),
-                filter,
+                () -> new DefaultRecordFilterPipeline(config.filters()),
                 offsetManager,
-                config.isReadCommittedFile());
+                config.isReadCommittedFile(),
+                config.maxOpenFiles());
     }
 
     private StateBackingStore<SourceFile> getStateStatesBackingStore() {
@@ -122,17 +121,17 @@ public class FilePulseSourceTask extends SourceTask {
             return null;
         }
 
-        RecordsIterable<FileRecord<TypedStruct>> records = consumer.next();
-
-        // If no records attempt to wait for incoming records.
-        if (records.isEmpty() && consumer.hasNext()) {
-            Thread.sleep(500);
-            records = consumer.next();
-        }
+        // No need to wait for incoming records when none are returned : the iterator of a single open file waits
+        // for the file to be modified, and the consumer waits for any of the open files to be modified.
+        final RecordsIterable<FileRecord<TypedStruct>> records = consumer.next();
 
         FileContext context = consumer.context();
         if (records != null && !records.isEmpty()) {
-            return records.stream().map(r -> buildSourceRecord(context, r)).collect(Collectors.toList());
+            final List<SourceRecord> results = new ArrayList<>(records.size());
+            for (FileRecord<TypedStruct> record : records) {
+                results.add(buildSourceRecord(context, record));
+            }
+            return results;
         }
         return null;
     }
@@ -143,10 +142,7 @@ public class FilePulseSourceTask extends SourceTask {
     @Override
     public void commit() {
         if (contextToBeCommitted != null) {
-            reporter.notify(
-                contextToBeCommitted.metadata(),
-                contextToBeCommitted.offset(),
-                SourceStatus.READING);
+            reporter.notify(contextToBeCommitted, SourceStatus.READING);
         }
     }
 
@@ -154,7 +150,7 @@ public class FilePulseSourceTask extends SourceTask {
                                            final FileRecord<?> record) {
         final SourceMetadata metadata = context.metadata();
 
-        final Map<String, ?> sourcePartition = offsetManager.toPartitionMap(metadata);
+        final Map<String, ?> sourcePartition = offsetManager.toPartitionMap(metadata, context.chunk());
         final Map<String, ?> sourceOffsets = offsetManager.toOffsetMap(record.offset().toSourceOffset());
 
         return record.toSourceRecord(
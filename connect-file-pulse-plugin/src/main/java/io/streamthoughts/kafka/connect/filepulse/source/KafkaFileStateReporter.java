@@ -19,10 +19,12 @@ package io.streamthoughts.kafka.connect.filepulse.source;
 import io.streamthoughts.kafka.connect.filepulse.internal.Network;
 import io.streamthoughts.kafka.connect.filepulse.offset.OffsetManager;
 import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -32,6 +34,11 @@ public class KafkaFileStateReporter implements StateListener {
 
     private static final Logger LOG = LoggerFactory.getLogger(KafkaFileStateReporter.class);
 
+    /**
+     * The state property used to identify the state of a single file chunk.
+     */
+    public static final String CHUNK_PROPERTY = "chunk";
+
     private final StateBackingStore<SourceFile> store;
 
     private final OffsetManager offsetManager;
@@ -49,23 +56,76 @@ public class KafkaFileStateReporter implements StateListener {
         this.offsetManager = offsetManager;
     }
 
+    /**
+     * Checks whether the specified state has been reported for a single chunk of a file.
+     *
+     * @param state the state to check.
+     * @return      {@code true} if the state is attached to a file chunk.
+     */
+    public static boolean isChunkState(final SourceFile state) {
+        return state.props() != null && state.props().containsKey(CHUNK_PROPERTY);
+    }
+
     /**
      * Notify a state change for the specified source file.
-     * @param metadata  the source file metadata.
-     * @param offset    the source file offset.
+     * @param context   the source file context.
      * @param status    the status.
      */
-    void notify(final SourceMetadata metadata, final SourceOffset offset, final SourceStatus status) {
-        Objects.requireNonNull(metadata, "metadata can't be null");
-        Objects.requireNonNull(offset, "offset can't be null");
+    void notify(final FileContext context, final SourceStatus status) {
+        Objects.requireNonNull(context, "context can't be null");
         Objects.requireNonNull(status, "status can't be null");
+        final String partition = offsetManager.toPartitionJson(context.metadata(), context.chunk());
+        store.putAsync(partition, newState(context, status));
+    }
+
+    private SourceFile newState(final FileContext context, final SourceStatus status) {
+        Objects.requireNonNull(context.metadata(), "metadata can't be null");
+        Objects.requireNonNull(context.offset(), "offset can't be null");
+        final Map<String, Object> props = new HashMap<>();
+        props.put("hostname", Network.HOSTNAME);
+        if (context.chunk() != null) {
+            props.put(CHUNK_PROPERTY, context.chunk().index() + "/" + context.chunk().count());
+        }
+        return new SourceFile(context.metadata(), context.offset(), status, props);
+    }
+
+    /**
+     * Notify the completion of a file chunk. The whole file is only reported as completed (or failed)
+     * once all of its chunks are, whatever the task that processed them.
+     *
+     * The chunk state is written synchronously so that the last task completing a chunk of the file
+     * is guaranteed to observe the states of all the other chunks.
+     *
+     * @param context   the chunk context.
+     * @param status    the completion status.
+     */
+    private void notifyChunkCompletion(final FileContext context, final SourceStatus status) {
+        final SourceMetadata metadata = context.metadata();
+        final FileChunk chunk = context.chunk();
+        store.put(offsetManager.toPartitionJson(metadata, chunk), newState(context, status));
+
+        final StateSnapshot<SourceFile> snapshot = store.snapshot();
+        boolean failed = false;
+        for (FileChunk other : FileChunk.split(metadata.size(), chunk.count())) {
+            final SourceFile state = snapshot.getForKey(offsetManager.toPartitionJson(metadata, other));
+            if (state == null || !state.status().isOneOf(SourceStatus.completed())) {
+                LOG.debug("Completed chunk {} of source file '{}', waiting for chunk {}",
+                    chunk.index(), metadata, other.index());
+                return;
+            }
+            failed |= state.status() == SourceStatus.FAILED;
+        }
+
         final String partition = offsetManager.toPartitionJson(metadata);
-        final SourceFile state = new SourceFile(
-            metadata,
-            offset,
-            status,
-            Collections.singletonMap("hostname", Network.HOSTNAME));
-        store.putAsync(partition, state);
+        final SourceFile current = snapshot.getForKey(partition);
+        if (current == null || !current.status().isOneOf(SourceStatus.completed())) {
+            LOG.debug("Completed all chunks ({}) of source file '{}'", chunk.count(), metadata);
+            final SourceOffset offset = context.offset();
+            final FileContext file = new FileContext(
+                metadata,
+                new SourceOffset(metadata.size(), offset.rows(), offset.timestamp()));
+            store.putAsync(partition, newState(file, failed ? SourceStatus.FAILED : SourceStatus.COMPLETED));
+        }
     }
 
     /**
@@ -75,7 +135,7 @@ public class KafkaFileStateReporter implements StateListener {
     public void onScheduled(final FileContext context) {
         Objects.requireNonNull(context, "context can't be null");
         LOG.debug("Scheduling source file '{}'", context.metadata());
-        notify(context.metadata(), context.offset(), SourceStatus.SCHEDULED);
+        notify(context, SourceStatus.SCHEDULED);
     }
 
     /**
@@ -84,7 +144,7 @@ public class KafkaFileStateReporter implements StateListener {
     @Override
     public void onInvalid(final FileContext context) {
         Objects.requireNonNull(context, "context can't be null");
-        notify(context.metadata(), context.offset(), SourceStatus.INVALID);
+        notify(context, SourceStatus.INVALID);
     }
 
     /**
@@ -94,7 +154,7 @@ public class KafkaFileStateReporter implements StateListener {
     public void onStart(final FileContext context) {
         Objects.requireNonNull(context, "context can't be null");
         LOG.debug("Starting to precess source file '{}'", context.metadata());
-        notify(context.metadata(), context.offset(), SourceStatus.STARTED);
+        notify(context, SourceStatus.STARTED);
     }
 
     /**
@@ -104,7 +164,11 @@ public class KafkaFileStateReporter implements StateListener {
     public void onCompleted(final FileContext context) {
         Objects.requireNonNull(context, "context can't be null");
         LOG.debug("Completed source file '{}'", context.metadata());
-        notify(context.metadata(), context.offset(), SourceStatus.COMPLETED);
+        if (context.chunk() != null) {
+            notifyChunkCompletion(context, SourceStatus.COMPLETED);
+        } else {
+            notify(context, SourceStatus.COMPLETED);
+        }
     }
 
     /**
@@ -114,7 +178,11 @@ public class KafkaFileStateReporter implements StateListener {
     public void onFailure(final FileContext context, final Throwable t) {
         Objects.requireNonNull(context, "context can't be null");
         LOG.error("Error while processing source file '{}'", context.metadata(), t);
-        notify(context.metadata(), context.offset(), SourceStatus.FAILED);
+        if (context.chunk() != null) {
+            notifyChunkCompletion(context, SourceStatus.FAILED);
+        } else {
+            notify(context, SourceStatus.FAILED);
+        }
     }
 
 }
\ No newline at end of file
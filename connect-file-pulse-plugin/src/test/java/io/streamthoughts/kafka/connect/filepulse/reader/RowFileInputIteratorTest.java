@@ -17,10 +17,13 @@
 package io.streamthoughts.kafka.connect.filepulse.reader;
 
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.source.ArchiveEntry;
+import io.streamthoughts.kafka.connect.filepulse.source.FileChunk;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
+import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -28,9 +31,17 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.Assert.*;
 
@@ -76,6 +87,170 @@ public class RowFileInputIteratorTest {
         assertEquals(NLINES, context.offset().rows());
     }
 
+    @Test
+    public void shouldResumeFromCommittedBytesPositionGivenMultiBytesCharacters() throws IOException {
+        final int nlines = 100_000;
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < nlines; i++) {
+                writer.write("ligne-été-" + i + LF);
+            }
+        }
+        final SourceOffset committed = readUntilRow(nlines - 10, new SourceOffset(0, 0, 0L));
+        assertEquals(file.length(), readUntilRow(nlines, committed).position());
+
+        RowFileInputIterator iterator = newIteratorWithCharset(StandardCharsets.UTF_8);
+        iterator.seekTo(committed);
+        FileRecord<TypedStruct> next = iterator.next().iterator().next();
+        assertEquals("ligne-été-" + (nlines - 10), next.value().getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD));
+        assertEquals(committed.position(), next.offset().startPosition());
+        iterator.close();
+    }
+
+    @Test
+    public void shouldReadEachLineOnceGivenFileSplitIntoChunks() throws IOException {
+        final List<String> expected = new ArrayList<>();
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 1000; i++) {
+                final String line = "ligne-été-" + i + new String(new char[i % 17]).replace('\0', 'x');
+                expected.add(line);
+                writer.write(i < 999 ? line + LF : line);
+            }
+        }
+        for (int count : new int[]{1, 3, 7, 1000}) {
+            assertEquals(expected, readAllChunks(count, false));
+            assertEquals(expected, readAllChunks(count, true));
+        }
+    }
+
+    @Test
+    public void shouldSkipHeadersAndFootersLines() throws IOException {
+        Files.write(file.toPath(), "h1\nh2\nline1\nline2\nf1\n".getBytes(StandardCharsets.UTF_8));
+        RowFileInputIterator iterator = RowFileInputIterator.newBuilder()
+                .withContext(new FileContext(SourceMetadata.fromFile(file)))
+                .withCharset(StandardCharsets.UTF_8)
+                .withSkipHeaders(2)
+                .withSkipFooters(1)
+                .withIteratorManager(new IteratorManager())
+                .build();
+        iterator.seekTo(SourceOffset.empty());
+        final List<TypedStruct> records = new ArrayList<>();
+        while (iterator.hasNext()) {
+            iterator.next().forEach(r -> records.add(r.value()));
+        }
+        iterator.close();
+        assertEquals(2, records.size());
+        assertEquals("line1", records.get(0).getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD));
+        assertEquals("line2", records.get(1).getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD));
+        assertEquals(Arrays.asList("h1", "h2"), records.get(0).getArray("headers"));
+        assertEquals(Collections.singletonList("f1"), records.get(1).getArray("footers"));
+    }
+
+    @Test
+    public void shouldReadArchiveEntryWithoutExtractingGivenCommittedOffset() throws IOException {
+        final File archive = new File(testFolder.getRoot(), "archive.zip");
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(archive))) {
+            zos.putNextEntry(new ZipEntry("entry.txt"));
+            zos.write("h1\nline1\nline2\nline3".getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+        }
+        final File entry = new File(new ArchiveEntry(archive.getAbsolutePath(), "entry.txt").path());
+        RowFileInputIterator iterator = RowFileInputIterator.newBuilder()
+                .withContext(new FileContext(SourceMetadata.fromFile(entry)))
+                .withCharset(StandardCharsets.UTF_8)
+                .withSkipHeaders(1)
+                .withMaxWaitMs(60_000)
+                .withIteratorManager(new IteratorManager())
+                .build();
+        iterator.seekTo(new SourceOffset(9, 2, 0L));
+        final List<TypedStruct> records = new ArrayList<>();
+        while (iterator.hasNext()) {
+            iterator.next().forEach(r -> records.add(r.value()));
+        }
+        iterator.close();
+        assertEquals(2, records.size());
+        assertEquals("line2", records.get(0).getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD));
+        assertEquals("line3", records.get(1).getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD));
+        assertEquals(Collections.singletonList("h1"), records.get(0).getArray("headers"));
+        assertEquals(20, iterator.context().offset().position());
+        assertEquals(4, iterator.context().offset().rows());
+    }
+
+    @Test
+    public void shouldLimitBatchesGivenMaxRecordsAndMaxBytes() {
+        // Each generated line is 10 bytes long, line terminator excluded.
+        assertTrue(readBatchSizes(3, -1).stream().allMatch(size -> size <= 3));
+        assertTrue(readBatchSizes(-1, 25).stream().allMatch(size -> size <= 2));
+        assertEquals(Collections.nCopies(NLINES, 1), readBatchSizes(5, 1));
+    }
+
+    private List<Integer> readBatchSizes(final int maxRecords, final long maxBytes) {
+        RowFileInputIterator iterator = RowFileInputIterator.newBuilder()
+                .withContext(new FileContext(SourceMetadata.fromFile(file)))
+                .withMaxBatchRecords(maxRecords)
+                .withMaxBatchBytes(maxBytes)
+                .withIteratorManager(new IteratorManager())
+                .build();
+        iterator.seekTo(SourceOffset.empty());
+        final List<Integer> sizes = new ArrayList<>();
+        long rows = 0;
+        while (iterator.hasNext()) {
+            final RecordsIterable<FileRecord<TypedStruct>> next = iterator.next();
+            if (!next.isEmpty()) {
+                sizes.add(next.size());
+                rows += next.size();
+                assertEquals(next.last().offset().endPosition(), iterator.context().offset().position());
+            }
+        }
+        iterator.close();
+        assertEquals(NLINES, rows);
+        return sizes;
+    }
+
+    private List<String> readAllChunks(final int count, final boolean memoryMapped) {
+        final SourceMetadata metadata = SourceMetadata.fromFile(file);
+        final List<String> lines = new ArrayList<>();
+        for (FileChunk chunk : FileChunk.split(metadata.size(), count)) {
+            RowFileInputIterator iterator = RowFileInputIterator.newBuilder()
+                    .withContext(new FileContext(metadata, SourceOffset.empty(), chunk))
+                    .withCharset(StandardCharsets.UTF_8)
+                    .withMemoryMapping(memoryMapped)
+                    .withIteratorManager(new IteratorManager())
+                    .build();
+            iterator.seekTo(SourceOffset.empty());
+            while (iterator.hasNext()) {
+                for (FileRecord<TypedStruct> record : iterator.next()) {
+                    lines.add(record.value().getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD));
+                }
+            }
+            assertTrue(iterator.context().offset().position() >= chunk.endPosition());
+            iterator.close();
+        }
+        return lines;
+    }
+
+    private SourceOffset readUntilRow(final long rows, final SourceOffset from) {
+        RowFileInputIterator iterator = newIteratorWithCharset(StandardCharsets.UTF_8);
+        iterator.seekTo(from);
+        FileRecord<TypedStruct> last = null;
+        while (iterator.hasNext() && (last == null || last.offset().rows() < rows)) {
+            for (FileRecord<TypedStruct> record : iterator.next()) {
+                if (record.offset().rows() <= rows) {
+                    last = record;
+                }
+            }
+        }
+        iterator.close();
+        return last.offset().toSourceOffset();
+    }
+
+    private RowFileInputIterator newIteratorWithCharset(final Charset charset) {
+        return RowFileInputIterator.newBuilder()
+                .withContext(new FileContext(SourceMetadata.fromFile(file)))
+                .withCharset(charset)
+                .withIteratorManager(new IteratorManager())
+                .build();
+    }
+
     private void generateLines(final BufferedWriter writer) throws IOException {
 
         for (int i = 0; i < NLINES; i++) {
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class FileModificationWatcherTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private File file;
+
+    private FileModificationWatcher watcher;
+
+    @Before
+    public void setUp() throws IOException {
+        file = testFolder.newFile();
+        watcher = new FileModificationWatcher(FileSystems.getDefault());
+    }
+
+    @Test
+    public void shouldWakeUpGivenFileModifiedWhileWaiting() throws Exception {
+        try (FileModificationWatcher.Subscription subscription = watcher.subscribe(file.toPath())) {
+            final Thread writer = new Thread(() -> {
+                try {
+                    Thread.sleep(200);
+                    Files.write(file.toPath(), "line\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            writer.start();
+            final long deadline = System.currentTimeMillis() + 10_000;
+            boolean modified = false;
+            while (!modified && System.currentTimeMillis() < deadline) {
+                modified = subscription.await(deadline - System.currentTimeMillis());
+            }
+            writer.join();
+            assertTrue(modified);
+        }
+    }
+
+    @Test
+    public void shouldWakeUpGivenAnyOfSubscribedFilesModified() throws Exception {
+        final File other = testFolder.newFile();
+        try (FileModificationWatcher.Subscription subscription =
+                 watcher.subscribe(Arrays.asList(file.toPath(), other.toPath()))) {
+            Files.write(other.toPath(), "line\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            final long deadline = System.currentTimeMillis() + 10_000;
+            boolean modified = false;
+            while (!modified && System.currentTimeMillis() < deadline) {
+                modified = subscription.await(deadline - System.currentTimeMillis());
+            }
+            assertTrue(modified);
+        }
+    }
+
+    @Test
+    public void shouldNotWakeUpGivenAnotherFileModified() throws Exception {
+        final File other = testFolder.newFile();
+        try (FileModificationWatcher.Subscription subscription = watcher.subscribe(file.toPath())) {
+            Files.write(other.toPath(), "line\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            assertFalse(subscription.await(300));
+        }
+    }
+
+    @Test
+    public void shouldReturnWithinTimeoutGivenNoModification() throws Exception {
+        try (FileModificationWatcher.Subscription subscription = watcher.subscribe(file.toPath())) {
+            final long start = System.currentTimeMillis();
+            assertFalse(subscription.await(50));
+            assertTrue(System.currentTimeMillis() - start < 1000);
+        }
+    }
+}
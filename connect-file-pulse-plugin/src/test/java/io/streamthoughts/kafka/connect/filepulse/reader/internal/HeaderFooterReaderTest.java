@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class HeaderFooterReaderTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadHeadersAndFootersGivenMixedLineTerminators() throws IOException {
+        final File file = newFile("h1\r\nh2\rline1\nline2\n\nf1\r\nf2\n\n", StandardCharsets.UTF_8);
+        for (int capacity : new int[]{4, 16, HeaderFooterReader.DEFAULT_INITIAL_CAPACITY}) {
+            try (HeaderFooterReader reader = new HeaderFooterReader(file, capacity, StandardCharsets.UTF_8)) {
+                final List<TextBlock> headers = reader.readHeaders(2);
+                assertEquals(Arrays.asList("h1", "h2"), data(headers));
+                assertEquals(7L, headers.get(1).endOffset());
+
+                final List<TextBlock> footers = reader.readFooters(2);
+                assertEquals(Arrays.asList("f1", "f2"), data(footers));
+                assertEquals(20L, footers.get(0).startOffset());
+            }
+        }
+    }
+
+    @Test
+    public void shouldReadLastLineGivenNoTrailingTerminator() throws IOException {
+        final File file = newFile("line-été-1\nline-été-2", StandardCharsets.UTF_8);
+        try (HeaderFooterReader reader = new HeaderFooterReader(file, 4, StandardCharsets.UTF_8)) {
+            assertEquals(Arrays.asList("line-été-1", "line-été-2"), data(reader.readHeaders(5)));
+            final List<TextBlock> footers = reader.readFooters(1);
+            assertEquals(Arrays.asList("line-été-2"), data(footers));
+            assertEquals(file.length() - footers.get(0).size(), footers.get(0).startOffset());
+        }
+    }
+
+    @Test
+    public void shouldReadHeadersAndFootersGivenMultiBytesTerminators() throws IOException {
+        final File file = newFile("h1\r\nline\nf1\nf2\n", StandardCharsets.UTF_16BE);
+        try (HeaderFooterReader reader = new HeaderFooterReader(file, 6, StandardCharsets.UTF_16BE)) {
+            assertEquals(Arrays.asList("h1"), data(reader.readHeaders(1)));
+            final List<TextBlock> footers = reader.readFooters(2);
+            assertEquals(Arrays.asList("f1", "f2"), data(footers));
+            assertEquals(18L, footers.get(0).startOffset());
+        }
+    }
+
+    @Test
+    public void shouldReturnAvailableLinesGivenFileShorterThanExpected() throws IOException {
+        final File file = newFile("line1\n", StandardCharsets.UTF_8);
+        try (HeaderFooterReader reader = new HeaderFooterReader(file, StandardCharsets.UTF_8)) {
+            assertEquals(Arrays.asList("line1"), data(reader.readHeaders(3)));
+            assertEquals(Arrays.asList("line1"), data(reader.readFooters(3)));
+        }
+    }
+
+    private File newFile(final String content, final Charset charset) throws IOException {
+        final File file = testFolder.newFile();
+        Files.write(file.toPath(), content.getBytes(charset));
+        return file;
+    }
+
+    private static List<String> data(final List<TextBlock> lines) {
+        return lines.stream().map(TextBlock::data).collect(Collectors.toList());
+    }
+}
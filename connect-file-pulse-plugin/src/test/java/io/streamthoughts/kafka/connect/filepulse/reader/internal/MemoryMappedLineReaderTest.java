@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MemoryMappedLineReaderTest {
+
+    private static final String LF = "\n";
+    private static final String CR = "\r";
+
+    private static final int NLINES = 10;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = testFolder.newFile();
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenHigherWindowSizeThanFileSize() throws Exception {
+        List<TextBlock> expected = generateLines(NLINES, LF, true, StandardCharsets.UTF_8);
+        readAllAndAssert(expected, new MemoryMappedLineReader(file, 1024, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenHigherWindowSizeThanFileSizeAndCRLF() throws Exception {
+        List<TextBlock> expected = generateLines(NLINES, CR + LF, true, StandardCharsets.UTF_8);
+        readAllAndAssert(expected, new MemoryMappedLineReader(file, 1024, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenSmallerWindowSizeThanLineSize() throws Exception {
+        List<TextBlock> expected = generateLines(NLINES, LF, true, StandardCharsets.UTF_8);
+        readAllAndAssert(expected, new MemoryMappedLineReader(file, 4, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenSmallerWindowSizeThanLineSizeAndCRLF() throws Exception {
+        List<TextBlock> expected = generateLines(NLINES, CR + LF, true, StandardCharsets.UTF_8);
+        readAllAndAssert(expected, new MemoryMappedLineReader(file, 4, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenFileNotEndingWithNewLine() throws Exception {
+        List<TextBlock> expected = generateLines(NLINES, CR + LF, false, StandardCharsets.UTF_8);
+        readAllAndAssert(expected, new MemoryMappedLineReader(file, 16, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenCharsetWithMultiBytesLineTerminator() throws Exception {
+        List<TextBlock> expected = generateLines(NLINES, CR + LF, true, StandardCharsets.UTF_16LE);
+        readAllAndAssert(expected, new MemoryMappedLineReader(file, 8, StandardCharsets.UTF_16LE));
+    }
+
+    @Test
+    public void shouldReadRemainingLinesAfterSeekingToLineStartPosition() throws Exception {
+        List<TextBlock> expected = generateLines(NLINES, LF, true, StandardCharsets.UTF_8);
+        MemoryMappedLineReader reader = new MemoryMappedLineReader(file, 16, StandardCharsets.UTF_8);
+        reader.seekTo(expected.get(5).startOffset());
+        readAllAndAssert(expected.subList(5, NLINES), reader);
+    }
+
+    @Test
+    public void shouldSeekToNextLineGivenPositionNotAtBeginningOfLine() throws Exception {
+        List<TextBlock> expected = generateLines(NLINES, CR + LF, true, StandardCharsets.UTF_8);
+        MemoryMappedLineReader reader = new MemoryMappedLineReader(file, 16, StandardCharsets.UTF_8);
+        reader.seekTo(expected.get(5).startOffset() - 1);
+        readAllAndAssert(expected.subList(5, NLINES), reader);
+    }
+
+    private void readAllAndAssert(final List<TextBlock> expected,
+                                  final MemoryMappedLineReader reader) throws Exception {
+        List<TextBlock> results = new ArrayList<>();
+        while (reader.hasNext()) {
+            results.addAll(reader.readLines(1));
+        }
+        Assert.assertEquals(expected, results);
+        Assert.assertEquals(file.length(), reader.position());
+        Assert.assertFalse(reader.remaining());
+        reader.close();
+    }
+
+    private List<TextBlock> generateLines(final int limit,
+                                          final String newLine,
+                                          final boolean endWithNewLine,
+                                          final Charset charset) throws IOException {
+        long offset = 0;
+        List<TextBlock> generated = new ArrayList<>(limit);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < limit; i++) {
+            String line = "été-0000-" + i;
+            String terminated = (i + 1 < limit || endWithNewLine) ? line + newLine : line;
+            int size = line.getBytes(charset).length;
+            int length = terminated.getBytes(charset).length;
+            generated.add(new TextBlock(line, charset, offset, offset + length, size));
+            content.append(terminated);
+            offset += length;
+        }
+        Files.write(file.toPath(), content.toString().getBytes(charset));
+        return generated;
+    }
+}
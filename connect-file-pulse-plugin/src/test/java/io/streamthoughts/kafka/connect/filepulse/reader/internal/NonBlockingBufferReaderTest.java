@@ -54,14 +54,14 @@ public class NonBlockingBufferReaderTest {
     @Test
     public void shouldReadAllLinesGivenHigherInitialCapacityThanFileSize() throws Exception {
         final List<TextBlock> expected = generateLines(writer, NLINES, LF);
-        NonBlockingBufferReader reader = createReaderWithCapacity(file, ReversedInputFileReader.DEFAULT_INITIAL_CAPACITY);
+        NonBlockingBufferReader reader = createReaderWithCapacity(file, NonBlockingBufferReader.DEFAULT_INITIAL_CAPACITY);
         readAllAndAssert(expected, reader);
     }
 
     @Test
     public void shouldReadAllLinesGivenHigherInitialCapacityThanFileSizeAndCRLF() throws Exception {
         List<TextBlock> expected = generateLines(writer, NLINES, CR + LF);
-        NonBlockingBufferReader reader = createReaderWithCapacity(file, ReversedInputFileReader.DEFAULT_INITIAL_CAPACITY);
+        NonBlockingBufferReader reader = createReaderWithCapacity(file, NonBlockingBufferReader.DEFAULT_INITIAL_CAPACITY);
         readAllAndAssert(expected, reader);
     }
 
@@ -100,6 +100,43 @@ public class NonBlockingBufferReaderTest {
         readAllAndAssert(expected, reader);
     }
 
+    @Test
+    public void shouldReadAllLinesGivenFileEndingWithCR() throws Exception {
+        List<TextBlock> expected = generateLines(writer, NLINES, CR);
+        NonBlockingBufferReader reader = createReaderWithCapacity(file, 1024);
+        readAllAndAssert(expected, reader);
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenMultiBytesCharactersAndReturnBytesOffsets() throws Exception {
+        List<TextBlock> expected = generateLines(file, NLINES, "été-", LF, StandardCharsets.UTF_8);
+        NonBlockingBufferReader reader = new NonBlockingBufferReader(file, 4, StandardCharsets.UTF_8);
+        readAllAndAssert(expected, reader);
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenCharsetWithMultiBytesLineTerminator() throws Exception {
+        List<TextBlock> expected = generateLines(file, NLINES, "été-", CR + LF, StandardCharsets.UTF_16LE);
+        NonBlockingBufferReader reader = new NonBlockingBufferReader(file, 4, StandardCharsets.UTF_16LE);
+        readAllAndAssert(expected, reader);
+    }
+
+    @Test
+    public void shouldReadRemainingLinesAfterSeekingToBytesPositionGivenMultiBytesCharacters() throws Exception {
+        List<TextBlock> expected = generateLines(file, NLINES, "été-", LF, StandardCharsets.UTF_8);
+        NonBlockingBufferReader reader = new NonBlockingBufferReader(file, 16, StandardCharsets.UTF_8);
+        reader.seekTo(expected.get(5).startOffset());
+        readAllAndAssert(expected.subList(5, NLINES), reader);
+    }
+
+    @Test
+    public void shouldSeekToNextLineGivenPositionNotAtBeginningOfLine() throws Exception {
+        List<TextBlock> expected = generateLines(file, NLINES, "été-", CR + LF, StandardCharsets.UTF_8);
+        NonBlockingBufferReader reader = new NonBlockingBufferReader(file, 16, StandardCharsets.UTF_8);
+        reader.seekTo(expected.get(5).startOffset() - 3);
+        readAllAndAssert(expected.subList(5, NLINES), reader);
+    }
+
     private static NonBlockingBufferReader createReaderWithCapacity(final File file,
                                                                     final int defaultInitialCapacity) {
         return new NonBlockingBufferReader(
@@ -128,6 +165,26 @@ public class NonBlockingBufferReaderTest {
         }
     }
 
+    private List<TextBlock> generateLines(final File file,
+                                          final int limit,
+                                          final String prefix,
+                                          final String newLine,
+                                          final Charset charset) throws IOException {
+        long offset = 0;
+        List<TextBlock> generated = new ArrayList<>(limit);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < limit; i++) {
+            String line = prefix + i;
+            int size = line.getBytes(charset).length;
+            int length = (line + newLine).getBytes(charset).length;
+            generated.add(new TextBlock(line, charset, offset, offset + length, size));
+            content.append(line).append(newLine);
+            offset += length;
+        }
+        Files.write(file.toPath(), content.toString().getBytes(charset));
+        return generated;
+    }
+
     private List<TextBlock> generateLines(final BufferedWriter writer,
                                           final int limit,
                                           final String newLine) throws IOException {
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PrefetchingLineReaderTest {
+
+    private static final int NLINES = 10_000;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = testFolder.newFile();
+    }
+
+    @Test
+    public void shouldReadAllLinesInOrderGivenBoundedBuffer() throws Exception {
+        final List<String> expected = writeLines(0, NLINES);
+        try (PrefetchingLineReader reader = newReader(4, 1024)) {
+            final List<String> lines = readUntil(reader, NLINES);
+            assertEquals(expected, lines);
+            assertEquals(file.length(), reader.position());
+            assertTrue(reader.maxObservedDepth() <= 4);
+            assertTrue(reader.bufferedBytes() >= 0);
+        }
+    }
+
+    @Test
+    public void shouldReadAppendedLinesGivenTailedFile() throws Exception {
+        final List<String> expected = writeLines(0, 10);
+        try (PrefetchingLineReader reader = newReader(2, 1024)) {
+            final List<String> lines = readUntil(reader, 10);
+            expected.addAll(writeLines(10, 10));
+            lines.addAll(readUntil(reader, 10));
+            assertEquals(expected, lines);
+            assertEquals(file.length(), reader.position());
+        }
+    }
+
+    @Test
+    public void shouldFlushRemainingBytesGivenAutoFlushEnabledOnceStarted() throws Exception {
+        Files.write(file.toPath(), "line-0\nline-1".getBytes(StandardCharsets.UTF_8));
+        try (PrefetchingLineReader reader = newReader(2, 1024)) {
+            reader.disableAutoFlush();
+            assertEquals("line-0", readUntil(reader, 1).get(0));
+            while (!reader.remaining()) {
+                Thread.sleep(10);
+            }
+            reader.enableAutoFlush();
+            assertEquals("line-1", readUntil(reader, 1).get(0));
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void shouldStartFromSeekedPosition() throws Exception {
+        writeLines(0, 10);
+        try (PrefetchingLineReader reader = newReader(2, 1024)) {
+            reader.seekToLineStart(1);
+            assertEquals("line-1", readUntil(reader, 1).get(0));
+        }
+    }
+
+    private PrefetchingLineReader newReader(final int maxBatches, final long maxBytes) {
+        return new PrefetchingLineReader(
+            new NonBlockingBufferReader(file, 64, StandardCharsets.UTF_8), maxBatches, maxBytes, 10);
+    }
+
+    private List<String> readUntil(final LineReader reader, final int nlines) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        final long timeout = System.currentTimeMillis() + 10_000;
+        while (lines.size() < nlines && System.currentTimeMillis() < timeout) {
+            for (TextBlock block : reader.readLines(1)) {
+                lines.add(block.data());
+            }
+        }
+        return lines;
+    }
+
+    private List<String> writeLines(final int from, final int nlines) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        final StringBuilder sb = new StringBuilder();
+        for (int i = from; i < from + nlines; i++) {
+            lines.add("line-" + i);
+            sb.append("line-").append(i).append("\n");
+        }
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        return lines;
+    }
+}
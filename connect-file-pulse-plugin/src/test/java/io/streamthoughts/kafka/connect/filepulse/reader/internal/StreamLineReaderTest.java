@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class StreamLineReaderTest {
+
+    private static final int NLINES = 100;
+
+    @Test
+    public void shouldReadAllLinesGivenGZipStreamAndSmallCapacity() throws IOException {
+        final List<String> expected = new ArrayList<>();
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < NLINES; i++) {
+            final String line = "ligne-été-" + i;
+            expected.add(line);
+            sb.append(line).append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        final byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        try (StreamLineReader reader = new StreamLineReader(gzip(bytes), 8, StandardCharsets.UTF_8)) {
+            final List<TextBlock> blocks = readAll(reader);
+            Assert.assertEquals(NLINES, blocks.size());
+            for (int i = 0; i < NLINES; i++) {
+                Assert.assertEquals(expected.get(i), blocks.get(i).data());
+            }
+            Assert.assertEquals(bytes.length, reader.position());
+            Assert.assertEquals(bytes.length, blocks.get(NLINES - 1).endOffset());
+        }
+    }
+
+    @Test
+    public void shouldFlushLastLineGivenNoTrailingLineTerminator() throws IOException {
+        final byte[] bytes = "line1\nline2".getBytes(StandardCharsets.UTF_8);
+        try (StreamLineReader reader = new StreamLineReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            final List<TextBlock> blocks = readAll(reader);
+            Assert.assertEquals(2, blocks.size());
+            Assert.assertEquals("line2", blocks.get(1).data());
+            Assert.assertEquals(6, blocks.get(1).startOffset());
+        }
+    }
+
+    @Test
+    public void shouldResumeFromPositionGivenCommittedOffset() throws IOException {
+        final byte[] bytes = "line1\nline2\nline3\n".getBytes(StandardCharsets.UTF_8);
+        try (StreamLineReader reader = new StreamLineReader(gzip(bytes), StandardCharsets.UTF_8)) {
+            reader.seekTo(6L);
+            final List<TextBlock> blocks = readAll(reader);
+            Assert.assertEquals(2, blocks.size());
+            Assert.assertEquals("line2", blocks.get(0).data());
+            Assert.assertEquals(6, blocks.get(0).startOffset());
+            Assert.assertEquals(bytes.length, reader.position());
+        }
+    }
+
+    private static List<TextBlock> readAll(final StreamLineReader reader) throws IOException {
+        final List<TextBlock> blocks = new ArrayList<>();
+        while (reader.hasNext()) {
+            blocks.addAll(reader.readLines(1));
+        }
+        return blocks;
+    }
+
+    private static InputStream gzip(final byte[] bytes) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -48,7 +48,9 @@ public class InMemoryStateBackingStore<V> implements StateBackingStore<V> {
 
     @Override
     public StateSnapshot<V> snapshot() {
-        return state;
+        final Map<String, V> snapshot = new HashMap<>(state.states());
+        snapshot.putAll(states);
+        return new StateSnapshot<>(state.offset(), snapshot);
     }
 
     @Override
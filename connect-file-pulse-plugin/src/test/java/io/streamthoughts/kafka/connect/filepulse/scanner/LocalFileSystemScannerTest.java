@@ -18,6 +18,7 @@ package io.streamthoughts.kafka.connect.filepulse.scanner;
 
 import io.streamthoughts.kafka.connect.filepulse.offset.OffsetStrategy;
 import io.streamthoughts.kafka.connect.filepulse.offset.SimpleOffsetManager;
+import io.streamthoughts.kafka.connect.filepulse.source.FileChunk;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceFile;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceStatus;
 import io.streamthoughts.kafka.connect.filepulse.storage.StateSnapshot;
@@ -34,6 +35,9 @@ import org.junit.rules.TestRule;
 import org.mockito.Mockito;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -207,6 +211,42 @@ public class LocalFileSystemScannerTest {
         assertEquals(INPUT_FILES.metadataFor(1).absolutePath(), cleaner.getFailed().get(0).getAbsolutePath());
     }
 
+    @Test
+    public void shouldSplitLargeFilesIntoChunksGivenChunkMinBytesSize() throws IOException {
+        final StateSnapshot<SourceFile> state = new StateSnapshot<>(0, Collections.emptyMap());
+        final InMemoryStateBackingStore<SourceFile> store = new InMemoryStateBackingStore<>(state);
+
+        final List<File> sources = INPUT_FILES.getInputPathsFor(0, 1);
+        Files.write(sources.get(0).toPath(), new byte[100]);
+        Files.write(sources.get(1).toPath(), new byte[15]);
+
+        final LocalFileSystemScanner scanner = new LocalFileSystemScanner(
+                INPUT_FILES.inputDirectory().getAbsolutePath(),
+                new MockTimesDirectoryScanner(sources),
+                new MockFileCleaner(true),
+                OFFSET_MANAGER,
+                store,
+                30L
+        );
+        scanner.scan(new MockConnectorContext());
+
+        final List<String> entries = scanner.partitionFilesAndGet(4)
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        assertEquals(4, entries.size());
+        assertTrue(entries.contains(sources.get(1).getAbsolutePath()));
+
+        final List<FileChunk> chunks = entries.stream()
+                .filter(FileChunk::isEncoded)
+                .map(FileChunk::decode)
+                .peek(kv -> assertEquals(sources.get(0).getAbsolutePath(), kv.key))
+                .map(kv -> kv.value)
+                .sorted((c1, c2) -> Integer.compare(c1.index(), c2.index()))
+                .collect(Collectors.toList());
+        assertEquals(FileChunk.split(100, 3), chunks);
+    }
+
     private LocalFileSystemScanner newFsMonitorThread(final MockFileCleaner cleaner,
                                                       final FSDirectoryWalker scanner,
                                                       final StateBackingStore<SourceFile> store) {
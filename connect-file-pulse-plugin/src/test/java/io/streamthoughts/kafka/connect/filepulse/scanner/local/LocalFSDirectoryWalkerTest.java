@@ -16,6 +16,7 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.scanner.local;
 
+import io.streamthoughts.kafka.connect.filepulse.source.ArchiveEntry;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -68,4 +69,14 @@ public class LocalFSDirectoryWalkerTest {
         String expected = String.join(File.separator, Arrays.asList(inputDirectory.getCanonicalPath(), DEFAULT_ARCHIVE_NAME, DEFAULT_ENTRY_FILE_NAME));
         Assert.assertEquals(expected, scanned.iterator().next().getCanonicalPath());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldListArchiveEntriesWithoutExtractingGivenStreamArchivesConfig() {
+        scanner.configure(Collections.singletonMap("fs.scan.stream.archives", "true"));
+        final Collection<File> scanned = scanner.listFiles(inputDirectory);
+        Assert.assertEquals(1, scanned.size());
+        final ArchiveEntry expected = new ArchiveEntry(archiveFile.getAbsolutePath(), DEFAULT_ENTRY_FILE_NAME);
+        Assert.assertEquals(expected, ArchiveEntry.fromPath(scanned.iterator().next().getPath()));
+        Assert.assertFalse(new File(inputDirectory, DEFAULT_ARCHIVE_NAME).exists());
+    }
+}
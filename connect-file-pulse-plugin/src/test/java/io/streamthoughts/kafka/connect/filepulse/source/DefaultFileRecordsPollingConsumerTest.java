@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.filter.FilterContext;
+import io.streamthoughts.kafka.connect.filepulse.filter.RecordFilterPipeline;
+import io.streamthoughts.kafka.connect.filepulse.offset.OffsetStrategy;
+import io.streamthoughts.kafka.connect.filepulse.offset.SimpleOffsetManager;
+import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import io.streamthoughts.kafka.connect.filepulse.reader.RowFileInputReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class DefaultFileRecordsPollingConsumerTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private RowFileInputReader reader;
+
+    private final List<String> completed = new ArrayList<>();
+
+    private int numPipelines = 0;
+
+    @Before
+    public void setUp() {
+        reader = new RowFileInputReader();
+        reader.configure(Collections.singletonMap("read.max.wait.ms", "60000"));
+    }
+
+    @After
+    public void tearDown() {
+        reader.close();
+    }
+
+    @Test
+    public void shouldNotStarveOtherFilesGivenOneFileWaitingForMoreBytes() throws IOException {
+        final File tailed = newFile("tailed", "a1\na2\n");
+        final File other = newFile("other", "b1\nb2\n");
+
+        final DefaultFileRecordsPollingConsumer consumer = newConsumer(2);
+        consumer.addAll(Arrays.asList(tailed.getAbsolutePath(), other.getAbsolutePath()));
+
+        assertEquals(Arrays.asList("a1", "a2"), messages(consumer.next()));
+        assertEquals(tailed.getName(), consumer.context().metadata().name());
+
+        // the tailed file is waiting for more bytes, so the other one must be read without waiting.
+        final long start = System.currentTimeMillis();
+        assertEquals(Arrays.asList("b1", "b2"), messages(consumer.next()));
+        assertEquals(other.getName(), consumer.context().metadata().name());
+        assertTrue(System.currentTimeMillis() - start < 10_000);
+        assertTrue(consumer.next().isEmpty());
+
+        Files.write(tailed.toPath(), "a3\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertEquals(Collections.singletonList("a3"), messages(consumer.next()));
+        assertEquals(2, numPipelines);
+        assertTrue(completed.isEmpty());
+        consumer.close();
+    }
+
+    @Test
+    public void shouldReadFilesSequentiallyGivenSingleOpenFile() throws IOException {
+        reader.configure(Collections.emptyMap());
+        final File first = newFile("first", "a1\n");
+        final File second = newFile("second", "b1\n");
+
+        final DefaultFileRecordsPollingConsumer consumer = newConsumer(1);
+        consumer.addAll(Arrays.asList(first.getAbsolutePath(), second.getAbsolutePath()));
+
+        assertEquals(Collections.singletonList("a1"), messages(consumer.next()));
+        assertEquals(Collections.singletonList("b1"), messages(consumer.next()));
+        assertTrue(consumer.next().isEmpty());
+        assertFalse(consumer.hasNext());
+        assertEquals(Arrays.asList(first.getName(), second.getName()), completed);
+        assertEquals(1, numPipelines);
+        consumer.close();
+    }
+
+    private File newFile(final String name, final String content) throws IOException {
+        final File file = testFolder.newFile(name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private DefaultFileRecordsPollingConsumer newConsumer(final int maxOpenFiles) {
+        final DefaultFileRecordsPollingConsumer consumer = new DefaultFileRecordsPollingConsumer(
+            null,
+            reader,
+            () -> {
+                numPipelines++;
+                return new PassThroughPipeline();
+            },
+            new SimpleOffsetManager(OffsetStrategy.FILENAME),
+            true,
+            maxOpenFiles);
+        consumer.setFileListener(new StateListener() {
+            @Override
+            public void onScheduled(final FileContext context) { }
+
+            @Override
+            public void onInvalid(final FileContext context) { }
+
+            @Override
+            public void onStart(final FileContext context) { }
+
+            @Override
+            public void onCompleted(final FileContext context) {
+                completed.add(context.metadata().name());
+            }
+
+            @Override
+            public void onFailure(final FileContext context, final Throwable t) {
+                fail(t.getMessage());
+            }
+        });
+        return consumer;
+    }
+
+    private static List<String> messages(final RecordsIterable<FileRecord<TypedStruct>> records) {
+        final List<String> messages = new ArrayList<>();
+        records.forEach(r -> messages.add(r.value().getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD)));
+        return messages;
+    }
+
+    private static class PassThroughPipeline implements RecordFilterPipeline<FileRecord<TypedStruct>> {
+
+        @Override
+        public void init(final FileContext context) { }
+
+        @Override
+        public RecordsIterable<FileRecord<TypedStruct>> apply(final RecordsIterable<FileRecord<TypedStruct>> records,
+                                                              final boolean hasNext) {
+            return records;
+        }
+
+        @Override
+        public List<FileRecord<TypedStruct>> apply(final FilterContext context,
+                                                   final TypedStruct record,
+                                                   final boolean hasNext) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
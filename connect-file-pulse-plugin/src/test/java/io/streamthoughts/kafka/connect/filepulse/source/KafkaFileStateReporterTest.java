@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import io.streamthoughts.kafka.connect.filepulse.offset.OffsetStrategy;
+import io.streamthoughts.kafka.connect.filepulse.offset.SimpleOffsetManager;
+import io.streamthoughts.kafka.connect.filepulse.scanner.InMemoryStateBackingStore;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateSnapshot;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class KafkaFileStateReporterTest {
+
+    private static final SimpleOffsetManager OFFSET_MANAGER = new SimpleOffsetManager(OffsetStrategy.FILENAME);
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private SourceMetadata metadata;
+
+    private InMemoryStateBackingStore<SourceFile> store;
+
+    private KafkaFileStateReporter reporter;
+
+    @Before
+    public void setUp() throws IOException {
+        File file = testFolder.newFile();
+        Files.write(file.toPath(), "line1\nline2\nline3\nline4\n".getBytes(StandardCharsets.UTF_8));
+        metadata = SourceMetadata.fromFile(file);
+        store = new InMemoryStateBackingStore<>(new StateSnapshot<>(0, Collections.emptyMap()));
+        reporter = new KafkaFileStateReporter(store, OFFSET_MANAGER);
+    }
+
+    @Test
+    public void shouldReportFileCompletedOnlyWhenAllChunksAreCompleted() {
+        final List<FileChunk> chunks = FileChunk.split(metadata.size(), 3);
+        final String partition = OFFSET_MANAGER.toPartitionJson(metadata);
+
+        reporter.onCompleted(contextFor(chunks.get(2)));
+        reporter.onCompleted(contextFor(chunks.get(0)));
+        assertFalse(store.snapshot().contains(partition));
+
+        final SourceFile chunk = store.snapshot().getForKey(OFFSET_MANAGER.toPartitionJson(metadata, chunks.get(0)));
+        assertEquals(SourceStatus.COMPLETED, chunk.status());
+        assertTrue(KafkaFileStateReporter.isChunkState(chunk));
+
+        reporter.onCompleted(contextFor(chunks.get(1)));
+        final SourceFile file = store.snapshot().getForKey(partition);
+        assertEquals(SourceStatus.COMPLETED, file.status());
+        assertEquals(metadata.size(), file.offset().position());
+        assertFalse(KafkaFileStateReporter.isChunkState(file));
+    }
+
+    @Test
+    public void shouldReportFileFailedWhenOneChunkFailed() {
+        final List<FileChunk> chunks = FileChunk.split(metadata.size(), 2);
+
+        reporter.onFailure(contextFor(chunks.get(0)), new Exception());
+        reporter.onCompleted(contextFor(chunks.get(1)));
+
+        final SourceFile file = store.snapshot().getForKey(OFFSET_MANAGER.toPartitionJson(metadata));
+        assertEquals(SourceStatus.FAILED, file.status());
+    }
+
+    private FileContext contextFor(final FileChunk chunk) {
+        return new FileContext(metadata, new SourceOffset(chunk.endPosition(), 1, 0L), chunk);
+    }
+}